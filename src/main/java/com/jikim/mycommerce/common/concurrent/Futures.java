@@ -0,0 +1,41 @@
+package com.jikim.mycommerce.common.concurrent;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Futures
+ *
+ * 다른 스레드가 완료하는 CompletableFuture 대기 (결합 차감, 그룹 커밋, 캐시 로딩)
+ * 완료한 스레드가 던진 예외를 호출 스레드에서 그대로 다시 던짐
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+public final class Futures {
+
+    private Futures() {
+    }
+
+    /**
+     * 완료될 때까지 기다린 뒤 결과를 반환한다
+     * 원인이 RuntimeException, Error면 그대로, 검사 예외면 CompletionException으로 감싼 채 던짐
+     *
+     * @param future 대기할 작업
+     * @return 결과
+     */
+    public static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.jikim.mycommerce.common.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * RedisConfig
+ *
+ * Redis pub/sub 구독 설정
+ * 구독 컴포넌트가 생성 시 addMessageListener로 채널 등록 (상품 캐시 무효화 등)
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+@Configuration
+public class RedisConfig {
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+}
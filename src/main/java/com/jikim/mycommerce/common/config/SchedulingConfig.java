@@ -0,0 +1,35 @@
+package com.jikim.mycommerce.common.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * SchedulingConfig
+ *
+ * @Scheduled 작업 스레드 풀
+ * 기본 스케줄러는 스레드 1개 → 재고 DB 동기화, 아웃박스 릴레이, 재고 스트림 등 작업이 서로의 지연을 기다림
+ * 자동 구성 스케줄러를 대체하므로 가상 스레드 모드(spring.threads.virtual.enabled)도 여기서 적용
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+@Configuration
+@EnableScheduling   // @Scheduled 작업 활성화 (재고 DB 동기화 등)
+public class SchedulingConfig {
+
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(@Value("${mycommerce.scheduling.pool-size:4}") int poolSize,
+                                                 @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("scheduling-");
+        if (virtualThreads) {
+            // 풀 크기만큼 작업이 동시에 실행, 대기(JDBC, Redis) 중에는 캐리어 스레드를 놓음
+            scheduler.setThreadFactory(Thread.ofVirtual().name("scheduling-", 0).factory());
+        }
+        return scheduler;
+    }
+}
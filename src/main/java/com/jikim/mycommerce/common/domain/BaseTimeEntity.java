@@ -29,4 +29,14 @@ public abstract class BaseTimeEntity {
 
     @LastModifiedDate
     private LocalDateTime updatedAt;
+
+    /**
+     * JPA를 거치지 않고(JDBC 배치) 저장한 엔티티에 생성/수정일시를 채운다
+     *
+     * @param now 저장 일시
+     */
+    public void initTimestamps(LocalDateTime now) {
+        this.createdAt = now;
+        this.updatedAt = now;
+    }
 }
@@ -0,0 +1,23 @@
+package com.jikim.mycommerce.common.exception;
+
+import lombok.Getter;
+
+/**
+ * FlashSaleRejectedException
+ *
+ * 플래시 세일 입장/주문 거절 예외
+ * 락이나 DB 커넥션을 잡기 전에 즉시 거절할 때 사용
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+@Getter
+public class FlashSaleRejectedException extends RuntimeException {
+
+    private final String code;
+
+    public FlashSaleRejectedException(String code, String message) {
+        super(message);
+        this.code = code;
+    }
+}
@@ -32,6 +32,30 @@ public class GlobalExceptionHandler {
                 .body(new ErrorResponse("NOT_FOUND", "리소스를 찾을 수 없습니다."));
     }
 
+    // 플래시 세일 거절 (매진, 차례 아님, 티켓 없음 등)
+    @ExceptionHandler(FlashSaleRejectedException.class)
+    public ResponseEntity<ErrorResponse> handleFlashSaleRejectedException(FlashSaleRejectedException e) {
+        log.debug("플래시 세일 거절: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(new ErrorResponse(e.getCode(), e.getMessage()));
+    }
+
+    // Idempotency-Key 거절 (처리 중, 다른 요청에 재사용 등)
+    @ExceptionHandler(IdempotencyKeyException.class)
+    public ResponseEntity<ErrorResponse> handleIdempotencyKeyException(IdempotencyKeyException e) {
+        log.debug("멱등 키 거절: {}", e.getMessage());
+        return ResponseEntity.status(e.getStatus())
+                .body(new ErrorResponse(e.getCode(), e.getMessage()));
+    }
+
+    // 잘못된 요청 파라미터 (커서 형식, 검색 범위, 일괄 조회 ID 수 등)
+    @ExceptionHandler(InvalidRequestException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidRequestException(InvalidRequestException e) {
+        log.debug("잘못된 요청: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(new ErrorResponse("INVALID_REQUEST", e.getMessage()));
+    }
+
     // 비즈니스 예외 (커스텀)
 //    @ExceptionHandler(BusinessException.class)
 //    public ResponseEntity<ErrorResponse> handleBusinessException(BusinessException e) {
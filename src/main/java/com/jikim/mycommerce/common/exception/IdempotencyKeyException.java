@@ -0,0 +1,28 @@
+package com.jikim.mycommerce.common.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+/**
+ * IdempotencyKeyException
+ *
+ * Idempotency-Key 요청 거절 예외
+ * - 400: 키 형식 오류
+ * - 409: 같은 키의 첫 요청이 아직 처리 중
+ * - 422: 같은 키로 다른 요청 본문 전송
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+@Getter
+public class IdempotencyKeyException extends RuntimeException {
+
+    private final String code;
+    private final HttpStatus status;
+
+    public IdempotencyKeyException(String code, HttpStatus status, String message) {
+        super(message);
+        this.code = code;
+        this.status = status;
+    }
+}
@@ -0,0 +1,22 @@
+package com.jikim.mycommerce.common.exception;
+
+/**
+ * InvalidRequestException
+ *
+ * 잘못된 요청 파라미터 예외 (400)
+ * 커서 형식 오류, 검색 범위 초과, 일괄 조회 ID 수 초과 등 클라이언트 입력 오류
+ * IllegalArgumentException 하위 타입 → 리액티브 핸들러의 400 매핑과 같은 기준
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+public class InvalidRequestException extends IllegalArgumentException {
+
+    public InvalidRequestException(String message) {
+        super(message);
+    }
+
+    public InvalidRequestException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,24 @@
+package com.jikim.mycommerce.common.id;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * IdGeneratorConfig
+ *
+ * JPA 밖(JDBC 배치 저장 등)에서 사용할 Snowflake ID 생성기
+ * Hibernate 생성기와 같은 노드 ID → 같은 인스턴스 공유
+ * 노드 ID 미설정이면 기동 실패 (테스트 프로파일만 0)
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+@Configuration
+public class IdGeneratorConfig {
+
+    @Bean
+    public SnowflakeIdGenerator snowflakeIdGenerator(@Value("${mycommerce.id.node-id:}") String nodeId) {
+        return SnowflakeIdGenerator.forNodeSetting(nodeId);
+    }
+}
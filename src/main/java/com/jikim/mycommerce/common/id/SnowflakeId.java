@@ -0,0 +1,22 @@
+package com.jikim.mycommerce.common.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * SnowflakeId
+ *
+ * 엔티티 ID를 Snowflake ID로 생성 (@GeneratedValue 대신 사용)
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+@IdGeneratorType(SnowflakeIdentifierGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface SnowflakeId {
+}
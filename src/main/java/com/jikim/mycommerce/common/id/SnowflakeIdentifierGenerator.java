@@ -0,0 +1,46 @@
+package com.jikim.mycommerce.common.id;
+
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+
+import java.lang.reflect.Member;
+import java.util.EnumSet;
+
+/**
+ * SnowflakeIdentifierGenerator
+ *
+ * Hibernate ID 생성기 (@SnowflakeId)
+ * 노드 ID는 Hibernate 설정 mycommerce.id.node-id (spring.jpa.properties)에서 읽음, 미설정이면 기동 실패
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+public class SnowflakeIdentifierGenerator implements BeforeExecutionGenerator {
+
+    public static final String NODE_ID_SETTING = "mycommerce.id.node-id";
+
+    private final SnowflakeIdGenerator idGenerator;
+
+    public SnowflakeIdentifierGenerator(SnowflakeId config, Member member, CustomIdGeneratorCreationContext context) {
+        Object nodeId = context.getServiceRegistry()
+                .requireService(ConfigurationService.class)
+                .getSettings()
+                .get(NODE_ID_SETTING);
+        this.idGenerator = SnowflakeIdGenerator.forNodeSetting(nodeId);
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue,
+                           EventType eventType) {
+        return idGenerator.nextId();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
@@ -1,6 +1,7 @@
 package com.jikim.mycommerce.order;
 
 import com.jikim.mycommerce.common.domain.BaseTimeEntity;
+import com.jikim.mycommerce.common.id.SnowflakeId;
 import com.jikim.mycommerce.user.User;
 import jakarta.persistence.*;
 import lombok.*;
@@ -32,7 +33,7 @@ import java.util.List;
 public class Order extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId    // INSERT 전에 ID 결정 → JDBC 배치 INSERT
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -53,6 +54,10 @@ public class Order extends BaseTimeEntity {
     @Version
     private Long version;
 
+    // 비동기 접수 주문의 접수 ID (재처리 시 중복 생성 방지)
+    @Column(length = 36, unique = true)
+    private String trackingId;
+
     /**
      * 주문 항목을 추가한다
      *
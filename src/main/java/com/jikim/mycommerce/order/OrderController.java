@@ -1,15 +1,20 @@
 package com.jikim.mycommerce.order;
 
 import com.jikim.mycommerce.auth.CustomOAuth2User;
+import com.jikim.mycommerce.order.flashsale.FlashSaleService;
+import com.jikim.mycommerce.order.idempotency.OrderIdempotencyService;
+import com.jikim.mycommerce.order.intake.OrderIntakeResponse;
+import com.jikim.mycommerce.order.intake.OrderIntakeService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.net.URI;
-import java.net.URISyntaxException;
-import java.util.List;
 
 /**
  * OrderController
@@ -25,66 +30,133 @@ import java.util.List;
 public class OrderController {
 
     private final OrderService orderService;
+    private final FlashSaleService flashSaleService;
+    private final OrderIntakeService orderIntakeService;
+    private final OrderIdempotencyService orderIdempotencyService;
+
+    // sync: 요청 스레드에서 주문 생성, async: 접수 후 202 (워커가 생성)
+    @Value("${mycommerce.order.intake.mode:sync}")
+    private String intakeMode;
 
     /**
      * 주문을 생성한다
+     * 플래시 세일 상품은 차례가 된 대기 티켓이 있어야 주문 진입
+     * async 모드에서는 접수만 하고 202 반환 (플래시 세일 주문은 대기열이 이미 있으므로 동기 처리)
+     * Idempotency-Key가 있으면 같은 키의 재시도는 재고/DB 접근 없이 첫 응답을 재전송
      *
      * @param request 주문 생성 요청
+     * @param ticketId 플래시 세일 대기 티켓 ID
+     * @param idempotencyKey 클라이언트 재시도 식별 키
      * @param user 인증된 사용자
-     * @return 생성된 주문 응답
+     * @return 생성된 주문 응답 (201) 또는 접수 응답 (202)
      */
     @PostMapping
-    public ResponseEntity<OrderResponse> createOrder(
+    public ResponseEntity<?> createOrder(
             @Valid @RequestBody OrderCreateRequest request,
-            @AuthenticationPrincipal CustomOAuth2User user) throws URISyntaxException {
+            @RequestHeader(value = "X-Flash-Sale-Ticket", required = false) Long ticketId,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            @AuthenticationPrincipal CustomOAuth2User user) {
 
         if (user == null) {
             throw new IllegalStateException("User not authenticated");
         }
 
-        Order order = orderService.createOrder(user.getUserId(), request);
-        return ResponseEntity
-                .created(new URI("/orders/" + order.getId()))
-                .body(OrderResponse.from(order));
+        if (idempotencyKey == null) {
+            return placeOrder(user.getUserId(), request, ticketId);
+        }
+        return orderIdempotencyService.execute(user.getUserId(), idempotencyKey, request,
+                () -> placeOrder(user.getUserId(), request, ticketId));
+    }
+
+    /**
+     * 비동기 주문 접수 상태를 조회한다
+     * COMPLETED가 되면 orderId로 주문 조회
+     *
+     * @param trackingId 접수 ID
+     * @param user 인증된 사용자
+     * @return 접수 응답
+     */
+    @GetMapping("/intake/{trackingId}")
+    public ResponseEntity<OrderIntakeResponse> getOrderIntake(
+            @PathVariable String trackingId,
+            @AuthenticationPrincipal CustomOAuth2User user) {
+
+        if (user == null) {
+            throw new IllegalStateException("User not authenticated");
+        }
+
+        return ResponseEntity.ok(orderIntakeService.getStatus(trackingId, user.getUserId()));
     }
 
     /**
      * 주문을 조회한다
+     * If-None-Match/If-Modified-Since가 있으면 버전만 조회해 변경이 없을 때 304 (응답 본문 생성 없음)
      *
      * @param id 주문 ID
+     * @param request 요청 (조건부 헤더)
      * @param user 인증된 사용자
-     * @return 주문 응답
+     * @return 주문 응답 (ETag, Last-Modified 포함)
      */
     @GetMapping("/{id}")
     public ResponseEntity<OrderResponse> getOrder(
             @PathVariable Long id,
+            WebRequest request,
             @AuthenticationPrincipal CustomOAuth2User user) {
 
         // TODO: 권한 검증 - 주문한 사용자만 조회 가능
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                || request.getHeader(HttpHeaders.IF_MODIFIED_SINCE) != null) {
+            OrderVersion version = orderService.findOrderVersion(id);
+            if (request.checkNotModified(version.etag(), version.lastModified())) {
+                return null;   // 304 응답은 checkNotModified가 작성
+            }
+        }
+
         Order order = orderService.findOrderById(id);
-        return ResponseEntity.ok(OrderResponse.from(order));
+        OrderVersion version = OrderVersion.from(order);
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok().eTag(version.etag());
+        if (version.lastModified() >= 0) {
+            builder.lastModified(version.lastModified());
+        }
+        return builder.body(OrderResponse.from(order));
     }
 
     /**
-     * 현재 사용자의 모든 주문을 조회한다
+     * 현재 사용자의 주문을 최신순으로 한 페이지 조회한다
      *
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 생략)
+     * @param size 페이지 크기 (최대 100)
      * @param user 인증된 사용자
-     * @return 주문 목록 응답
+     * @return 주문 페이지 응답
      */
     @GetMapping
-    public ResponseEntity<List<OrderResponse>> getUserOrders(
+    public ResponseEntity<OrderPageResponse> getUserOrders(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
             @AuthenticationPrincipal CustomOAuth2User user) {
 
         if (user == null) {
             throw new IllegalStateException("User not authenticated");
         }
 
-        List<Order> orders = orderService.findUserOrders(user.getUserId());
-        return ResponseEntity.ok(
-                orders.stream()
-                        .map(OrderResponse::from)
-                        .toList()
-        );
+        return ResponseEntity.ok(orderService.findUserOrders(user.getUserId(), cursor, size));
+    }
+
+    private ResponseEntity<?> placeOrder(Long userId, OrderCreateRequest request, Long ticketId) {
+        if ("async".equals(intakeMode) && !flashSaleService.containsFlashSaleProduct(request)) {
+            OrderIntakeResponse response = orderIntakeService.accept(userId, request);
+            return ResponseEntity
+                    .accepted()
+                    .location(URI.create("/orders/intake/" + response.trackingId()))
+                    .body(response);
+        }
+
+        // 트랜잭션(커넥션) 시작 전에 대기열 차례 확인
+        Order order = flashSaleService.admit(userId, request, ticketId,
+                () -> orderService.createOrder(userId, request));
+        return ResponseEntity
+                .created(URI.create("/orders/" + order.getId()))
+                .body(OrderResponse.from(order));
     }
 
     /**
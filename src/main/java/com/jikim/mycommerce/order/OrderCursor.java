@@ -0,0 +1,49 @@
+package com.jikim.mycommerce.order;
+
+import com.jikim.mycommerce.common.exception.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * OrderCursor
+ *
+ * 주문 목록 키셋 페이지 커서 (created_at, id)
+ * 클라이언트에는 Base64 URL 문자열(nextCursor)로만 노출
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+public record OrderCursor(
+        LocalDateTime createdAt,
+        Long id
+) {
+
+    private static final char SEPARATOR = '_';
+
+    public String encode() {
+        String raw = createdAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * nextCursor 문자열을 커서로 변환한다
+     *
+     * @param cursor nextCursor
+     * @return 커서
+     * @throws InvalidRequestException 형식이 올바르지 않은 경우
+     */
+    public static OrderCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            return new OrderCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.valueOf(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new InvalidRequestException("Invalid cursor: " + cursor, e);
+        }
+    }
+}
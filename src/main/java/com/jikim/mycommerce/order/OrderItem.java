@@ -1,6 +1,7 @@
 package com.jikim.mycommerce.order;
 
 import com.jikim.mycommerce.common.domain.BaseTimeEntity;
+import com.jikim.mycommerce.common.id.SnowflakeId;
 import com.jikim.mycommerce.product.Product;
 import jakarta.persistence.*;
 import lombok.*;
@@ -25,7 +26,7 @@ import java.math.BigDecimal;
 public class OrderItem extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId    // INSERT 전에 ID 결정 → JDBC 배치 INSERT
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
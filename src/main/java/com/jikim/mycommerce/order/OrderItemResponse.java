@@ -1,5 +1,8 @@
 package com.jikim.mycommerce.order;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+
 import java.math.BigDecimal;
 
 /**
@@ -11,6 +14,7 @@ import java.math.BigDecimal;
  * @since 25. 11. 6.
  */
 public record OrderItemResponse(
+        @JsonSerialize(using = ToStringSerializer.class)   // Snowflake ID (2^53 초과) → JSON 문자열
         Long id,
         Long productId,
         String productName,
@@ -28,4 +32,15 @@ public record OrderItemResponse(
                 item.calculateTotalPrice()
         );
     }
+
+    public static OrderItemResponse from(OrderItemRow row) {
+        return new OrderItemResponse(
+                row.itemId(),
+                row.productId(),
+                row.productName(),
+                row.quantity(),
+                row.price(),
+                row.price().multiply(BigDecimal.valueOf(row.quantity()))
+        );
+    }
 }
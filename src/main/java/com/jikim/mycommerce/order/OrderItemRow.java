@@ -0,0 +1,29 @@
+package com.jikim.mycommerce.order;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * OrderItemRow
+ *
+ * 주문 목록 조회 결과 행 (주문 1 : 항목 N 조인 결과를 평면으로)
+ * 엔티티 로딩 없이 응답에 필요한 컬럼만 조회 (상품 설명 TEXT 제외)
+ * 항목이 없는 주문은 항목 컬럼이 null
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+public record OrderItemRow(
+        Long orderId,
+        Long userId,
+        OrderStatus status,
+        BigDecimal totalPrice,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        Long itemId,
+        Long productId,
+        String productName,
+        BigDecimal price,
+        Integer quantity
+) {
+}
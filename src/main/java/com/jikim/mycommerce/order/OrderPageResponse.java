@@ -0,0 +1,18 @@
+package com.jikim.mycommerce.order;
+
+import java.util.List;
+
+/**
+ * OrderPageResponse
+ *
+ * 주문 목록 페이지 응답
+ * nextCursor가 null이면 마지막 페이지
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+public record OrderPageResponse(
+        List<OrderResponse> orders,
+        String nextCursor
+) {
+}
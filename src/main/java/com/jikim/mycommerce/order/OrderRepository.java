@@ -1,9 +1,13 @@
 package com.jikim.mycommerce.order;
 
+import com.jikim.mycommerce.order.summary.OrderSummary;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,17 +22,54 @@ import java.util.Optional;
 public interface OrderRepository extends JpaRepository<Order, Long> {
 
     /**
-     * 사용자 ID로 모든 주문을 조회한다
-     * N+1 문제 방지를 위한 fetch join 사용
+     * 사용자의 최신 주문 키(created_at, id)를 조회한다 (첫 페이지)
+     * idx_orders_user_created 인덱스 순서로 읽고 size만큼에서 멈춤
      *
      * @param userId 사용자 ID
-     * @return 주문 목록
+     * @param pageable 조회 건수 (PageRequest.of(0, size))
+     * @return 주문 키 목록 (최신순)
      */
-    @Query("SELECT DISTINCT o FROM Order o " +
-           "LEFT JOIN FETCH o.orderItems oi " +
-           "LEFT JOIN FETCH oi.product " +
-           "WHERE o.user.id = :userId")
-    List<Order> findAllByUserIdWithItems(@Param("userId") Long userId);
+    @Query("SELECT new com.jikim.mycommerce.order.OrderCursor(o.createdAt, o.id) FROM Order o " +
+           "WHERE o.user.id = :userId " +
+           "ORDER BY o.createdAt DESC, o.id DESC")
+    List<OrderCursor> findPageKeysByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * 커서 이후의 주문 키(created_at, id)를 조회한다 (다음 페이지)
+     * (created_at, id) < (커서) 조건을 인덱스 범위 검색으로 처리 (OFFSET 없음)
+     *
+     * @param userId 사용자 ID
+     * @param createdAt 커서 생성일시
+     * @param id 커서 주문 ID
+     * @param pageable 조회 건수 (PageRequest.of(0, size))
+     * @return 주문 키 목록 (최신순)
+     */
+    @Query("SELECT new com.jikim.mycommerce.order.OrderCursor(o.createdAt, o.id) FROM Order o " +
+           "WHERE o.user.id = :userId " +
+           "AND o.createdAt <= :createdAt " +
+           "AND (o.createdAt < :createdAt OR o.id < :id) " +
+           "ORDER BY o.createdAt DESC, o.id DESC")
+    List<OrderCursor> findPageKeysByUserIdAfter(@Param("userId") Long userId,
+                                                @Param("createdAt") LocalDateTime createdAt,
+                                                @Param("id") Long id,
+                                                Pageable pageable);
+
+    /**
+     * 주문 ID 목록으로 주문 응답에 필요한 컬럼만 평면 행으로 조회한다
+     * 관리 엔티티를 만들지 않으므로 영속성 컨텍스트 적재/스냅샷 없음, 상품 설명(TEXT)은 읽지 않음
+     *
+     * @param ids 주문 ID 목록
+     * @return 조회 행 목록 (주문 ID, 항목 ID 순)
+     */
+    @Query("SELECT new com.jikim.mycommerce.order.OrderItemRow(" +
+           "o.id, o.user.id, o.status, o.totalPrice, o.createdAt, o.updatedAt, " +
+           "oi.id, p.id, p.name, oi.price, oi.quantity) " +
+           "FROM Order o " +
+           "LEFT JOIN o.orderItems oi " +
+           "LEFT JOIN oi.product p " +
+           "WHERE o.id IN :ids " +
+           "ORDER BY o.id, oi.id")
+    List<OrderItemRow> findItemRowsByIdIn(@Param("ids") Collection<Long> ids);
 
     /**
      * 주문 ID로 주문을 조회한다
@@ -42,4 +83,54 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
            "LEFT JOIN FETCH oi.product " +
            "WHERE o.id = :id")
     Optional<Order> findByIdWithItems(@Param("id") Long id);
+
+    /**
+     * 주문 버전, 수정일시와 항목 상품의 최근 수정일시만 조회한다 (조건부 GET 판단용, 엔티티 로딩 x)
+     *
+     * @param id 주문 ID
+     * @return 주문 버전
+     */
+    @Query("SELECT new com.jikim.mycommerce.order.OrderVersion(o.version, o.updatedAt, MAX(p.updatedAt)) " +
+           "FROM Order o " +
+           "LEFT JOIN o.orderItems oi " +
+           "LEFT JOIN oi.product p " +
+           "WHERE o.id = :id " +
+           "GROUP BY o.id, o.version, o.updatedAt")
+    Optional<OrderVersion> findVersionById(@Param("id") Long id);
+
+    /**
+     * 사용자의 주문 요약을 조회한다 (주문 요약 재구축용)
+     *
+     * @param userId 사용자 ID
+     * @return 주문 요약 목록
+     */
+    @Query("SELECT new com.jikim.mycommerce.order.summary.OrderSummary(" +
+           "o.id, o.user.id, o.status, o.totalPrice, COUNT(oi), o.createdAt, o.version) " +
+           "FROM Order o LEFT JOIN o.orderItems oi " +
+           "WHERE o.user.id = :userId " +
+           "GROUP BY o.id, o.user.id, o.status, o.totalPrice, o.createdAt, o.version")
+    List<OrderSummary> findSummariesByUserId(@Param("userId") Long userId);
+
+    /**
+     * 주문 ID 이후의 주문 요약을 ID 순으로 조회한다 (전체 재구축 배치)
+     *
+     * @param afterId 이전 배치의 마지막 주문 ID
+     * @param pageable 배치 크기 (PageRequest.of(0, size))
+     * @return 주문 요약 목록
+     */
+    @Query("SELECT new com.jikim.mycommerce.order.summary.OrderSummary(" +
+           "o.id, o.user.id, o.status, o.totalPrice, COUNT(oi), o.createdAt, o.version) " +
+           "FROM Order o LEFT JOIN o.orderItems oi " +
+           "WHERE o.id > :afterId " +
+           "GROUP BY o.id, o.user.id, o.status, o.totalPrice, o.createdAt, o.version " +
+           "ORDER BY o.id")
+    List<OrderSummary> findSummariesAfterId(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * 비동기 접수 ID로 주문을 조회한다
+     *
+     * @param trackingId 접수 ID
+     * @return 주문
+     */
+    Optional<Order> findByTrackingId(String trackingId);
 }
@@ -1,5 +1,8 @@
 package com.jikim.mycommerce.order;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -13,6 +16,7 @@ import java.util.List;
  * @since 25. 11. 6.
  */
 public record OrderResponse(
+        @JsonSerialize(using = ToStringSerializer.class)   // Snowflake ID (2^53 초과) → JSON 문자열
         Long id,
         Long userId,
         OrderStatus status,
@@ -36,4 +40,27 @@ public record OrderResponse(
                 order.getUpdatedAt()
         );
     }
+
+    /**
+     * 같은 주문의 조회 행들로 응답을 만든다
+     *
+     * @param rows 주문 1건의 조회 행 (항목 순서대로)
+     * @return 주문 응답
+     */
+    public static OrderResponse from(List<OrderItemRow> rows) {
+        OrderItemRow first = rows.get(0);
+        List<OrderItemResponse> items = first.itemId() == null
+                ? List.of()
+                : rows.stream().map(OrderItemResponse::from).toList();
+
+        return new OrderResponse(
+                first.orderId(),
+                first.userId(),
+                first.status(),
+                first.totalPrice(),
+                items,
+                first.createdAt(),
+                first.updatedAt()
+        );
+    }
 }
@@ -1,5 +1,8 @@
 package com.jikim.mycommerce.order;
 
+import com.jikim.mycommerce.order.outbox.OrderEventType;
+import com.jikim.mycommerce.order.outbox.OrderOutbox;
+import com.jikim.mycommerce.order.summary.OrderSummaryService;
 import com.jikim.mycommerce.product.Product;
 import com.jikim.mycommerce.product.ProductRepository;
 import com.jikim.mycommerce.product.ProductService;
@@ -7,10 +10,20 @@ import com.jikim.mycommerce.user.User;
 import com.jikim.mycommerce.user.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -33,24 +46,90 @@ public class OrderService {
     private final ProductRepository productRepository;
     private final UserRepository userRepository;
     private final ProductService productService;
+    private final OrderWriteBatcher orderWriteBatcher;
+    private final OrderSummaryService orderSummaryService;
+    private final OrderOutbox orderOutbox;
+    private final PlatformTransactionManager transactionManager;
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    // true: 동시에 들어온 주문을 모아 한 트랜잭션으로 저장 (그룹 커밋)
+    @Value("${mycommerce.order.group-commit.enabled:false}")
+    private boolean groupCommit;
 
     /**
      * 주문을 생성한다
      * 
      * 2-Phase 검증 전략:
      * Phase 1: 모든 상품 재고 사전 검증 (빠른 실패)
-     * Phase 2: 재고 차감 (분산 락 + DB 락)
+     * Phase 2: 재고 차감 (mycommerce.stock.strategy)
      * Phase 3: 주문 생성 및 결제
      *
      * @param userId 사용자 ID
      * @param request 주문 생성 요청
      * @return 생성된 주문
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)   // 트랜잭션 범위는 저장 방식에 따라 직접 관리
     public Order createOrder(Long userId, OrderCreateRequest request) {
-        User user = userRepository.findById(userId)
+        return createOrder(userId, request, null);
+    }
+
+    /**
+     * 비동기 접수된 주문을 생성한다
+     * 같은 접수 ID로 이미 생성된 주문이 있으면 unique 제약으로 실패
+     *
+     * 그룹 커밋이면 주문 트랜잭션 없이 진행 → 배치 저장을 기다리는 동안 커넥션을 잡지 않음
+     * (조회는 조회별 읽기 트랜잭션, 재고 차감은 전략별 트랜잭션, 저장은 writer 배치 트랜잭션)
+     *
+     * @param userId 사용자 ID
+     * @param request 주문 생성 요청
+     * @param trackingId 접수 ID (동기 주문은 null)
+     * @return 생성된 주문
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Order createOrder(Long userId, OrderCreateRequest request, String trackingId) {
+        if (!groupCommit) {
+            return transactionTemplate(TransactionDefinition.PROPAGATION_REQUIRED).execute(status -> {
+                Order saved = orderRepository.save(prepareOrder(userId, request, trackingId));
+                orderOutbox.append(saved, OrderEventType.ORDER_CREATED);  // 주문과 같은 트랜잭션에서 아웃박스 기록
+                orderSummaryService.putAfterCommit(saved);
+                return saved;
+            });
+        }
+
+        User user = findUser(userId);
+        Map<Long, Product> productMap = validate(request);
+
+        // 커넥션 없는 트랜잭션 범위: 커밋/롤백 후처리(캐시 무효화, Redis 재고 예약 반환, 요약 갱신)만 등록
+        // 배치 저장이 실패하면 롤백으로 처리 → 트랜잭션 안에서 저장하던 때와 같은 보상
+        return transactionTemplate(TransactionDefinition.PROPAGATION_SUPPORTS).execute(status -> {
+            productService.decreaseStocks(quantities(request));
+            Order saved = orderWriteBatcher.write(buildOrder(user, productMap, request, trackingId));  // 이벤트는 배치 트랜잭션에서 기록
+            orderSummaryService.putAfterCommit(saved);
+            return saved;
+        });
+    }
+
+    // 주문 트랜잭션 안에서 검증, 재고 차감 후 저장 전 주문 생성
+    private Order prepareOrder(Long userId, OrderCreateRequest request, String trackingId) {
+        User user = findUser(userId);
+        Map<Long, Product> productMap = validate(request);
+        productService.decreaseStocks(quantities(request));
+        return buildOrder(user, productMap, request, trackingId);
+    }
+
+    private User findUser(Long userId) {
+        return userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("User not found: " + userId));
+    }
 
+    /**
+     * 주문 상품 존재, 재고를 사전 검증한다
+     *
+     * @param request 주문 생성 요청
+     * @return 상품 ID별 상품
+     */
+    private Map<Long, Product> validate(OrderCreateRequest request) {
         // ===== Phase 1: 사전 검증 (빠른 실패) =====
         List<Long> productIds = request.items().stream()
                 .map(OrderItemRequest::productId)
@@ -78,11 +157,18 @@ public class OrderService {
             }
         }
 
-        // ===== Phase 2: 재고 차감 (분산 락 사용) =====
-        for (OrderItemRequest item : request.items()) {
-            productService.decreaseStockWithLock(item.productId(), item.quantity());
-        }
+        return productMap;
+    }
 
+    // ===== Phase 2: 재고 차감 수량 =====
+    // 같은 상품이 여러 줄이면 수량 합산
+    private Map<Long, Integer> quantities(OrderCreateRequest request) {
+        return request.items().stream()
+                .collect(Collectors.toMap(OrderItemRequest::productId, OrderItemRequest::quantity,
+                        Integer::sum, LinkedHashMap::new));
+    }
+
+    private Order buildOrder(User user, Map<Long, Product> productMap, OrderCreateRequest request, String trackingId) {
         // ===== Phase 3: 주문 생성 =====
         // 3-1. 총 금액 계산
         BigDecimal totalPrice = request.items().stream()
@@ -97,6 +183,7 @@ public class OrderService {
                 .user(user)
                 .status(OrderStatus.PENDING)
                 .totalPrice(totalPrice)
+                .trackingId(trackingId)
                 .build();
 
         // 3-3. 주문 항목 추가
@@ -114,7 +201,13 @@ public class OrderService {
         // 3-4. 결제 처리 (mock)
         order.processPayment();
 
-        return orderRepository.save(order);
+        return order;
+    }
+
+    private TransactionTemplate transactionTemplate(int propagation) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(propagation);
+        return template;
     }
 
     /**
@@ -129,13 +222,58 @@ public class OrderService {
     }
 
     /**
-     * 사용자의 모든 주문을 조회한다
+     * 주문 버전만 조회한다 (조건부 GET)
+     *
+     * @param id 주문 ID
+     * @return 주문 버전
+     */
+    public OrderVersion findOrderVersion(Long id) {
+        return orderRepository.findVersionById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Order not found: " + id));
+    }
+
+    /**
+     * 사용자의 주문을 최신순으로 한 페이지 조회한다
+     * 1단계: 인덱스만으로 페이지 주문 키(created_at, id) 조회 (size + 1건으로 다음 페이지 여부 확인)
+     * 2단계: 페이지 주문의 항목, 상품 컬럼을 쿼리 1회로 평면 행 조회 → 응답 조립 (엔티티 로딩 없음)
      *
      * @param userId 사용자 ID
-     * @return 주문 목록
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기
+     * @return 주문 페이지 응답
      */
-    public List<Order> findUserOrders(Long userId) {
-        return orderRepository.findAllByUserIdWithItems(userId);
+    public OrderPageResponse findUserOrders(Long userId, String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<OrderCursor> keys;
+        if (cursor == null || cursor.isBlank()) {
+            keys = orderRepository.findPageKeysByUserId(userId, limit);
+        } else {
+            OrderCursor after = OrderCursor.decode(cursor);
+            keys = orderRepository.findPageKeysByUserIdAfter(userId, after.createdAt(), after.id(), limit);
+        }
+
+        boolean hasNext = keys.size() > pageSize;
+        if (hasNext) {
+            keys = keys.subList(0, pageSize);
+        }
+        if (keys.isEmpty()) {
+            return new OrderPageResponse(List.of(), null);
+        }
+
+        List<Long> ids = keys.stream().map(OrderCursor::id).toList();
+        Map<Long, List<OrderItemRow>> rowsByOrder = new HashMap<>();
+        for (OrderItemRow row : orderRepository.findItemRowsByIdIn(ids)) {
+            rowsByOrder.computeIfAbsent(row.orderId(), id -> new ArrayList<>()).add(row);
+        }
+
+        // 1단계 순서(최신순) 유지
+        List<OrderResponse> page = ids.stream()
+                .map(rowsByOrder::get)
+                .map(OrderResponse::from)
+                .toList();
+        return new OrderPageResponse(page, hasNext ? keys.get(keys.size() - 1).encode() : null);
     }
 
     /**
@@ -160,5 +298,7 @@ public class OrderService {
         // 4. 상태를 CANCELLED로 변경
 
         order.changeStatus(OrderStatus.CANCELLED);
+        orderOutbox.append(order, OrderEventType.ORDER_CANCELLED);
+        orderSummaryService.putAfterCommit(order);
     }
 }
@@ -0,0 +1,46 @@
+package com.jikim.mycommerce.order;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Objects;
+
+/**
+ * OrderVersion
+ *
+ * 주문 조회 응답의 HTTP 검증자 (ETag, Last-Modified)
+ * - ETag: 주문 @Version + 항목 상품의 최근 수정일시 (응답에 현재 상품명 포함)
+ * - 엔티티, 응답 JSON 없이 버전 컬럼만 조회해 304 판단
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+public record OrderVersion(
+        Long version,
+        LocalDateTime updatedAt,
+        LocalDateTime productsUpdatedAt
+) {
+
+    public static OrderVersion from(Order order) {
+        LocalDateTime productsUpdatedAt = order.getOrderItems().stream()
+                .map(item -> item.getProduct().getUpdatedAt())
+                .filter(Objects::nonNull)
+                .max(LocalDateTime::compareTo)
+                .orElse(null);
+        return new OrderVersion(order.getVersion(), order.getUpdatedAt(), productsUpdatedAt);
+    }
+
+    public String etag() {
+        return "\"" + version + "-" + epochMillis(productsUpdatedAt) + "\"";
+    }
+
+    /**
+     * @return 주문, 항목 상품 중 최근 수정일시 (epoch ms, 없으면 -1)
+     */
+    public long lastModified() {
+        return Math.max(epochMillis(updatedAt), epochMillis(productsUpdatedAt));
+    }
+
+    private static long epochMillis(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : -1;
+    }
+}
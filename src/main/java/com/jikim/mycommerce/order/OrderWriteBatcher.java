@@ -0,0 +1,245 @@
+package com.jikim.mycommerce.order;
+
+import com.jikim.mycommerce.common.concurrent.Futures;
+import com.jikim.mycommerce.common.id.SnowflakeIdGenerator;
+import com.jikim.mycommerce.order.outbox.OrderEventType;
+import com.jikim.mycommerce.order.outbox.OrderOutbox;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OrderWriteBatcher
+ *
+ * 주문 저장 그룹 커밋 (mycommerce.order.group-commit.enabled=true)
+ * - 짧은 구간(window-ms) 또는 max-batch-size까지 모인 주문을 한 트랜잭션에서 저장 → 커밋(WAL fsync) 1회
+ * - orders, order_items는 JDBC 배치 INSERT (ID는 Snowflake로 미리 생성)
+ * - 주문 생성 이벤트(order_outbox)도 같은 트랜잭션에서 기록
+ * - 배치가 실패하면 주문별 트랜잭션으로 다시 저장 → 실패한 주문만 예외 전달
+ * - 호출 스레드는 자신의 주문이 커밋될 때까지 대기
+ * - 가상 스레드 모드(spring.threads.virtual.enabled)면 writer도 가상 스레드로 실행
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+@Slf4j
+@Component
+public class OrderWriteBatcher implements SmartLifecycle {
+
+    private static final String INSERT_ORDER_SQL =
+            "INSERT INTO orders (id, user_id, total_price, status, version, tracking_id, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_ORDER_ITEM_SQL =
+            "INSERT INTO order_items (id, order_id, product_id, price, quantity, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SnowflakeIdGenerator idGenerator;
+    private final OrderOutbox orderOutbox;
+    private final TransactionTemplate transactionTemplate;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final int writers;
+    private final boolean virtualThreads;
+
+    private final BlockingQueue<PendingWrite> queue = new LinkedBlockingQueue<>();
+    private final List<Thread> writerThreads = new ArrayList<>();
+    private volatile boolean running;
+
+    public OrderWriteBatcher(JdbcTemplate jdbcTemplate,
+                             SnowflakeIdGenerator idGenerator,
+                             OrderOutbox orderOutbox,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${mycommerce.order.group-commit.window-ms:3}") long windowMillis,
+                             @Value("${mycommerce.order.group-commit.max-batch-size:64}") int maxBatchSize,
+                             @Value("${mycommerce.order.group-commit.writers:1}") int writers,
+                             @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.idGenerator = idGenerator;
+        this.orderOutbox = orderOutbox;
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMillis);
+        this.maxBatchSize = maxBatchSize;
+        this.writers = writers;
+        this.virtualThreads = virtualThreads;
+
+        // 호출한 주문 트랜잭션과 별도로 커밋
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 주문을 배치에 넣고 커밋될 때까지 기다린다
+     * 반환된 주문에는 ID, 생성/수정일시가 채워져 있음 (영속성 컨텍스트 관리 대상 아님)
+     *
+     * @param order 저장할 주문 (주문 항목 포함)
+     * @return 저장된 주문
+     */
+    public Order write(Order order) {
+        if (!running) {
+            throw new IllegalStateException("주문 그룹 커밋 중지됨");
+        }
+
+        PendingWrite pendingWrite = new PendingWrite(order);
+        queue.add(pendingWrite);
+        return Futures.join(pendingWrite.result);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        Thread.Builder builder = virtualThreads
+                ? Thread.ofVirtual().name("order-writer-", 0)
+                : Thread.ofPlatform().name("order-writer-", 0).daemon(true);
+        for (int i = 0; i < writers; i++) {
+            writerThreads.add(builder.start(this::runWriter));
+        }
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        writerThreads.forEach(Thread::interrupt);
+        writerThreads.clear();
+
+        // 남은 요청은 실패 처리
+        PendingWrite pendingWrite;
+        while ((pendingWrite = queue.poll()) != null) {
+            pendingWrite.result.completeExceptionally(new IllegalStateException("주문 그룹 커밋 중지됨"));
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void runWriter() {
+        while (running) {
+            try {
+                List<PendingWrite> batch = collectBatch();
+                if (!batch.isEmpty()) {
+                    flush(batch);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    // 첫 요청 도착 후 window 동안 또는 maxBatchSize까지 모음
+    private List<PendingWrite> collectBatch() throws InterruptedException {
+        List<PendingWrite> batch = new ArrayList<>();
+        PendingWrite first = queue.poll(100, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return batch;
+        }
+        batch.add(first);
+
+        long deadline = System.nanoTime() + windowNanos;
+        while (batch.size() < maxBatchSize) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                break;
+            }
+            PendingWrite next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        return batch;
+    }
+
+    private void flush(List<PendingWrite> batch) {
+        try {
+            insert(batch);
+            batch.forEach(PendingWrite::complete);
+        } catch (RuntimeException e) {
+            // 한 주문 실패로 배치 전체가 롤백 → 주문별로 다시 저장해 실패한 주문만 골라냄
+            log.warn("주문 배치 저장 실패, 개별 저장으로 재시도: 배치 크기={}", batch.size(), e);
+            for (PendingWrite pendingWrite : batch) {
+                try {
+                    insert(List.of(pendingWrite));
+                    pendingWrite.complete();
+                } catch (RuntimeException individual) {
+                    pendingWrite.result.completeExceptionally(individual);
+                }
+            }
+        }
+    }
+
+    private void insert(List<PendingWrite> batch) {
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp timestamp = Timestamp.valueOf(now);
+
+        // ID는 INSERT 전에 생성 (Snowflake) → 재시도 시에도 같은 ID 사용
+        List<Order> orders = batch.stream().map(pendingWrite -> pendingWrite.order).toList();
+        List<OrderItem> items = orders.stream().flatMap(order -> order.getOrderItems().stream()).toList();
+        orders.stream().filter(order -> order.getId() == null).forEach(order -> order.setId(idGenerator.nextId()));
+        items.stream().filter(item -> item.getId() == null).forEach(item -> item.setId(idGenerator.nextId()));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate(INSERT_ORDER_SQL, orders, orders.size(), (ps, order) -> {
+                ps.setLong(1, order.getId());
+                ps.setLong(2, order.getUser().getId());
+                ps.setBigDecimal(3, order.getTotalPrice());
+                ps.setString(4, order.getStatus().name());
+                ps.setLong(5, 0L);
+                if (order.getTrackingId() != null) {
+                    ps.setString(6, order.getTrackingId());
+                } else {
+                    ps.setNull(6, Types.VARCHAR);
+                }
+                ps.setTimestamp(7, timestamp);
+                ps.setTimestamp(8, timestamp);
+            });
+
+            jdbcTemplate.batchUpdate(INSERT_ORDER_ITEM_SQL, items, items.size(), (ps, item) -> {
+                ps.setLong(1, item.getId());
+                ps.setLong(2, item.getOrder().getId());
+                ps.setLong(3, item.getProduct().getId());
+                ps.setBigDecimal(4, item.getPrice());
+                ps.setInt(5, item.getQuantity());
+                ps.setTimestamp(6, timestamp);
+                ps.setTimestamp(7, timestamp);
+            });
+
+            orderOutbox.appendAll(orders, OrderEventType.ORDER_CREATED);
+        });
+
+        for (Order order : orders) {
+            order.setVersion(0L);
+            order.initTimestamps(now);
+            order.getOrderItems().forEach(item -> item.initTimestamps(now));
+        }
+    }
+
+    private static final class PendingWrite {
+        private final Order order;
+        private final CompletableFuture<Order> result = new CompletableFuture<>();
+
+        private PendingWrite(Order order) {
+            this.order = order;
+        }
+
+        private void complete() {
+            result.complete(order);
+        }
+    }
+}
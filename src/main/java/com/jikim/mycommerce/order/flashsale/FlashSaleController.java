@@ -0,0 +1,97 @@
+package com.jikim.mycommerce.order.flashsale;
+
+import com.jikim.mycommerce.auth.CustomOAuth2User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * FlashSaleController
+ *
+ * 플래시 세일 대기열 API
+ * 1. POST /flash-sales/{productId}/tickets → 티켓 발급 (매진이면 409)
+ * 2. GET /flash-sales/{productId}/tickets/{ticketId} → ready가 될 때까지 폴링
+ * 3. POST /orders + X-Flash-Sale-Ticket 헤더 → 주문
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+@RestController
+@RequestMapping("/flash-sales")
+@RequiredArgsConstructor
+public class FlashSaleController {
+
+    private final FlashSaleService flashSaleService;
+
+    /**
+     * 플래시 세일을 시작한다 (현재 재고만큼 티켓 발급)
+     *
+     * @param productId 상품 ID
+     * @return 세일 현황
+     */
+    @PostMapping("/{productId}")
+    public ResponseEntity<FlashSaleResponse> openSale(@PathVariable Long productId) {
+        return ResponseEntity.ok(flashSaleService.open(productId));
+    }
+
+    /**
+     * 플래시 세일 현황을 조회한다
+     *
+     * @param productId 상품 ID
+     * @return 세일 현황
+     */
+    @GetMapping("/{productId}")
+    public ResponseEntity<FlashSaleResponse> getSale(@PathVariable Long productId) {
+        return ResponseEntity.ok(flashSaleService.getSale(productId));
+    }
+
+    /**
+     * 플래시 세일을 종료한다
+     *
+     * @param productId 상품 ID
+     * @return 응답 없음
+     */
+    @DeleteMapping("/{productId}")
+    public ResponseEntity<Void> closeSale(@PathVariable Long productId) {
+        flashSaleService.close(productId);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * 대기열 티켓을 발급받는다
+     *
+     * @param productId 상품 ID
+     * @param quantity 주문 수량
+     * @param user 인증된 사용자
+     * @return 대기 티켓
+     */
+    @PostMapping("/{productId}/tickets")
+    public ResponseEntity<FlashSaleTicketResponse> enter(
+            @PathVariable Long productId,
+            @RequestParam(defaultValue = "1") Integer quantity,
+            @AuthenticationPrincipal CustomOAuth2User user) {
+
+        if (user == null) {
+            throw new IllegalStateException("User not authenticated");
+        }
+
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(flashSaleService.enter(productId, user.getUserId(), quantity));
+    }
+
+    /**
+     * 대기 티켓 순번을 조회한다
+     *
+     * @param productId 상품 ID
+     * @param ticketId 티켓 ID
+     * @return 대기 티켓
+     */
+    @GetMapping("/{productId}/tickets/{ticketId}")
+    public ResponseEntity<FlashSaleTicketResponse> getTicket(
+            @PathVariable Long productId,
+            @PathVariable Long ticketId) {
+        return ResponseEntity.ok(flashSaleService.getTicket(productId, ticketId));
+    }
+}
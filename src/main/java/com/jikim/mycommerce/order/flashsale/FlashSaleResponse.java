@@ -0,0 +1,17 @@
+package com.jikim.mycommerce.order.flashsale;
+
+/**
+ * FlashSaleResponse
+ *
+ * 플래시 세일 현황 응답
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+public record FlashSaleResponse(
+        Long productId,
+        Integer capacity,     // 세일 시작 시점 재고
+        Integer admitted,     // 티켓 발급 + 주문 완료 수량
+        Long waiting          // 대기열 티켓 수
+) {
+}
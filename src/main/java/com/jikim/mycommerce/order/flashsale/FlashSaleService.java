@@ -0,0 +1,300 @@
+package com.jikim.mycommerce.order.flashsale;
+
+import com.jikim.mycommerce.common.exception.FlashSaleRejectedException;
+import com.jikim.mycommerce.common.exception.InvalidQuantityException;
+import com.jikim.mycommerce.order.Order;
+import com.jikim.mycommerce.order.OrderCreateRequest;
+import com.jikim.mycommerce.order.OrderItemRequest;
+import com.jikim.mycommerce.product.ProductService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * FlashSaleService
+ *
+ * 플래시 세일 대기열 (상품별 대기실)
+ * - 세일 상품 주문은 먼저 Redis ZSET 대기열 티켓을 발급받아야 함
+ * - 티켓은 남은 수량 안에서만 발급, 초과 요청은 즉시 매진 거절 (DB/락 접근 없음)
+ * - 대기열 앞쪽 entry-window개 티켓만 주문(OrderService.createOrder)에 진입
+ *   → 락 대기로 Tomcat 스레드, Hikari 커넥션이 묶이는 것을 방지
+ * - 주문 성공 시 수량 소진, 실패/만료 시 수량 반환
+ * - 주문에 진입한 티켓도 claim-lease-ms 안에 결과가 없으면 만료 (주문 도중 노드 종료 대비)
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FlashSaleService {
+
+    private static final String PRODUCTS_KEY = "flashsale:products";
+    private static final int EXPIRE_SCAN_SIZE = 100;
+
+    private static final RedisScript<List> ENTER_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/flash_sale_enter.lua"), List.class);
+    private static final RedisScript<List> CLAIM_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/flash_sale_claim.lua"), List.class);
+    private static final RedisScript<Long> LEAVE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/flash_sale_leave.lua"), Long.class);
+    private static final RedisScript<Long> EXPIRE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/flash_sale_expire.lua"), Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ProductService productService;
+
+    @Value("${mycommerce.flash-sale.entry-window:20}")
+    private int entryWindow;
+
+    @Value("${mycommerce.flash-sale.ticket-ttl-ms:60000}")
+    private long ticketTtlMillis;
+
+    // 주문 진입 후 결과(leave)를 기다리는 최대 시간 (주문 생성 최대 소요 시간보다 길게)
+    @Value("${mycommerce.flash-sale.claim-lease-ms:120000}")
+    private long claimLeaseMillis;
+
+    /**
+     * 플래시 세일을 시작한다
+     * 현재 재고(재고 차감 전략 기준)만큼 티켓 발급, 이미 진행 중이면 대기열을 비우고 다시 시작
+     *
+     * @param productId 상품 ID
+     * @return 세일 현황
+     */
+    public FlashSaleResponse open(Long productId) {
+        int stock = productService.getAvailableStock(productId);
+
+        redisTemplate.delete(keys(productId));
+        redisTemplate.opsForHash().putAll(saleKey(productId), Map.of(
+                "capacity", String.valueOf(stock),
+                "admitted", "0",
+                "seq", "0"));
+        redisTemplate.opsForSet().add(PRODUCTS_KEY, String.valueOf(productId));
+
+        log.info("플래시 세일 시작: 상품 ID={}, 수량={}", productId, stock);
+        return getSale(productId);
+    }
+
+    /**
+     * 플래시 세일을 종료한다
+     * 이후 주문은 일반 주문으로 처리
+     *
+     * @param productId 상품 ID
+     */
+    public void close(Long productId) {
+        redisTemplate.opsForSet().remove(PRODUCTS_KEY, String.valueOf(productId));
+        redisTemplate.delete(keys(productId));
+    }
+
+    /**
+     * 플래시 세일 현황을 조회한다
+     *
+     * @param productId 상품 ID
+     * @return 세일 현황
+     */
+    public FlashSaleResponse getSale(Long productId) {
+        List<Object> values = redisTemplate.opsForHash()
+                .multiGet(saleKey(productId), List.of("capacity", "admitted"));
+        if (values.get(0) == null) {
+            throw new IllegalArgumentException("Flash sale not found: " + productId);
+        }
+
+        return new FlashSaleResponse(productId,
+                Integer.valueOf((String) values.get(0)),
+                Integer.valueOf((String) values.get(1)),
+                redisTemplate.opsForZSet().zCard(queueKey(productId)));
+    }
+
+    /**
+     * 대기열 티켓을 발급한다
+     *
+     * @param productId 상품 ID
+     * @param userId 사용자 ID
+     * @param quantity 주문 수량
+     * @return 대기 티켓
+     * @throws FlashSaleRejectedException 매진된 경우
+     */
+    public FlashSaleTicketResponse enter(Long productId, Long userId, Integer quantity) {
+        if (quantity == null || quantity <= 0) {
+            throw new InvalidQuantityException(quantity);
+        }
+
+        List<Long> result = execute(ENTER_SCRIPT, productId,
+                String.valueOf(userId), String.valueOf(quantity), String.valueOf(System.currentTimeMillis()));
+
+        long ticketId = result.get(0);
+        if (ticketId < 0) {
+            throw new IllegalArgumentException("Flash sale not found: " + productId);
+        }
+        if (ticketId == 0) {
+            throw new FlashSaleRejectedException("SOLD_OUT", "매진되었습니다: 상품 ID=" + productId);
+        }
+
+        long position = result.get(1);
+        return new FlashSaleTicketResponse(productId, ticketId, quantity, position, position < entryWindow);
+    }
+
+    /**
+     * 대기 티켓 순번을 조회한다
+     *
+     * @param productId 상품 ID
+     * @param ticketId 티켓 ID
+     * @return 대기 티켓 (만료/사용된 티켓이면 예외)
+     */
+    public FlashSaleTicketResponse getTicket(Long productId, Long ticketId) {
+        Object ticket = redisTemplate.opsForHash().get(ticketsKey(productId), String.valueOf(ticketId));
+        Long position = redisTemplate.opsForZSet().rank(queueKey(productId), String.valueOf(ticketId));
+        if (ticket == null || position == null) {
+            throw new FlashSaleRejectedException("INVALID_TICKET", "유효하지 않은 티켓입니다: " + ticketId);
+        }
+
+        Integer quantity = Integer.valueOf(((String) ticket).split(":")[1]);
+        return new FlashSaleTicketResponse(productId, ticketId, quantity, position, position < entryWindow);
+    }
+
+    /**
+     * 플래시 세일 상품이 포함된 주문이면 티켓 차례를 확인한 뒤 주문을 진행한다
+     * 세일 상품이 없으면 바로 주문
+     *
+     * @param userId 사용자 ID
+     * @param request 주문 생성 요청
+     * @param ticketId 대기 티켓 ID (X-Flash-Sale-Ticket)
+     * @param createOrder 주문 생성
+     * @return 생성된 주문
+     * @throws FlashSaleRejectedException 티켓이 없거나 차례가 아닌 경우
+     */
+    public Order admit(Long userId, OrderCreateRequest request, Long ticketId, Supplier<Order> createOrder) {
+        Map<Long, Integer> quantities = request.items().stream()
+                .collect(Collectors.groupingBy(OrderItemRequest::productId,
+                        Collectors.summingInt(OrderItemRequest::quantity)));
+
+        List<Long> flashSaleProductIds = findFlashSaleProductIds(quantities.keySet());
+        if (flashSaleProductIds.isEmpty()) {
+            return createOrder.get();
+        }
+        if (quantities.size() > 1) {
+            throw new FlashSaleRejectedException("FLASH_SALE_SINGLE_ITEM", "플래시 세일 상품은 단독으로 주문해야 합니다.");
+        }
+        if (ticketId == null) {
+            throw new FlashSaleRejectedException("NO_TICKET", "플래시 세일 대기 티켓이 필요합니다.");
+        }
+
+        Long productId = flashSaleProductIds.get(0);
+        claim(productId, ticketId, userId, quantities.get(productId));
+
+        Order order;
+        try {
+            order = createOrder.get();
+        } catch (RuntimeException e) {
+            leave(productId, ticketId, true);   // 주문 실패 → 수량 반환
+            throw e;
+        }
+        leave(productId, ticketId, false);      // 주문 성공 → 수량 소진, 다음 티켓 진입
+        return order;
+    }
+
+    /**
+     * 플래시 세일 상품이 포함된 주문인지 확인한다
+     *
+     * @param request 주문 생성 요청
+     * @return 세일 상품 포함 여부
+     */
+    public boolean containsFlashSaleProduct(OrderCreateRequest request) {
+        Set<Long> productIds = request.items().stream()
+                .map(OrderItemRequest::productId)
+                .collect(Collectors.toSet());
+        return !findFlashSaleProductIds(productIds).isEmpty();
+    }
+
+    /**
+     * 발급 후 ticket-ttl-ms가 지나도록 주문하지 않은 티켓,
+     * 진입 후 claim-lease-ms가 지나도록 결과가 없는 티켓을 정리하고 수량을 반환한다
+     */
+    @Scheduled(fixedDelayString = "${mycommerce.flash-sale.expire-interval-ms:1000}")
+    public void expireTickets() {
+        Set<String> productIds = redisTemplate.opsForSet().members(PRODUCTS_KEY);
+        if (productIds == null) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        String expiredBefore = String.valueOf(now - ticketTtlMillis);
+        String claimExpiredBefore = String.valueOf(now - claimLeaseMillis);
+        for (String productId : productIds) {
+            Long expired = execute(EXPIRE_SCRIPT, Long.valueOf(productId),
+                    expiredBefore, String.valueOf(EXPIRE_SCAN_SIZE), claimExpiredBefore);
+            if (expired != null && expired > 0) {
+                log.info("플래시 세일 티켓 만료: 상품 ID={}, 만료 수={}", productId, expired);
+            }
+        }
+    }
+
+    private List<Long> findFlashSaleProductIds(Set<Long> productIds) {
+        Map<Object, Boolean> members = redisTemplate.opsForSet()
+                .isMember(PRODUCTS_KEY, productIds.stream().map(String::valueOf).toArray());
+        if (members == null) {
+            return List.of();
+        }
+        return productIds.stream()
+                .filter(productId -> Boolean.TRUE.equals(members.get(String.valueOf(productId))))
+                .toList();
+    }
+
+    private void claim(Long productId, Long ticketId, Long userId, Integer quantity) {
+        List<Long> result = execute(CLAIM_SCRIPT, productId,
+                String.valueOf(ticketId), String.valueOf(userId), String.valueOf(quantity), String.valueOf(entryWindow),
+                String.valueOf(System.currentTimeMillis()));
+
+        long code = result.get(0);
+        if (code == 0) {
+            throw new FlashSaleRejectedException("NOT_YOUR_TURN",
+                    String.format("아직 주문 차례가 아닙니다: 대기 순번=%d", result.get(1)));
+        }
+        if (code == -1) {
+            throw new FlashSaleRejectedException("INVALID_TICKET", "유효하지 않은 티켓입니다: " + ticketId);
+        }
+        if (code == -2) {
+            throw new FlashSaleRejectedException("TICKET_IN_USE", "이미 주문 진행 중인 티켓입니다: " + ticketId);
+        }
+    }
+
+    private void leave(Long productId, Long ticketId, boolean restore) {
+        execute(LEAVE_SCRIPT, productId, String.valueOf(ticketId), restore ? "1" : "0");
+    }
+
+    // 모든 스크립트에 세일 정보, 대기열, 티켓, 진입 티켓 키를 같은 순서로 넘김
+    private <T> T execute(RedisScript<T> script, Long productId, String... args) {
+        return redisTemplate.execute(script, keys(productId), (Object[]) args);
+    }
+
+    private List<String> keys(Long productId) {
+        return List.of(saleKey(productId), queueKey(productId), ticketsKey(productId), claimedKey(productId));
+    }
+
+    private static String saleKey(Long productId) {
+        return "flashsale:product:" + productId;
+    }
+
+    private static String queueKey(Long productId) {
+        return "flashsale:queue:" + productId;
+    }
+
+    private static String ticketsKey(Long productId) {
+        return "flashsale:tickets:" + productId;
+    }
+
+    private static String claimedKey(Long productId) {
+        return "flashsale:claimed:" + productId;
+    }
+}
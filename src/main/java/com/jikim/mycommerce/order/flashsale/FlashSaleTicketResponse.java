@@ -0,0 +1,19 @@
+package com.jikim.mycommerce.order.flashsale;
+
+/**
+ * FlashSaleTicketResponse
+ *
+ * 플래시 세일 대기 티켓 응답
+ * ready가 true가 되면 X-Flash-Sale-Ticket 헤더로 주문 가능
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+public record FlashSaleTicketResponse(
+        Long productId,
+        Long ticketId,
+        Integer quantity,
+        Long position,        // 앞에 남은 티켓 수
+        boolean ready
+) {
+}
@@ -0,0 +1,211 @@
+package com.jikim.mycommerce.order.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jikim.mycommerce.common.exception.IdempotencyKeyException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+
+import java.net.URI;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * OrderIdempotencyService
+ *
+ * 주문 생성 Idempotency-Key 처리 (Redis 결과 캐시)
+ * - 첫 요청이 Lua 스크립트로 키를 원자적으로 선점하고 주문 생성
+ * - 성공 응답(상태, Location, 본문)을 키에 저장 → 이후 같은 키 요청은 저장된 응답 재전송
+ * - 처리 중에 들어온 중복 요청은 결과가 저장될 때까지 대기 (재고, DB 접근 없음)
+ * - 처리 실패 시 선점 해제 → 클라이언트 재시도가 다시 처리
+ * - 키는 사용자별로 구분, 같은 키로 다른 요청 본문을 보내면 거절
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+@Slf4j
+@Service
+public class OrderIdempotencyService {
+
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final String KEY_PREFIX = "idempotency:order:";
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final long POLL_INTERVAL_MILLIS = 50;
+
+    // 반환: 선점 성공이면 빈 목록, 아니면 [상태, 지문] (StringRedisTemplate → 문자열 원소)
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static final RedisScript<List<String>> CLAIM_SCRIPT =
+            (RedisScript) RedisScript.of(new ClassPathResource("redis/idempotency_claim.lua"), List.class);
+    private static final RedisScript<Long> COMPLETE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/idempotency_complete.lua"), Long.class);
+    private static final RedisScript<Long> RELEASE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/idempotency_release.lua"), Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final long ttlMillis;
+    private final long leaseMillis;
+    private final long waitMillis;
+
+    public OrderIdempotencyService(StringRedisTemplate redisTemplate,
+                                   ObjectMapper objectMapper,
+                                   @Value("${mycommerce.order.idempotency.ttl-ms:86400000}") long ttlMillis,
+                                   @Value("${mycommerce.order.idempotency.lease-ms:30000}") long leaseMillis,
+                                   @Value("${mycommerce.order.idempotency.wait-ms:5000}") long waitMillis) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.ttlMillis = ttlMillis;
+        this.leaseMillis = leaseMillis;
+        this.waitMillis = waitMillis;
+    }
+
+    /**
+     * 같은 키로 처음 들어온 요청만 action을 실행하고, 나머지는 저장된 응답을 돌려준다
+     *
+     * @param userId 사용자 ID
+     * @param idempotencyKey Idempotency-Key 헤더 값
+     * @param request 요청 본문 (지문 계산용)
+     * @param action 주문 생성 (2xx 응답만 저장)
+     * @return 처리 응답 또는 저장된 응답 (Idempotent-Replayed: true)
+     * @throws IdempotencyKeyException 키 형식 오류, 처리 대기 시간 초과, 다른 요청에 재사용한 경우
+     */
+    public ResponseEntity<?> execute(Long userId, String idempotencyKey, Object request,
+                                     Supplier<ResponseEntity<?>> action) {
+        validate(idempotencyKey);
+
+        String key = KEY_PREFIX + userId + ":" + idempotencyKey;
+        String fingerprint = fingerprint(request);
+        String owner = UUID.randomUUID().toString();
+        long deadline = System.currentTimeMillis() + waitMillis;
+
+        while (true) {
+            List<String> existing = redisTemplate.execute(CLAIM_SCRIPT, List.of(key),
+                    owner, fingerprint, String.valueOf(leaseMillis));
+
+            if (existing == null || existing.isEmpty()) {
+                return process(key, owner, action);
+            }
+
+            if (!fingerprint.equals(existing.get(1))) {
+                throw new IdempotencyKeyException("IDEMPOTENCY_KEY_REUSED", HttpStatus.UNPROCESSABLE_ENTITY,
+                        "같은 Idempotency-Key로 다른 요청을 보낼 수 없습니다.");
+            }
+
+            if ("COMPLETED".equals(existing.get(0))) {
+                ResponseEntity<?> stored = replay(key);
+                if (stored != null) {
+                    return stored;
+                }
+                continue;   // 조회 직전 만료 → 다시 선점 시도
+            }
+
+            // 첫 요청 처리 중 → 결과 저장 또는 선점 해제까지 대기
+            if (System.currentTimeMillis() >= deadline) {
+                throw new IdempotencyKeyException("IDEMPOTENCY_IN_PROGRESS", HttpStatus.CONFLICT,
+                        "같은 Idempotency-Key 요청이 처리 중입니다. 잠시 후 다시 시도해주세요.");
+            }
+            sleep();
+        }
+    }
+
+    private ResponseEntity<?> process(String key, String owner, Supplier<ResponseEntity<?>> action) {
+        ResponseEntity<?> response;
+        try {
+            response = action.get();
+        } catch (RuntimeException e) {
+            release(key, owner);
+            throw e;
+        }
+
+        if (!response.getStatusCode().is2xxSuccessful()) {
+            release(key, owner);
+            return response;
+        }
+
+        // 주문은 이미 커밋됨 → 응답 저장에 실패해도 성공 응답을 돌려줌 (임대 만료 후 같은 키 재시도는 다시 처리될 수 있음)
+        try {
+            URI location = response.getHeaders().getLocation();
+            Long stored = redisTemplate.execute(COMPLETE_SCRIPT, List.of(key),
+                    owner,
+                    String.valueOf(ttlMillis),
+                    String.valueOf(response.getStatusCode().value()),
+                    location != null ? location.toString() : "",
+                    toJson(response.getBody()));
+
+            if (stored == null || stored == 0) {
+                log.warn("멱등 키 임대 만료 후 처리 완료: 키={}", key);
+            }
+        } catch (RuntimeException e) {
+            log.error("멱등 키 응답 저장 실패: 키={}", key, e);
+        }
+        return response;
+    }
+
+    // 해제 실패는 임대 만료로 풀림 → 원래 결과(예외, 응답)를 가리지 않음
+    private void release(String key, String owner) {
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(key), owner);
+        } catch (RuntimeException e) {
+            log.warn("멱등 키 선점 해제 실패: 키={}", key, e);
+        }
+    }
+
+    // 저장된 응답 본문(JSON)을 그대로 재전송
+    private ResponseEntity<?> replay(String key) {
+        List<Object> values = redisTemplate.opsForHash().multiGet(key, List.of("status", "location", "body"));
+        if (values.get(0) == null) {
+            return null;
+        }
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity
+                .status(Integer.parseInt((String) values.get(0)))
+                .header(REPLAYED_HEADER, "true")
+                .contentType(MediaType.APPLICATION_JSON);
+        String location = (String) values.get(1);
+        if (location != null && !location.isEmpty()) {
+            builder.location(URI.create(location));
+        }
+        return builder.body(values.get(2));
+    }
+
+    private void validate(String idempotencyKey) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new IdempotencyKeyException("INVALID_IDEMPOTENCY_KEY", HttpStatus.BAD_REQUEST,
+                    "Idempotency-Key는 1~" + MAX_KEY_LENGTH + "자여야 합니다.");
+        }
+    }
+
+    private String fingerprint(Object request) {
+        try {
+            return DigestUtils.md5DigestAsHex(objectMapper.writeValueAsBytes(request));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("요청 지문 계산 실패", e);
+        }
+    }
+
+    private String toJson(Object body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("응답 직렬화 실패", e);
+        }
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(POLL_INTERVAL_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("멱등 키 대기 중 인터럽트 발생", e);
+        }
+    }
+}
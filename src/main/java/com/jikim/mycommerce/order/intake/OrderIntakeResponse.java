@@ -0,0 +1,21 @@
+package com.jikim.mycommerce.order.intake;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+
+/**
+ * OrderIntakeResponse
+ *
+ * 비동기 주문 접수 응답
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+public record OrderIntakeResponse(
+        String trackingId,
+        OrderIntakeStatus status,
+        @JsonSerialize(using = ToStringSerializer.class)
+        Long orderId,         // COMPLETED일 때 주문 ID (Snowflake ID → JSON 문자열)
+        String message        // FAILED일 때 실패 사유
+) {
+}
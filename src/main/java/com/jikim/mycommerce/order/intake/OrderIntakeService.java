@@ -0,0 +1,196 @@
+package com.jikim.mycommerce.order.intake;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jikim.mycommerce.order.Order;
+import com.jikim.mycommerce.order.OrderCreateRequest;
+import com.jikim.mycommerce.order.OrderRepository;
+import com.jikim.mycommerce.order.OrderService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * OrderIntakeService
+ *
+ * 비동기 주문 접수
+ * - 요청 스레드는 주문 요청을 Redis 스트림(order:intake)에 적재하고 접수 ID만 반환
+ * - OrderIntakeWorker가 스트림을 읽어 기존 createOrder 로직 실행
+ * - 처리 결과는 접수 상태 해시(order:intake:status:{접수 ID})에 기록 → 클라이언트 폴링
+ * - 재고 차감 전에 접수 ID를 임대로 선점 → 재전달/인수로 같은 엔트리가 두 워커에 가도 한 번만 차감
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderIntakeService {
+
+    public static final String STREAM_KEY = "order:intake";
+    public static final String GROUP = "order-intake";
+    private static final String STATUS_KEY_PREFIX = "order:intake:status:";
+    private static final Duration STATUS_TTL = Duration.ofDays(1);
+
+    private static final RedisScript<String> CLAIM_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/order_intake_claim.lua"), String.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final OrderService orderService;
+    private final OrderRepository orderRepository;
+    private final ObjectMapper objectMapper;
+
+    // 처리 선점 유지 시간 (주문 생성 최대 소요 시간보다 길게)
+    @Value("${mycommerce.order.intake.lease-ms:120000}")
+    private long leaseMillis;
+
+    /**
+     * 주문 요청을 접수한다 (DB 접근 없음)
+     *
+     * @param userId 사용자 ID
+     * @param request 주문 생성 요청 (검증 완료)
+     * @return 접수 응답
+     */
+    public OrderIntakeResponse accept(Long userId, OrderCreateRequest request) {
+        String trackingId = UUID.randomUUID().toString();
+
+        String statusKey = statusKey(trackingId);
+        redisTemplate.opsForHash().putAll(statusKey, Map.of(
+                "status", OrderIntakeStatus.QUEUED.name(),
+                "userId", String.valueOf(userId)));
+        redisTemplate.expire(statusKey, STATUS_TTL);
+
+        redisTemplate.opsForStream().add(StreamRecords.newRecord()
+                .in(STREAM_KEY)
+                .ofMap(Map.of(
+                        "trackingId", trackingId,
+                        "userId", String.valueOf(userId),
+                        "payload", toJson(request))));
+
+        return new OrderIntakeResponse(trackingId, OrderIntakeStatus.QUEUED, null, null);
+    }
+
+    /**
+     * 접수 상태를 조회한다
+     *
+     * @param trackingId 접수 ID
+     * @param userId 사용자 ID
+     * @return 접수 응답
+     */
+    public OrderIntakeResponse getStatus(String trackingId, Long userId) {
+        List<Object> values = redisTemplate.opsForHash().multiGet(statusKey(trackingId),
+                List.of("status", "userId", "orderId", "message"));
+
+        if (values.get(0) == null || !String.valueOf(userId).equals(values.get(1))) {
+            throw new IllegalArgumentException("Order request not found: " + trackingId);
+        }
+
+        return new OrderIntakeResponse(trackingId,
+                OrderIntakeStatus.valueOf((String) values.get(0)),
+                values.get(2) != null ? Long.valueOf((String) values.get(2)) : null,
+                (String) values.get(3));
+    }
+
+    /**
+     * 스트림 엔트리 1건을 처리한다 (워커 스레드)
+     * 재전달된 엔트리는 이미 생성된 주문이 있으면 완료로 처리
+     * 주문 생성 실패는 FAILED로 기록, 상태 조회/기록 중 DB/Redis 오류는 그대로 던짐 (워커가 ACK하지 않고 재처리)
+     *
+     * @param record 접수 엔트리
+     * @return true: 결과 기록 완료 (ACK), false: 다른 워커가 처리 중 (ACK하지 않음)
+     */
+    public boolean process(MapRecord<String, String, String> record) {
+        Map<String, String> value = record.getValue();
+        String trackingId = value.get("trackingId");
+        Long userId = Long.valueOf(value.get("userId"));
+
+        Optional<Order> created = orderRepository.findByTrackingId(trackingId);
+        if (created.isPresent()) {
+            complete(trackingId, created.get().getId());
+            return true;
+        }
+
+        // 재고 차감 전에 선점 (PROCESSING + 처리자 + 임대 만료 시각)
+        String claim = redisTemplate.execute(CLAIM_SCRIPT, List.of(statusKey(trackingId)),
+                UUID.randomUUID().toString(), String.valueOf(leaseMillis));
+        if ("BUSY".equals(claim)) {
+            log.info("다른 워커가 처리 중인 접수 건: 접수 ID={}", trackingId);
+            return false;
+        }
+        if (!"CLAIMED".equals(claim)) {
+            return true;    // 이미 COMPLETED/FAILED 기록
+        }
+        redisTemplate.expire(statusKey(trackingId), STATUS_TTL);
+
+        try {
+            Order order = orderService.createOrder(userId, fromJson(value.get("payload")), trackingId);
+            complete(trackingId, order.getId());
+        } catch (DataIntegrityViolationException e) {
+            // 임대 만료 후 다른 워커가 같은 접수 ID로 먼저 생성 (lease-ms보다 오래 걸린 처리)
+            Optional<Order> duplicated = orderRepository.findByTrackingId(trackingId);
+            if (duplicated.isEmpty()) {
+                fail(trackingId, e);
+                return true;
+            }
+            log.warn("임대 만료 후 중복 처리된 접수 건: 접수 ID={}, 차감 재고 확인 필요", trackingId);
+            complete(trackingId, duplicated.get().getId());
+        } catch (RuntimeException e) {
+            fail(trackingId, e);
+        }
+        return true;
+    }
+
+    private void complete(String trackingId, Long orderId) {
+        updateStatus(trackingId, Map.of(
+                "status", OrderIntakeStatus.COMPLETED.name(),
+                "orderId", String.valueOf(orderId)));
+    }
+
+    private void fail(String trackingId, RuntimeException e) {
+        log.info("비동기 주문 실패: 접수 ID={}, 사유={}", trackingId, e.getMessage());
+        Map<String, String> fields = new HashMap<>();
+        fields.put("status", OrderIntakeStatus.FAILED.name());
+        fields.put("message", e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+        updateStatus(trackingId, fields);
+    }
+
+    private void updateStatus(String trackingId, Map<String, String> fields) {
+        String statusKey = statusKey(trackingId);
+        redisTemplate.opsForHash().putAll(statusKey, fields);
+        redisTemplate.expire(statusKey, STATUS_TTL);
+    }
+
+    private String toJson(OrderCreateRequest request) {
+        try {
+            return objectMapper.writeValueAsString(request);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("주문 요청 직렬화 실패", e);
+        }
+    }
+
+    private OrderCreateRequest fromJson(String payload) {
+        try {
+            return objectMapper.readValue(payload, OrderCreateRequest.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("주문 요청 역직렬화 실패", e);
+        }
+    }
+
+    private static String statusKey(String trackingId) {
+        return STATUS_KEY_PREFIX + trackingId;
+    }
+}
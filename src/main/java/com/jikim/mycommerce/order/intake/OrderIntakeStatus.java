@@ -0,0 +1,16 @@
+package com.jikim.mycommerce.order.intake;
+
+/**
+ * OrderIntakeStatus
+ *
+ * 비동기 주문 접수 상태
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+public enum OrderIntakeStatus {
+    QUEUED,         // 접수 (대기열 적재)
+    PROCESSING,     // 워커 처리 중
+    COMPLETED,      // 주문 생성 완료
+    FAILED          // 주문 생성 실패 (재고 부족 등)
+}
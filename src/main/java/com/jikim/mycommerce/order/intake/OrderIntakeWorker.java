@@ -0,0 +1,207 @@
+package com.jikim.mycommerce.order.intake;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer.StreamMessageListenerContainerOptions;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer.StreamReadRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * OrderIntakeWorker
+ *
+ * 비동기 주문 접수 스트림 워커 (mycommerce.order.intake.mode=async 일 때만 등록)
+ * - 워커 수만큼 컨슈머를 등록해 스트림을 배치 단위로 읽고 OrderIntakeService.process 실행
+ * - 처리 결과(COMPLETED/FAILED)를 기록한 뒤에만 ACK + 스트림에서 삭제
+ * - 결과 기록 전 DB/Redis 오류는 ACK하지 않음 → claim-idle-ms 이후 다시 인수해 재처리
+ * - 시작 시 자신이 읽고 ACK하지 못한 엔트리부터 처리, 오래 ACK되지 않은 엔트리(죽은 노드, 자신의 실패 건)는 claim-idle-ms 이후 인수
+ * - 가상 스레드 모드(spring.threads.virtual.enabled)면 워커를 가상 스레드로 실행
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "mycommerce.order.intake.mode", havingValue = "async")
+public class OrderIntakeWorker implements SmartLifecycle {
+
+    private final OrderIntakeService orderIntakeService;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisConnectionFactory connectionFactory;
+    private final String consumerPrefix;
+    private final int workers;
+    private final int batchSize;
+    private final Duration claimIdle;
+    private final boolean virtualThreads;
+
+    private StreamMessageListenerContainer<String, MapRecord<String, String, String>> container;
+    private ThreadPoolTaskExecutor executor;
+    private volatile boolean running;
+
+    public OrderIntakeWorker(OrderIntakeService orderIntakeService,
+                             StringRedisTemplate redisTemplate,
+                             RedisConnectionFactory connectionFactory,
+                             @Value("${mycommerce.order.intake.consumer:${HOSTNAME:order-intake}}") String consumerPrefix,
+                             @Value("${mycommerce.order.intake.workers:4}") int workers,
+                             @Value("${mycommerce.order.intake.batch-size:50}") int batchSize,
+                             @Value("${mycommerce.order.intake.claim-idle-ms:60000}") long claimIdleMillis,
+                             @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.orderIntakeService = orderIntakeService;
+        this.redisTemplate = redisTemplate;
+        this.connectionFactory = connectionFactory;
+        this.consumerPrefix = consumerPrefix;
+        this.workers = workers;
+        this.batchSize = batchSize;
+        this.claimIdle = Duration.ofMillis(claimIdleMillis);
+        this.virtualThreads = virtualThreads;
+    }
+
+    @Override
+    public void start() {
+        createGroupIfAbsent();
+
+        // 재시작 전 읽고 처리하지 못한 엔트리부터
+        for (int i = 0; i < workers; i++) {
+            drainPending(consumerName(i));
+        }
+
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setThreadNamePrefix("order-intake-");
+        if (virtualThreads) {
+            // 주문 처리 중 락/JDBC 대기는 캐리어 스레드를 반환
+            executor.setThreadFactory(Thread.ofVirtual().name("order-intake-", 0).factory());
+        }
+        executor.initialize();
+
+        StreamMessageListenerContainerOptions<String, MapRecord<String, String, String>> options =
+                StreamMessageListenerContainerOptions.builder()
+                        .batchSize(batchSize)
+                        .pollTimeout(Duration.ofSeconds(1))
+                        .executor(executor)
+                        .errorHandler(e -> log.error("주문 접수 스트림 읽기 실패", e))
+                        .build();
+        container = StreamMessageListenerContainer.create(connectionFactory, options);
+
+        // 워커(컨슈머)마다 구독 1개 = 폴링 스레드 1개
+        for (int i = 0; i < workers; i++) {
+            container.register(StreamReadRequest.builder(StreamOffset.create(OrderIntakeService.STREAM_KEY, ReadOffset.lastConsumed()))
+                            .consumer(Consumer.from(OrderIntakeService.GROUP, consumerName(i)))
+                            .autoAcknowledge(false)
+                            .cancelOnError(e -> false)
+                            .build(),
+                    this::handle);
+        }
+
+        container.start();
+        running = true;
+        log.info("주문 접수 워커 시작: 워커 수={}, 배치={}, 가상 스레드={}", workers, batchSize, virtualThreads);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (container != null) {
+            container.stop();
+        }
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 오래 ACK되지 않은 엔트리를 인수해 처리한다
+     * 죽은 노드가 읽은 엔트리, 인프라 오류로 남겨둔 엔트리 모두 대상 (처리 중인 엔트리는 유휴 시간이 짧아 제외)
+     */
+    @Scheduled(fixedDelayString = "${mycommerce.order.intake.claim-interval-ms:10000}")
+    public void claimStaleEntries() {
+        if (!running) {
+            return;
+        }
+
+        StreamOperations<String, String, String> streamOperations = redisTemplate.opsForStream();
+        RecordId[] staleIds = streamOperations.pending(OrderIntakeService.STREAM_KEY, OrderIntakeService.GROUP,
+                        Range.unbounded(), batchSize).stream()
+                .filter(message -> message.getElapsedTimeSinceLastDelivery().compareTo(claimIdle) > 0)
+                .map(PendingMessage::getId)
+                .toArray(RecordId[]::new);
+
+        if (staleIds.length > 0) {
+            // XCLAIM은 유휴 시간을 다시 확인하고 초기화 → 같은 엔트리를 두 노드가 동시에 인수하지 않음
+            List<MapRecord<String, String, String>> claimed = streamOperations.claim(OrderIntakeService.STREAM_KEY,
+                    OrderIntakeService.GROUP, consumerName(0), claimIdle, staleIds);
+            log.info("주문 접수 엔트리 인수: {}건", claimed.size());
+            claimed.forEach(this::handle);
+        }
+    }
+
+    private void handle(MapRecord<String, String, String> record) {
+        try {
+            if (!orderIntakeService.process(record)) {
+                return;     // 다른 워커가 임대 중 → 그 워커가 ACK, 죽었으면 임대 만료 후 다시 인수
+            }
+        } catch (RuntimeException e) {
+            // 결과 기록 전 오류 → ACK하지 않고 남겨 claimStaleEntries에서 재처리
+            log.warn("주문 접수 엔트리 처리 실패, 인수 후 재시도: 엔트리 ID={}", record.getId(), e);
+            return;
+        }
+
+        // 주문 실패도 상태에 기록됐으므로 ACK (재시도는 클라이언트 판단)
+        redisTemplate.opsForStream().acknowledge(OrderIntakeService.GROUP, record);
+        redisTemplate.opsForStream().delete(OrderIntakeService.STREAM_KEY, record.getId());
+    }
+
+    private void drainPending(String consumerName) {
+        StreamOperations<String, String, String> streamOperations = redisTemplate.opsForStream();
+        List<MapRecord<String, String, String>> records;
+        // 처리하지 못하고 남긴 엔트리를 다시 읽지 않도록 마지막 ID 다음부터 읽음
+        ReadOffset offset = ReadOffset.from("0");
+        do {
+            records = streamOperations.read(Consumer.from(OrderIntakeService.GROUP, consumerName),
+                    StreamReadOptions.empty().count(batchSize),
+                    StreamOffset.create(OrderIntakeService.STREAM_KEY, offset));
+            if (records != null && !records.isEmpty()) {
+                records.forEach(this::handle);
+                offset = ReadOffset.from(records.get(records.size() - 1).getId());
+            }
+        } while (records != null && !records.isEmpty());
+    }
+
+    private void createGroupIfAbsent() {
+        try {
+            redisTemplate.opsForStream().createGroup(OrderIntakeService.STREAM_KEY, ReadOffset.from("0"), OrderIntakeService.GROUP);
+        } catch (RedisSystemException e) {
+            // BUSYGROUP: 다른 노드가 이미 생성
+            log.debug("주문 접수 컨슈머 그룹 이미 존재: {}", e.getMessage());
+        }
+    }
+
+    private String consumerName(int index) {
+        return consumerPrefix + "-" + index;
+    }
+}
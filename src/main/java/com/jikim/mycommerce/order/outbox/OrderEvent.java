@@ -0,0 +1,38 @@
+package com.jikim.mycommerce.order.outbox;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import com.jikim.mycommerce.order.Order;
+import com.jikim.mycommerce.order.OrderStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * OrderEvent
+ *
+ * 주문 이벤트 본문 (order_outbox.payload, 스트림 payload 필드에 JSON으로 저장)
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+public record OrderEvent(
+        @JsonSerialize(using = ToStringSerializer.class)   // Snowflake ID (2^53 초과) → JSON 문자열
+        Long orderId,
+        Long userId,
+        OrderStatus status,
+        BigDecimal totalPrice,
+        int itemCount,
+        LocalDateTime occurredAt
+) {
+    public static OrderEvent of(Order order, LocalDateTime occurredAt) {
+        return new OrderEvent(
+                order.getId(),
+                order.getUser().getId(),
+                order.getStatus(),
+                order.getTotalPrice(),
+                order.getOrderItems().size(),
+                occurredAt
+        );
+    }
+}
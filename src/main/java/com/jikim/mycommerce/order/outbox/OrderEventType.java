@@ -0,0 +1,14 @@
+package com.jikim.mycommerce.order.outbox;
+
+/**
+ * OrderEventType
+ *
+ * 주문 이벤트 종류
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+public enum OrderEventType {
+    ORDER_CREATED,
+    ORDER_CANCELLED
+}
@@ -0,0 +1,70 @@
+package com.jikim.mycommerce.order.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jikim.mycommerce.order.Order;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * OrderOutbox
+ *
+ * 주문 이벤트 아웃박스 기록 (order_outbox)
+ * - 주문 저장과 같은 트랜잭션에서 INSERT → 주문이 커밋될 때만 이벤트도 남음 (이중 쓰기 없음)
+ * - 호출 측 트랜잭션에 참여해야 하므로 반드시 트랜잭션 안에서 호출
+ * - 발행은 OrderOutboxRelay가 비동기로 처리
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderOutbox {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO order_outbox (aggregate_id, event_type, payload, created_at) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 주문 이벤트를 기록한다
+     *
+     * @param order 주문 (ID 할당 완료)
+     * @param type 이벤트 종류
+     */
+    public void append(Order order, OrderEventType type) {
+        appendAll(List.of(order), type);
+    }
+
+    /**
+     * 여러 주문의 이벤트를 JDBC 배치로 기록한다
+     *
+     * @param orders 주문 목록 (ID 할당 완료)
+     * @param type 이벤트 종류
+     */
+    public void appendAll(List<Order> orders, OrderEventType type) {
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp timestamp = Timestamp.valueOf(now);
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, orders, orders.size(), (ps, order) -> {
+            ps.setLong(1, order.getId());
+            ps.setString(2, type.name());
+            ps.setString(3, toJson(OrderEvent.of(order, now)));
+            ps.setTimestamp(4, timestamp);
+        });
+    }
+
+    private String toJson(OrderEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("주문 이벤트 직렬화 실패", e);
+        }
+    }
+}
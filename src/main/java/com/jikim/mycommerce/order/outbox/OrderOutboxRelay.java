@@ -0,0 +1,124 @@
+package com.jikim.mycommerce.order.outbox;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * OrderOutboxRelay
+ *
+ * 주문 이벤트 아웃박스 → Redis 스트림(order:events) 발행
+ * - order_outbox를 ID 순으로 batch-size건씩 FOR UPDATE SKIP LOCKED로 읽음 → 노드 여러 대가 서로 다른 행을 나눠 처리
+ * - 배치를 파이프라인 XADD 1회로 발행한 뒤 같은 트랜잭션에서 행 삭제
+ * - XADD 후 커밋 전에 죽으면 다음 주기에 다시 발행 (최소 1회 전달) → 소비자는 eventId로 중복 제거
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+@Slf4j
+@Component
+public class OrderOutboxRelay {
+
+    public static final String STREAM_KEY = "order:events";
+
+    private static final String SELECT_SQL =
+            "SELECT id, aggregate_id, event_type, payload FROM order_outbox " +
+            "ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED";
+    private static final String DELETE_SQL = "DELETE FROM order_outbox WHERE id = ?";
+
+    private final StringRedisTemplate redisTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final XAddOptions addOptions;
+
+    public OrderOutboxRelay(StringRedisTemplate redisTemplate,
+                            JdbcTemplate jdbcTemplate,
+                            TransactionTemplate transactionTemplate,
+                            @Value("${mycommerce.order.outbox.batch-size:500}") int batchSize,
+                            @Value("${mycommerce.order.outbox.stream-max-length:100000}") long streamMaxLength) {
+        this.redisTemplate = redisTemplate;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.addOptions = XAddOptions.maxlen(streamMaxLength).approximateTrimming(true);
+    }
+
+    /**
+     * 쌓인 이벤트를 모두 발행한다
+     * 배치가 가득 차 있으면 빈 배치가 나올 때까지 이어서 처리
+     */
+    @Scheduled(fixedDelayString = "${mycommerce.order.outbox.relay-interval-ms:200}")
+    public void relay() {
+        try {
+            int relayed;
+            do {
+                relayed = relayBatch();
+            } while (relayed == batchSize);
+        } catch (RuntimeException e) {
+            log.warn("주문 이벤트 발행 실패, 다음 주기에 재시도", e);
+        }
+    }
+
+    /**
+     * 이벤트 한 배치를 발행하고 아웃박스에서 삭제한다
+     *
+     * @return 발행한 이벤트 수
+     */
+    public int relayBatch() {
+        Integer relayed = transactionTemplate.execute(status -> {
+            List<OutboxRow> rows = jdbcTemplate.query(SELECT_SQL, (rs, rowNum) -> new OutboxRow(
+                    rs.getLong("id"),
+                    rs.getLong("aggregate_id"),
+                    rs.getString("event_type"),
+                    rs.getString("payload")), batchSize);
+            if (rows.isEmpty()) {
+                return 0;
+            }
+
+            publish(rows);
+            jdbcTemplate.batchUpdate(DELETE_SQL, rows, rows.size(), (ps, row) -> ps.setLong(1, row.id()));
+            return rows.size();
+        });
+        return relayed != null ? relayed : 0;
+    }
+
+    // 배치 전체를 파이프라인으로 XADD (왕복 1회)
+    private void publish(List<OutboxRow> rows) {
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                StreamOperations<String, String, String> streamOps =
+                        (StreamOperations<String, String, String>) operations.opsForStream();
+                for (OutboxRow row : rows) {
+                    MapRecord<String, String, String> record = StreamRecords.newRecord()
+                            .in(STREAM_KEY)
+                            .ofMap(Map.of(
+                                    "eventId", String.valueOf(row.id()),
+                                    "type", row.eventType(),
+                                    "orderId", String.valueOf(row.aggregateId()),
+                                    "payload", row.payload()));
+                    streamOps.add(record, addOptions);
+                }
+                return null;
+            }
+        });
+    }
+
+    private record OutboxRow(Long id, Long aggregateId, String eventType, String payload) {
+    }
+}
@@ -0,0 +1,38 @@
+package com.jikim.mycommerce.order.summary;
+
+import com.jikim.mycommerce.order.Order;
+import com.jikim.mycommerce.order.OrderStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * OrderSummary
+ *
+ * 주문 요약 (Redis 읽기 모델 저장 단위)
+ * 재구축 시 orders 테이블에서 엔티티 로딩 없이 바로 조회
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+public record OrderSummary(
+        Long id,
+        Long userId,
+        OrderStatus status,
+        BigDecimal totalPrice,
+        Long itemCount,
+        LocalDateTime createdAt,
+        Long version
+) {
+    public static OrderSummary from(Order order) {
+        return new OrderSummary(
+                order.getId(),
+                order.getUser().getId(),
+                order.getStatus(),
+                order.getTotalPrice(),
+                (long) order.getOrderItems().size(),
+                order.getCreatedAt(),
+                order.getVersion() != null ? order.getVersion() : 0L
+        );
+    }
+}
@@ -0,0 +1,61 @@
+package com.jikim.mycommerce.order.summary;
+
+import com.jikim.mycommerce.auth.CustomOAuth2User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * OrderSummaryController
+ *
+ * 주문 요약 목록 API (Redis 읽기 모델, DB 조회 없음)
+ * 상세 항목이 필요하면 GET /orders/{id}
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+@RestController
+@RequestMapping("/orders/summaries")
+@RequiredArgsConstructor
+public class OrderSummaryController {
+
+    private final OrderSummaryService orderSummaryService;
+
+    /**
+     * 현재 사용자의 주문 요약을 최신순으로 조회한다
+     *
+     * @param offset 시작 위치
+     * @param size 페이지 크기 (최대 100)
+     * @param user 인증된 사용자
+     * @return 주문 요약 페이지 응답
+     */
+    @GetMapping
+    public ResponseEntity<OrderSummaryPageResponse> getUserSummaries(
+            @RequestParam(defaultValue = "0") int offset,
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal CustomOAuth2User user) {
+
+        if (user == null) {
+            throw new IllegalStateException("User not authenticated");
+        }
+
+        return ResponseEntity.ok(orderSummaryService.findUserSummaries(user.getUserId(), offset, size));
+    }
+
+    /**
+     * 현재 사용자의 주문 요약을 orders 테이블에서 다시 만든다
+     *
+     * @param user 인증된 사용자
+     * @return 응답 없음
+     */
+    @PostMapping("/rebuild")
+    public ResponseEntity<Void> rebuildUserSummaries(@AuthenticationPrincipal CustomOAuth2User user) {
+        if (user == null) {
+            throw new IllegalStateException("User not authenticated");
+        }
+
+        orderSummaryService.rebuildUser(user.getUserId());
+        return ResponseEntity.noContent().build();
+    }
+}
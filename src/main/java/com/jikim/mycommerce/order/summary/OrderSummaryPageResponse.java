@@ -0,0 +1,17 @@
+package com.jikim.mycommerce.order.summary;
+
+import java.util.List;
+
+/**
+ * OrderSummaryPageResponse
+ *
+ * 주문 요약 목록 페이지 응답
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+public record OrderSummaryPageResponse(
+        List<OrderSummaryResponse> orders,
+        long total
+) {
+}
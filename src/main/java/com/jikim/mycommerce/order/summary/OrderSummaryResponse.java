@@ -0,0 +1,26 @@
+package com.jikim.mycommerce.order.summary;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import com.jikim.mycommerce.order.OrderStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * OrderSummaryResponse
+ *
+ * 주문 요약 응답
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+public record OrderSummaryResponse(
+        @JsonSerialize(using = ToStringSerializer.class)   // Snowflake ID (2^53 초과) → JSON 문자열
+        Long id,
+        OrderStatus status,
+        BigDecimal totalPrice,
+        Long itemCount,
+        LocalDateTime createdAt
+) {
+}
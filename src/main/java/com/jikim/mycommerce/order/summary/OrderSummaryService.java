@@ -0,0 +1,195 @@
+package com.jikim.mycommerce.order.summary;
+
+import com.jikim.mycommerce.order.Order;
+import com.jikim.mycommerce.order.OrderRepository;
+import com.jikim.mycommerce.order.OrderStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * OrderSummaryService
+ *
+ * 사용자별 주문 요약 읽기 모델 (CQRS)
+ * - 사용자 주문 ZSET(order:summary:user:{userId}, 점수 = 생성일시) + 주문 요약 해시(order:summary:order:{orderId})
+ * - 주문 생성/취소 트랜잭션 커밋 후 갱신, 요약 목록 조회는 Redis만 사용
+ * - 재구축: orders 테이블에서 다시 생성 (전체: rebuildAll, 사용자: 요약이 없는 사용자의 첫 조회 시)
+ * - 저장은 버전 비교 후 반영 → 재구축과 커밋 갱신이 겹쳐도 오래된 상태로 덮어쓰지 않음
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderSummaryService {
+
+    private static final String USER_KEY_PREFIX = "order:summary:user:";
+    private static final String ORDER_KEY_PREFIX = "order:summary:order:";
+    // 요약이 구축된 사용자 (없으면 첫 조회 시 DB에서 재구축)
+    private static final String BUILT_USERS_KEY = "order:summary:users";
+    private static final int REBUILD_BATCH_SIZE = 500;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private static final RedisScript<Long> PUT_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/order_summary_put.lua"), Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final OrderRepository orderRepository;
+
+    /**
+     * 현재 트랜잭션이 커밋되면 주문 요약을 갱신한다
+     * 트랜잭션 밖에서 호출하면 바로 갱신
+     *
+     * @param order 생성/변경한 주문 (항목 로딩 완료)
+     */
+    public void putAfterCommit(Order order) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            putQuietly(order);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                // 커밋 시점 버전(취소 시 증가)으로 요약 생성
+                putQuietly(order);
+            }
+        });
+    }
+
+    /**
+     * 사용자의 주문 요약을 최신순으로 조회한다 (Redis만 조회)
+     *
+     * @param userId 사용자 ID
+     * @param offset 시작 위치
+     * @param size 페이지 크기 (최대 100)
+     * @return 주문 요약 페이지 응답
+     */
+    public OrderSummaryPageResponse findUserSummaries(Long userId, int offset, int size) {
+        if (!Boolean.TRUE.equals(redisTemplate.opsForSet().isMember(BUILT_USERS_KEY, String.valueOf(userId)))) {
+            rebuildUser(userId);
+        }
+
+        int start = Math.max(offset, 0);
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        String userKey = userKey(userId);
+
+        Set<String> orderIds = redisTemplate.opsForZSet().reverseRange(userKey, start, start + pageSize - 1);
+        Long total = redisTemplate.opsForZSet().zCard(userKey);
+        if (orderIds == null || orderIds.isEmpty()) {
+            return new OrderSummaryPageResponse(List.of(), total != null ? total : 0);
+        }
+
+        List<String> ids = new ArrayList<>(orderIds);
+        List<Object> hashes = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            ids.forEach(id -> hashGetAll(connection, orderKey(id)));
+            return null;
+        });
+
+        List<OrderSummaryResponse> summaries = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i++) {
+            @SuppressWarnings("unchecked")
+            Map<String, String> hash = (Map<String, String>) hashes.get(i);
+            if (hash != null && !hash.isEmpty()) {
+                summaries.add(toResponse(Long.valueOf(ids.get(i)), hash));
+            }
+        }
+        return new OrderSummaryPageResponse(summaries, total != null ? total : summaries.size());
+    }
+
+    /**
+     * 사용자 한 명의 주문 요약을 orders 테이블에서 다시 만든다
+     *
+     * @param userId 사용자 ID
+     */
+    public void rebuildUser(Long userId) {
+        List<OrderSummary> summaries = orderRepository.findSummariesByUserId(userId);
+        summaries.forEach(this::put);
+        redisTemplate.opsForSet().add(BUILT_USERS_KEY, String.valueOf(userId));
+        log.debug("주문 요약 재구축: 사용자 ID={}, 주문 수={}", userId, summaries.size());
+    }
+
+    /**
+     * 전체 주문 요약을 orders 테이블에서 다시 만든다
+     * 주문 ID 순으로 배치 조회 (cron 미설정 시 자동 실행 안 함)
+     */
+    @Scheduled(cron = "${mycommerce.order.summary.rebuild-cron:-}")
+    public void rebuildAll() {
+        long count = 0;
+        Long afterId = 0L;
+        while (true) {
+            List<OrderSummary> batch = orderRepository.findSummariesAfterId(afterId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+            if (batch.isEmpty()) {
+                break;
+            }
+            for (OrderSummary summary : batch) {
+                put(summary);
+                redisTemplate.opsForSet().add(BUILT_USERS_KEY, String.valueOf(summary.userId()));
+            }
+            count += batch.size();
+            afterId = batch.get(batch.size() - 1).id();
+        }
+        log.info("주문 요약 전체 재구축 완료: 주문 수={}", count);
+    }
+
+    private void putQuietly(Order order) {
+        try {
+            put(OrderSummary.from(order));
+        } catch (RuntimeException e) {
+            // 주문은 이미 커밋됨 → 요약만 누락, 재구축으로 복구
+            log.warn("주문 요약 갱신 실패: 주문 ID={}", order.getId(), e);
+        }
+    }
+
+    private void put(OrderSummary summary) {
+        redisTemplate.execute(PUT_SCRIPT,
+                List.of(userKey(summary.userId()), orderKey(String.valueOf(summary.id()))),
+                String.valueOf(summary.id()),
+                String.valueOf(summary.createdAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()),
+                String.valueOf(summary.version()),
+                summary.status().name(),
+                summary.totalPrice().toPlainString(),
+                String.valueOf(summary.itemCount()),
+                summary.createdAt().toString());
+    }
+
+    private OrderSummaryResponse toResponse(Long orderId, Map<String, String> hash) {
+        return new OrderSummaryResponse(
+                orderId,
+                OrderStatus.valueOf(hash.get("status")),
+                new BigDecimal(hash.get("totalPrice")),
+                Long.valueOf(hash.get("itemCount")),
+                LocalDateTime.parse(hash.get("createdAt")));
+    }
+
+    private static void hashGetAll(RedisConnection connection, String key) {
+        connection.hashCommands().hGetAll(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String userKey(Long userId) {
+        return USER_KEY_PREFIX + userId;
+    }
+
+    private static String orderKey(String orderId) {
+        return ORDER_KEY_PREFIX + orderId;
+    }
+}
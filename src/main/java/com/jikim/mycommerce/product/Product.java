@@ -5,19 +5,25 @@ import com.jikim.mycommerce.common.exception.InsufficientStockException;
 import com.jikim.mycommerce.common.exception.InvalidQuantityException;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.Formula;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 
 /**
  * Product
  *
  * 상품 정보
+ * 변경된 컬럼만 UPDATE (@DynamicUpdate) → 재고 변경이 name/description을 다시 쓰지 않아
+ * PostgreSQL search_vector(생성 컬럼) 재계산, GIN 인덱스 갱신이 일어나지 않음
  *
  * @author wjddl
  * @since 25. 11. 6.
  */
 @Entity
 @Table(name = "products")
+@DynamicUpdate
 @RequiredArgsConstructor
 @Getter
 @Setter
@@ -41,6 +47,20 @@ public class Product extends BaseTimeEntity {
     @Column(nullable = false)
     private Integer stock;
 
+    // 재고 버킷 모드 여부 (버킷 서브쿼리는 버킷 모드 상품 행에서만 실행)
+    @Column(nullable = false)
+    private boolean stockBucketed;
+
+    // 재고 버킷 합계 (버킷 모드 상품만 계산, 그 외 null)
+    @Formula("(CASE WHEN stock_bucketed THEN (SELECT COALESCE(SUM(b.stock), 0) FROM product_stock_buckets b WHERE b.product_id = id) END)")
+    @Setter(AccessLevel.NONE)
+    private Integer bucketStock;
+
+    // 버킷 재고 마지막 변경일시 (버킷 차감은 상품 행 updated_at을 바꾸지 않음, 버킷 모드 상품만 계산)
+    @Formula("(CASE WHEN stock_bucketed THEN (SELECT MAX(b.updated_at) FROM product_stock_buckets b WHERE b.product_id = id) END)")
+    @Setter(AccessLevel.NONE)
+    private LocalDateTime bucketUpdatedAt;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false, length = 20)
     private ProductStatus status;
@@ -49,6 +69,42 @@ public class Product extends BaseTimeEntity {
     private Long version;
 
 
+    /**
+     * 재고를 조회한다
+     * 버킷 모드 상품은 상품 행 재고 + 버킷 재고 합계
+     *
+     * @return 전체 재고
+     */
+    public Integer getStock() {
+        return bucketStock != null ? stock + bucketStock : stock;
+    }
+
+    /**
+     * 상품 행 재고를 조회한다 (버킷 재고 제외)
+     *
+     * @return 상품 행 재고
+     */
+    public Integer getBaseStock() {
+        return stock;
+    }
+
+    /**
+     * 마지막 수정일시를 조회한다 (Last-Modified)
+     * 버킷 모드 상품은 상품 행 수정일시와 버킷 재고 변경일시 중 늦은 값
+     *
+     * @return 마지막 수정일시
+     */
+    public LocalDateTime getLastModifiedAt() {
+        return lastModifiedAt(getUpdatedAt(), bucketUpdatedAt);
+    }
+
+    static LocalDateTime lastModifiedAt(LocalDateTime updatedAt, LocalDateTime bucketUpdatedAt) {
+        if (bucketUpdatedAt == null) {
+            return updatedAt;
+        }
+        return updatedAt == null || bucketUpdatedAt.isAfter(updatedAt) ? bucketUpdatedAt : updatedAt;
+    }
+
     /**
      * 상품 정보를 수정한다
      *
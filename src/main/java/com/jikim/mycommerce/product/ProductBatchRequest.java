@@ -0,0 +1,22 @@
+package com.jikim.mycommerce.product;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * ProductBatchRequest
+ *
+ * 상품 일괄 조회 요청 (ID 목록이 길어 쿼리 문자열에 담기 어려운 경우)
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+public record ProductBatchRequest(
+        @NotEmpty(message = "상품 ID 목록은 필수입니다")
+        @Size(max = 500, message = "상품은 한 번에 500개까지 조회할 수 있습니다")
+        List<@NotNull Long> ids
+) {
+}
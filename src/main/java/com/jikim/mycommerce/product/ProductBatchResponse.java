@@ -0,0 +1,18 @@
+package com.jikim.mycommerce.product;
+
+import java.util.List;
+
+/**
+ * ProductBatchResponse
+ *
+ * 상품 일괄 조회 응답
+ * products는 요청 순서 (중복 ID는 한 번), 없는 상품 ID는 missingIds
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+public record ProductBatchResponse(
+        List<ProductResponse> products,
+        List<Long> missingIds
+) {
+}
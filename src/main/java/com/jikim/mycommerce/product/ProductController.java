@@ -1,10 +1,21 @@
 package com.jikim.mycommerce.product;
 
+import com.jikim.mycommerce.product.catalog.CatalogPage;
+import com.jikim.mycommerce.product.catalog.CatalogSnapshotService;
+import com.jikim.mycommerce.product.search.ProductSearchResponse;
+import com.jikim.mycommerce.product.stream.StockStreamService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.math.BigDecimal;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
@@ -23,6 +34,8 @@ import java.util.List;
 public class ProductController {
 
     private final ProductService productService;
+    private final CatalogSnapshotService catalogSnapshotService;
+    private final StockStreamService stockStreamService;
 
     /**
      * 상품을 생성한다
@@ -41,29 +54,130 @@ public class ProductController {
 
     /**
      * 상품을 조회한다
+     * If-None-Match/If-Modified-Since가 있으면 버전만 조회해 변경이 없을 때 304 (응답 본문 생성 없음)
      *
      * @param id 상품 ID
-     * @return 상품 응답
+     * @param request 요청 (조건부 헤더)
+     * @return 상품 응답 (ETag, Last-Modified 포함)
      */
     @GetMapping("/{id}")
-    public ResponseEntity<ProductResponse> getProduct(@PathVariable Long id) {
-        Product product = productService.findProductById(id);
-        return ResponseEntity.ok(ProductResponse.from(product));
+    public ResponseEntity<ProductResponse> getProduct(@PathVariable Long id, WebRequest request) {
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                || request.getHeader(HttpHeaders.IF_MODIFIED_SINCE) != null) {
+            ProductVersion version = productService.getProductVersion(id);
+            if (request.checkNotModified(version.etag(), version.lastModified())) {
+                return null;   // 304 응답은 checkNotModified가 작성
+            }
+        }
+
+        ProductResponse product = productService.getProduct(id);
+        ProductVersion version = ProductVersion.from(product);
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok().eTag(version.etag());
+        if (version.lastModified() >= 0) {
+            builder.lastModified(version.lastModified());
+        }
+        return builder.body(product);
     }
 
     /**
-     * 모든 상품을 조회한다
+     * 상품 목록을 한 페이지 조회한다 (description 제외 요약)
      *
-     * @return 상품 목록 응답
+     * @param status 판매 상태 (생략 시 전체)
+     * @param minPrice 최소 가격 (포함)
+     * @param maxPrice 최대 가격 (포함)
+     * @param sort 정렬 기준 (PRICE, CREATED, NAME)
+     * @param direction 정렬 방향 (생략 시 CREATED는 DESC, 나머지는 ASC)
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 생략, 같은 정렬 조건으로만 사용)
+     * @param size 페이지 크기 (최대 100)
+     * @return 상품 페이지 응답
      */
     @GetMapping
-    public ResponseEntity<List<ProductResponse>> getAllProducts() {
-        List<Product> products = productService.findAllProducts();
-        return ResponseEntity.ok(
-                products.stream()
-                        .map(ProductResponse::from)
-                        .toList()
-        );
+    public ResponseEntity<ProductPageResponse> getProducts(
+            @RequestParam(required = false) ProductStatus status,
+            @RequestParam(required = false) BigDecimal minPrice,
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @RequestParam(defaultValue = "CREATED") ProductSort sort,
+            @RequestParam(required = false) Sort.Direction direction,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        ProductSearchCondition condition = new ProductSearchCondition(status, minPrice, maxPrice, sort, direction);
+        return ResponseEntity.ok(productService.findProducts(condition, cursor, size));
+    }
+
+    /**
+     * 여러 상품을 한 번에 조회한다 (GET /products?ids=1,2,3)
+     *
+     * @param ids 상품 ID 목록 (최대 500)
+     * @return 요청 순서의 상품 응답 + 없는 상품 ID
+     */
+    @GetMapping(params = "ids")
+    public ResponseEntity<ProductBatchResponse> getProductsByIds(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(productService.getProducts(ids));
+    }
+
+    /**
+     * 여러 상품을 한 번에 조회한다 (ID 목록이 긴 경우 본문으로 전달)
+     *
+     * @param request 상품 ID 목록
+     * @return 요청 순서의 상품 응답 + 없는 상품 ID
+     */
+    @PostMapping("/lookup")
+    public ResponseEntity<ProductBatchResponse> lookupProducts(@Valid @RequestBody ProductBatchRequest request) {
+        return ResponseEntity.ok(productService.getProducts(request.ids()));
+    }
+
+    /**
+     * 카탈로그 페이지를 조회한다 (미리 직렬화한 JSON 바이트)
+     * Accept-Encoding에 gzip이 있으면 미리 압축한 바이트, If-None-Match가 일치하면 304
+     *
+     * @param page 페이지 번호 (0부터)
+     * @param ifNoneMatch If-None-Match 헤더
+     * @param acceptEncoding Accept-Encoding 헤더
+     * @return 카탈로그 페이지 JSON (없는 페이지면 404)
+     */
+    @GetMapping("/catalog")
+    public ResponseEntity<byte[]> getCatalogPage(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        CatalogPage catalogPage = catalogSnapshotService.getPage(page);
+        if (catalogPage == null) {
+            return ResponseEntity.notFound().build();
+        }
+
+        boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+        String etag = gzip ? catalogPage.gzipEtag() : catalogPage.etag();
+        if (catalogPage.matches(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .eTag(etag)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .contentType(MediaType.APPLICATION_JSON);
+        if (gzip) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(catalogPage.gzip());
+        }
+        return builder.body(catalogPage.json());
+    }
+
+    /**
+     * 상품을 검색한다 (상품명, 설명 / 관련도 순)
+     *
+     * @param q 검색어 (공백으로 구분한 단어 모두 포함)
+     * @param offset 시작 위치 (이전 응답의 nextOffset, 최대 1000)
+     * @param size 페이지 크기 (최대 100)
+     * @return 상품 검색 응답
+     */
+    @GetMapping("/search")
+    public ResponseEntity<ProductSearchResponse> searchProducts(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "0") int offset,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(productService.searchProducts(q, offset, size));
     }
 
     /**
@@ -81,6 +195,45 @@ public class ProductController {
         return ResponseEntity.ok(ProductResponse.from(product));
     }
 
+    /**
+     * 상품 재고 변경을 SSE로 구독한다 (폴링 대체)
+     * 구독 즉시 현재 재고, 이후 바뀔 때마다 stock 이벤트 ({"productId":1,"stock":3})
+     *
+     * @param id 상품 ID
+     * @return SSE 연결
+     */
+    @GetMapping(value = "/{id}/stock/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamStock(@PathVariable Long id) {
+        return stockStreamService.subscribe(id);
+    }
+
+    /**
+     * 상품 재고를 버킷으로 분할한다 (핫 상품용)
+     *
+     * @param id 상품 ID
+     * @param count 버킷 수
+     * @return 수정된 상품 응답
+     */
+    @PostMapping("/{id}/stock-buckets")
+    public ResponseEntity<ProductResponse> enableStockBuckets(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "8") int count) {
+        Product product = productService.enableStockBuckets(id, count);
+        return ResponseEntity.ok(ProductResponse.from(product));
+    }
+
+    /**
+     * 재고 버킷을 상품 재고로 합친다
+     *
+     * @param id 상품 ID
+     * @return 수정된 상품 응답
+     */
+    @DeleteMapping("/{id}/stock-buckets")
+    public ResponseEntity<ProductResponse> disableStockBuckets(@PathVariable Long id) {
+        Product product = productService.disableStockBuckets(id);
+        return ResponseEntity.ok(ProductResponse.from(product));
+    }
+
     /**
      * 상품을 삭제한다
      *
@@ -0,0 +1,83 @@
+package com.jikim.mycommerce.product;
+
+import com.jikim.mycommerce.common.exception.InvalidRequestException;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * ProductCursor
+ *
+ * 상품 목록 키셋 페이지 커서 (정렬 기준, 방향, 정렬 값, id)
+ * 클라이언트에는 Base64 URL 문자열(nextCursor)로만 노출
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+public record ProductCursor(
+        ProductSort sort,
+        Sort.Direction direction,
+        String value,
+        Long id
+) {
+
+    private static final char SEPARATOR = '_';
+
+    /**
+     * 페이지 마지막 상품으로 커서를 만든다
+     *
+     * @param condition 조회 조건
+     * @param last 페이지 마지막 상품
+     * @return 커서
+     */
+    public static ProductCursor of(ProductSearchCondition condition, ProductSummaryResponse last) {
+        return new ProductCursor(condition.sort(), condition.direction(), condition.sort().valueOf(last), last.id());
+    }
+
+    public String encode() {
+        String raw = sort.name() + SEPARATOR + direction.name() + SEPARATOR + value + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 정렬 값을 쿼리 파라미터 타입으로 변환한다
+     *
+     * @return 정렬 값
+     */
+    public Object sortValue() {
+        return sort.parse(value);
+    }
+
+    /**
+     * nextCursor 문자열을 커서로 변환한다
+     * 정렬 값(상품명)에 구분자가 있을 수 있어 앞 두 개, 마지막 한 개 구분자로 자름
+     *
+     * @param cursor nextCursor
+     * @param condition 현재 조회 조건 (커서를 만든 정렬과 같아야 함)
+     * @return 커서
+     * @throws InvalidRequestException 형식이 올바르지 않거나 정렬 조건이 다른 경우
+     */
+    public static ProductCursor decode(String cursor, ProductSearchCondition condition) {
+        ProductCursor decoded;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int first = raw.indexOf(SEPARATOR);
+            int second = raw.indexOf(SEPARATOR, first + 1);
+            int last = raw.lastIndexOf(SEPARATOR);
+            decoded = new ProductCursor(
+                    ProductSort.valueOf(raw.substring(0, first)),
+                    Sort.Direction.valueOf(raw.substring(first + 1, second)),
+                    raw.substring(second + 1, last),
+                    Long.valueOf(raw.substring(last + 1)));
+            decoded.sortValue();   // 정렬 값 형식 검증
+        } catch (RuntimeException e) {
+            throw new InvalidRequestException("Invalid cursor: " + cursor, e);
+        }
+
+        if (decoded.sort() != condition.sort() || decoded.direction() != condition.direction()) {
+            throw new InvalidRequestException("Cursor does not match sort: " + condition.sort() + " " + condition.direction());
+        }
+        return decoded;
+    }
+}
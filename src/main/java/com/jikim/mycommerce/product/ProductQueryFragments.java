@@ -0,0 +1,103 @@
+package com.jikim.mycommerce.product;
+
+import org.springframework.data.domain.Sort;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * ProductQueryFragments
+ *
+ * 상품 목록/LIKE 검색 조건절 생성 (JPQL, R2DBC SQL 공용)
+ * - 별칭 p, 이름 파라미터(:name)만 사용 → JPQL과 네이티브 SQL에 그대로 붙일 수 있음
+ * - ProductQueryRepository, LikeProductSearchRepository, ReactiveProductRepository가 같은 조건과 순서로 조회
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+public final class ProductQueryFragments {
+
+    private ProductQueryFragments() {
+    }
+
+    /**
+     * 조건절과 바인딩할 파라미터
+     *
+     * @param sql FROM 뒤에 붙일 WHERE ... ORDER BY ...
+     * @param parameters 이름 파라미터 값 (status는 ProductStatus)
+     */
+    public record Fragment(String sql, Map<String, Object> parameters) {
+    }
+
+    /**
+     * 목록 조회 필터 + 키셋 조건 + 정렬
+     * 키셋 조건: 정렬 컬럼 범위 + (정렬 컬럼, id) 동점 처리 → (status, 정렬 컬럼, id) 인덱스 범위 스캔
+     *
+     * @param condition 조회 조건
+     * @param after 이전 페이지 커서 (첫 페이지는 null)
+     * @param column 정렬 컬럼 (JPQL: p.createdAt, SQL: p.created_at)
+     * @return 조건절
+     */
+    public static Fragment listing(ProductSearchCondition condition, ProductCursor after, String column) {
+        boolean ascending = condition.direction() == Sort.Direction.ASC;
+        StringBuilder sql = new StringBuilder(" WHERE 1 = 1");
+        Map<String, Object> parameters = new LinkedHashMap<>();
+
+        if (condition.status() != null) {
+            sql.append(" AND p.status = :status");
+            parameters.put("status", condition.status());
+        }
+        if (condition.minPrice() != null) {
+            sql.append(" AND p.price >= :minPrice");
+            parameters.put("minPrice", condition.minPrice());
+        }
+        if (condition.maxPrice() != null) {
+            sql.append(" AND p.price <= :maxPrice");
+            parameters.put("maxPrice", condition.maxPrice());
+        }
+        if (after != null) {
+            sql.append(ascending
+                    ? " AND " + column + " >= :sortValue AND (" + column + " > :sortValue OR p.id > :id)"
+                    : " AND " + column + " <= :sortValue AND (" + column + " < :sortValue OR p.id < :id)");
+            parameters.put("sortValue", after.sortValue());
+            parameters.put("id", after.id());
+        }
+
+        String direction = ascending ? "ASC" : "DESC";
+        sql.append(" ORDER BY ").append(column).append(' ').append(direction)
+                .append(", p.id ").append(direction);
+        return new Fragment(sql.toString(), parameters);
+    }
+
+    /**
+     * LIKE 검색 조건 + 관련도 정렬 (전문 검색 대체)
+     * 검색어를 공백으로 나눠 단어마다 상품명 또는 설명 LIKE (모두 포함), 상품명에 일치한 단어 수 내림차순
+     *
+     * @param query 검색어
+     * @return 조건절 (검색 단어가 없으면 null)
+     */
+    public static Fragment likeSearch(String query) {
+        List<String> terms = Arrays.stream(query.toLowerCase(Locale.ROOT).split("\\s+"))
+                .filter(term -> !term.isEmpty())
+                .map(term -> "%" + term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%")
+                .toList();
+        if (terms.isEmpty()) {
+            return null;
+        }
+
+        StringBuilder where = new StringBuilder();
+        StringBuilder nameMatches = new StringBuilder("0");
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        for (int i = 0; i < terms.size(); i++) {
+            where.append(i == 0 ? " WHERE " : " AND ")
+                    .append("(LOWER(p.name) LIKE :term").append(i).append(" ESCAPE '\\'")
+                    .append(" OR LOWER(p.description) LIKE :term").append(i).append(" ESCAPE '\\')");
+            nameMatches.append(" + CASE WHEN LOWER(p.name) LIKE :term").append(i).append(" ESCAPE '\\' THEN 1 ELSE 0 END");
+            parameters.put("term" + i, terms.get(i));
+        }
+        return new Fragment(where + " ORDER BY " + nameMatches + " DESC, p.id DESC", parameters);
+    }
+}
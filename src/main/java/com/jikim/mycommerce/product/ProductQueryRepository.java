@@ -0,0 +1,45 @@
+package com.jikim.mycommerce.product;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * ProductQueryRepository
+ *
+ * 상품 목록 조회 (필터, 정렬 조합에 따라 JPQL 생성)
+ * - description 없이 요약 컬럼만 프로젝션
+ * - 필터/키셋/정렬 조건절은 ProductQueryFragments (리액티브 카탈로그와 공용)
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProductQueryRepository {
+
+    private final EntityManager entityManager;
+
+    /**
+     * 조건에 맞는 상품 요약을 정렬 순서로 조회한다
+     *
+     * @param condition 조회 조건
+     * @param after 이전 페이지 커서 (첫 페이지는 null)
+     * @param limit 최대 조회 수
+     * @return 상품 요약 목록
+     */
+    public List<ProductSummaryResponse> findSummaries(ProductSearchCondition condition, ProductCursor after, int limit) {
+        ProductQueryFragments.Fragment fragment =
+                ProductQueryFragments.listing(condition, after, "p." + condition.sort().property());
+
+        TypedQuery<ProductSummaryResponse> query = entityManager.createQuery(
+                "SELECT new com.jikim.mycommerce.product.ProductSummaryResponse(" +
+                "p.id, p.name, p.price, p.stock, p.bucketStock, p.status, p.createdAt) " +
+                "FROM Product p" + fragment.sql(), ProductSummaryResponse.class);
+        fragment.parameters().forEach(query::setParameter);
+        return query.setMaxResults(limit).getResultList();
+    }
+}
@@ -1,11 +1,16 @@
 package com.jikim.mycommerce.product;
 
+import com.jikim.mycommerce.product.catalog.CatalogItem;
 import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -29,4 +34,105 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     @Query("SELECT p FROM Product p WHERE p.id = :productId")
     Optional<Product> findByIdWithPessimisticLock(Long productId);
 
+    /**
+     * 비관적 락으로 여러 상품 조회
+     * 상품 ID 순으로 행 락을 획득해 교착 상태 방지
+     *
+     * @param productIds 상품 ID 목록
+     * @return 상품 목록 (ID 오름차순)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Product p WHERE p.id IN :productIds ORDER BY p.id")
+    List<Product> findAllByIdInWithPessimisticLock(@Param("productIds") Collection<Long> productIds);
+
+    /**
+     * 상품 ID, 재고만 조회 (엔티티 로딩 x)
+     *
+     * @param productIds 상품 ID 목록
+     * @return 상품별 재고
+     */
+    @Query("SELECT new com.jikim.mycommerce.product.ProductStock(p.id, p.stock) " +
+           "FROM Product p WHERE p.id IN :productIds")
+    List<ProductStock> findStocksByIdIn(@Param("productIds") Collection<Long> productIds);
+
+    /**
+     * 상품 버전, 재고, 수정일시만 조회한다 (조건부 GET 판단용, 엔티티 로딩 x)
+     *
+     * @param id 상품 ID
+     * @return 상품 버전
+     */
+    @Query("SELECT new com.jikim.mycommerce.product.ProductVersion(" +
+           "p.version, p.stock, p.bucketStock, p.updatedAt, p.bucketUpdatedAt) " +
+           "FROM Product p WHERE p.id = :id")
+    Optional<ProductVersion> findVersionById(@Param("id") Long id);
+
+    /**
+     * 카탈로그 항목을 상품 ID 순으로 조회한다 (ID 키셋 배치)
+     *
+     * @param afterId 이전 배치 마지막 상품 ID (처음은 0)
+     * @param pageable 배치 크기
+     * @return 카탈로그 항목 목록
+     */
+    @Query("SELECT new com.jikim.mycommerce.product.catalog.CatalogItem(p.id, p.name, p.price, p.status) " +
+           "FROM Product p WHERE p.id > :afterId ORDER BY p.id")
+    List<CatalogItem> findCatalogItemsAfterId(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * 카탈로그 항목을 조회한다
+     *
+     * @param productIds 상품 ID 목록
+     * @return 카탈로그 항목 목록 (삭제된 상품 제외)
+     */
+    @Query("SELECT new com.jikim.mycommerce.product.catalog.CatalogItem(p.id, p.name, p.price, p.status) " +
+           "FROM Product p WHERE p.id IN :productIds")
+    List<CatalogItem> findCatalogItemsByIdIn(@Param("productIds") Collection<Long> productIds);
+
+    /**
+     * 상품 ID, 전체 재고(버킷 재고 포함)만 조회 (재고 스트림용, 엔티티 로딩 x)
+     *
+     * @param productIds 상품 ID 목록
+     * @return 상품별 전체 재고
+     */
+    @Query("SELECT new com.jikim.mycommerce.product.ProductStock(p.id, p.stock + COALESCE(p.bucketStock, 0)) " +
+           "FROM Product p WHERE p.id IN :productIds")
+    List<ProductStock> findTotalStocksByIdIn(@Param("productIds") Collection<Long> productIds);
+
+    /**
+     * 재고를 차감한다 (재고 검증 없음)
+     * Redis 재고 엔진에서 이미 검증/차감된 수량을 DB에 반영할 때 사용
+     *
+     * @param productId 상품 ID
+     * @param quantity 차감 수량
+     * @return 수정된 행 수
+     */
+    @Modifying
+    @Query("UPDATE Product p SET p.stock = p.stock - :quantity, p.version = p.version + 1, p.updatedAt = LOCAL DATETIME " +
+           "WHERE p.id = :productId")
+    int subtractStock(@Param("productId") Long productId, @Param("quantity") Integer quantity);
+
+    /**
+     * 재고를 증가시킨다 (차감 보상 등)
+     *
+     * @param productId 상품 ID
+     * @param quantity 증가 수량
+     * @return 수정된 행 수
+     */
+    @Modifying
+    @Query("UPDATE Product p SET p.stock = p.stock + :quantity, p.version = p.version + 1, p.updatedAt = LOCAL DATETIME " +
+           "WHERE p.id = :productId")
+    int addStock(@Param("productId") Long productId, @Param("quantity") Integer quantity);
+
+    /**
+     * 재고가 충분할 때만 재고를 차감한다 (조건부 단일 UPDATE)
+     * 엔티티 조회, 비관적 락, 분산 락 없이 DB 행 락만으로 동시성 보장
+     *
+     * @param productId 상품 ID
+     * @param quantity 차감 수량
+     * @return 수정된 행 수 (0이면 재고 부족 또는 상품 없음)
+     */
+    @Modifying
+    @Query("UPDATE Product p SET p.stock = p.stock - :quantity, p.version = p.version + 1, p.updatedAt = LOCAL DATETIME " +
+           "WHERE p.id = :productId AND p.stock >= :quantity")
+    int decreaseStockIfAvailable(@Param("productId") Long productId, @Param("quantity") Integer quantity);
+
 }
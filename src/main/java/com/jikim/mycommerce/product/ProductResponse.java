@@ -19,7 +19,8 @@ public record ProductResponse(
         Integer stock,
         ProductStatus status,
         LocalDateTime createdAt,
-        LocalDateTime updatedAt
+        LocalDateTime updatedAt,
+        Long version
 ) {
     public static ProductResponse from(Product product) {
         return new ProductResponse(
@@ -30,7 +31,8 @@ public record ProductResponse(
                 product.getStock(),
                 product.getStatus(),
                 product.getCreatedAt(),
-                product.getUpdatedAt()
+                product.getLastModifiedAt(),
+                product.getVersion()
         );
     }
 }
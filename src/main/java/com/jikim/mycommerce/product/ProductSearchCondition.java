@@ -0,0 +1,36 @@
+package com.jikim.mycommerce.product;
+
+import com.jikim.mycommerce.common.exception.InvalidRequestException;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+
+/**
+ * ProductSearchCondition
+ *
+ * 상품 목록 조회 조건
+ * status, minPrice, maxPrice는 null이면 조건 없음, direction이 null이면 정렬 기준의 기본 방향
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+public record ProductSearchCondition(
+        ProductStatus status,
+        BigDecimal minPrice,
+        BigDecimal maxPrice,
+        ProductSort sort,
+        Sort.Direction direction
+) {
+
+    public ProductSearchCondition {
+        if (sort == null) {
+            sort = ProductSort.CREATED;
+        }
+        if (direction == null) {
+            direction = sort.defaultDirection();
+        }
+        if (minPrice != null && maxPrice != null && minPrice.compareTo(maxPrice) > 0) {
+            throw new InvalidRequestException("minPrice must not be greater than maxPrice");
+        }
+    }
+}
@@ -1,14 +1,22 @@
 package com.jikim.mycommerce.product;
 
+import com.jikim.mycommerce.common.exception.InvalidRequestException;
+import com.jikim.mycommerce.product.cache.ProductCache;
+import com.jikim.mycommerce.product.search.ProductSearchRepository;
+import com.jikim.mycommerce.product.search.ProductSearchResponse;
+import com.jikim.mycommerce.product.stock.BucketedStockService;
+import com.jikim.mycommerce.product.stock.StockDecrementStrategies;
 import lombok.RequiredArgsConstructor;
-import org.redisson.api.RLock;
-import org.redisson.api.RedissonClient;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * ProductService
@@ -23,8 +31,16 @@ import java.util.concurrent.TimeUnit;
 @Transactional(readOnly = true)
 public class ProductService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_BATCH_SIZE = 500;
+    private static final int MAX_SEARCH_OFFSET = 1000;   // 관련도 정렬은 매 페이지 전체 일치 결과를 정렬 → 깊은 페이지 제한
+
     private final ProductRepository productRepository;
-    private final RedissonClient redissonClient;
+    private final StockDecrementStrategies stockDecrementStrategies;
+    private final BucketedStockService bucketedStockService;
+    private final ProductCache productCache;
+    private final ProductQueryRepository productQueryRepository;
+    private final ProductSearchRepository productSearchRepository;
 
     /**
      * 상품을 생성한다
@@ -42,70 +58,171 @@ public class ProductService {
                 .status(ProductStatus.AVAILABLE)
                 .build();
 
-        return productRepository.save(product);
+        Product saved = productRepository.save(product);
+        productCache.evictAfterCompletion(saved.getId(), saved::getVersion);   // 새 상품 알림 (카탈로그 스냅샷 갱신)
+        return saved;
     }
 
     /**
      * 상품 재고를 차감한다
      *
-     * 주의: 동시성 제어는 Service 계층에서 처리!
-     * - Redis 분산 락 (ProductService)        ← Service 책임
-     * - DB Pessimistic Lock (Repository)      ← Repository 책임
-     * - Optimistic Lock (@Version 자동 처리)   ← JPA 책임
-     *
      * @param productId 상품ID
      * @param quantity  주문 개수
      */
-    @Transactional(propagation = Propagation.REQUIRES_NEW)  // ← 별도 트랜잭션으로 관리
-    public void decreaseStockWithLock(Long productId, Integer quantity) {
-        RLock lock = redissonClient.getLock("lock:product:" + productId);
-
-        try {
-            // Redis distributed lock으로 동시성 제어
-            boolean acquired = lock.tryLock(10, 10, TimeUnit.SECONDS);
-            if (!acquired) {
-                throw new IllegalStateException("재고 락 획득 실패");
-            }
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void decreaseStock(Long productId, Integer quantity) {
+        decreaseStocks(Map.of(productId, quantity));
+    }
+
+    /**
+     * 주문 전체 상품 재고를 차감한다
+     *
+     * 동시성 제어 방식은 mycommerce.stock.strategy로 선택 (StockDecrementStrategy 구현체)
+     * - 호출한 주문 트랜잭션에 참여 (전략별 차감 트랜잭션은 각 전략이 관리)
+     *
+     * @param quantities 상품 ID별 차감 수량
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void decreaseStocks(Map<Long, Integer> quantities) {
+        stockDecrementStrategies.current().decrease(quantities);
+        productCache.evictAfterCompletion(quantities.keySet());
+    }
 
-            // Pessimistic Lock으로 조회
-            Product product = productRepository
-                    .findByIdWithPessimisticLock(productId)
-                    .orElseThrow();
+    /**
+     * 상품을 조회한다
+     *
+     * @param id 상품 ID
+     * @return 상품
+     */
+    public Product findProductById(Long id) {
+        return productRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Product not found: " + id));
+    }
+
+    /**
+     * 지금 차감할 수 있는 재고를 조회한다
+     * 현재 재고 차감 전략 기준 (redis-script는 Redis 카운터)
+     *
+     * @param id 상품 ID
+     * @return 현재 재고
+     */
+    public int getAvailableStock(Long id) {
+        return stockDecrementStrategies.current().availableStock(findProductById(id));
+    }
+
+    /**
+     * 상품 응답을 조회한다 (상품 조회 API)
+     * 로컬 캐시 → Redis 캐시 → DB 순으로 조회
+     *
+     * @param id 상품 ID
+     * @return 상품 응답
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)   // 캐시 히트는 커넥션 없이, 미스만 리포지토리 트랜잭션에서 조회
+    public ProductResponse getProduct(Long id) {
+        ProductResponse product = productCache.get(id,
+                key -> productRepository.findById(key).map(ProductResponse::from).orElse(null));
+        if (product == null) {
+            throw new IllegalArgumentException("Product not found: " + id);
+        }
+        return product;
+    }
 
-            // Entity의 순수 로직 호출
-            product.decreaseStock(quantity);
+    /**
+     * 여러 상품 응답을 한 번에 조회한다 (장바구니, 주문 확인 화면)
+     * 캐시 일괄 조회 후 미스만 findAllById 1회로 로딩
+     *
+     * @param ids 상품 ID 목록 (최대 500)
+     * @return 요청 순서의 상품 응답 + 없는 상품 ID
+     * @throws InvalidRequestException ID가 없거나 너무 많은 경우
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public ProductBatchResponse getProducts(List<Long> ids) {
+        Set<Long> distinctIds = new LinkedHashSet<>(ids);
+        distinctIds.remove(null);
+        if (distinctIds.isEmpty() || distinctIds.size() > MAX_BATCH_SIZE) {
+            throw new InvalidRequestException("ids must contain 1 to " + MAX_BATCH_SIZE + " product ids");
+        }
 
-            // @Version으로 Optimistic Lock 자동 체크
-            productRepository.save(product);
+        Map<Long, ProductResponse> found = productCache.getAll(distinctIds, misses ->
+                productRepository.findAllById(misses).stream()
+                        .collect(Collectors.toMap(Product::getId, ProductResponse::from)));
 
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new RuntimeException("재고 차감 중 인터럽트 발생", e);
-        } finally {
-            if (lock.isHeldByCurrentThread()) {
-                lock.unlock();  // ← 커밋 후 락 해제
+        List<ProductResponse> products = new ArrayList<>(found.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : distinctIds) {
+            ProductResponse product = found.get(id);
+            if (product != null) {
+                products.add(product);
+            } else {
+                missingIds.add(id);
             }
         }
+        return new ProductBatchResponse(products, missingIds);
     }
 
     /**
-     * 상품을 조회한다
+     * 상품 버전만 조회한다 (조건부 GET)
+     * 로컬 캐시에 있으면 캐시 응답의 버전, 없으면 버전 컬럼만 조회
      *
      * @param id 상품 ID
-     * @return 상품
+     * @return 상품 버전
      */
-    public Product findProductById(Long id) {
-        return productRepository.findById(id)
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public ProductVersion getProductVersion(Long id) {
+        ProductResponse cached = productCache.getIfPresent(id);
+        if (cached != null) {
+            return ProductVersion.from(cached);
+        }
+        return productRepository.findVersionById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Product not found: " + id));
     }
 
     /**
-     * 모든 상품을 조회한다
+     * 상품 목록을 한 페이지 조회한다 (키셋 페이지네이션)
+     * 한 건 더 조회해 다음 페이지 여부 판단
      *
-     * @return 상품 목록
+     * @param condition 필터, 정렬 조건
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기 (최대 100)
+     * @return 상품 페이지 응답
+     * @throws InvalidRequestException 커서 형식이 올바르지 않거나 정렬 조건과 다른 경우
      */
-    public List<Product> findAllProducts() {
-        return productRepository.findAll();
+    public ProductPageResponse findProducts(ProductSearchCondition condition, String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        ProductCursor after = cursor == null || cursor.isBlank() ? null : ProductCursor.decode(cursor, condition);
+
+        List<ProductSummaryResponse> products = productQueryRepository.findSummaries(condition, after, pageSize + 1);
+        if (products.size() <= pageSize) {
+            return new ProductPageResponse(products, null);
+        }
+
+        List<ProductSummaryResponse> page = products.subList(0, pageSize);
+        return new ProductPageResponse(page, ProductCursor.of(condition, page.get(pageSize - 1)).encode());
+    }
+
+    /**
+     * 상품을 검색한다 (상품명, 설명 / 관련도 순)
+     *
+     * @param query 검색어
+     * @param offset 시작 위치 (최대 1000)
+     * @param size 페이지 크기 (최대 100)
+     * @return 상품 검색 응답
+     * @throws InvalidRequestException 검색어가 비어 있거나 시작 위치가 범위를 벗어난 경우
+     */
+    public ProductSearchResponse searchProducts(String query, int offset, int size) {
+        if (query == null || query.isBlank()) {
+            throw new InvalidRequestException("Search query must not be blank");
+        }
+        if (offset < 0 || offset > MAX_SEARCH_OFFSET) {
+            throw new InvalidRequestException("offset must be between 0 and " + MAX_SEARCH_OFFSET);
+        }
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+
+        List<ProductSummaryResponse> products = productSearchRepository.search(query.trim(), offset, pageSize + 1);
+        if (products.size() <= pageSize) {
+            return new ProductSearchResponse(products, null);
+        }
+        return new ProductSearchResponse(products.subList(0, pageSize), offset + pageSize);
     }
 
     /**
@@ -119,9 +236,37 @@ public class ProductService {
     public Product updateProduct(Long id, ProductUpdateRequest request) {
         Product product = findProductById(id);
         product.updateInfo(request.name(), request.description(), request.price());
+        productCache.evictAfterCompletion(id, product::getVersion);  // 커밋 시점 버전 (flush 때 증가)
         return product;
     }
 
+    /**
+     * 상품 재고를 버킷으로 분할한다 (핫 상품용)
+     *
+     * @param id 상품 ID
+     * @param bucketCount 버킷 수
+     * @return 수정된 상품
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)  // 분할 커밋 후 버킷 합계를 다시 조회
+    public Product enableStockBuckets(Long id, int bucketCount) {
+        bucketedStockService.enableBuckets(id, bucketCount);
+        productCache.evictAfterCompletion(List.of(id));
+        return findProductById(id);
+    }
+
+    /**
+     * 재고 버킷을 상품 재고로 합친다
+     *
+     * @param id 상품 ID
+     * @return 수정된 상품
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Product disableStockBuckets(Long id) {
+        bucketedStockService.disableBuckets(id);
+        productCache.evictAfterCompletion(List.of(id));
+        return findProductById(id);
+    }
+
     /**
      * 상품을 삭제한다
      *
@@ -133,5 +278,6 @@ public class ProductService {
             throw new IllegalArgumentException("Product not found: " + id);
         }
         productRepository.deleteById(id);
+        productCache.evictDeletedAfterCompletion(id);
     }
 }
@@ -0,0 +1,64 @@
+package com.jikim.mycommerce.product;
+
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.function.Function;
+
+/**
+ * ProductSort
+ *
+ * 상품 목록 정렬 기준
+ * 동점은 상품 ID로 정렬 (키셋 커서 = 정렬 값 + ID)
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+public enum ProductSort {
+
+    PRICE("price", "price", Sort.Direction.ASC, BigDecimal::new, product -> product.price().toPlainString()),
+    CREATED("createdAt", "created_at", Sort.Direction.DESC, LocalDateTime::parse, ProductSummaryResponse::createdAt),
+    NAME("name", "name", Sort.Direction.ASC, Function.identity(), ProductSummaryResponse::name);
+
+    private final String property;
+    private final String column;
+    private final Sort.Direction defaultDirection;
+    private final Function<String, Object> parser;
+    private final Function<ProductSummaryResponse, Object> extractor;
+
+    ProductSort(String property, String column, Sort.Direction defaultDirection,
+                Function<String, Object> parser, Function<ProductSummaryResponse, Object> extractor) {
+        this.property = property;
+        this.column = column;
+        this.defaultDirection = defaultDirection;
+        this.parser = parser;
+        this.extractor = extractor;
+    }
+
+    public String property() {
+        return property;
+    }
+
+    public String column() {
+        return column;
+    }
+
+    public Sort.Direction defaultDirection() {
+        return defaultDirection;
+    }
+
+    /**
+     * 커서에 담긴 정렬 값을 쿼리 파라미터 타입으로 변환한다
+     */
+    public Object parse(String value) {
+        return parser.apply(value);
+    }
+
+    /**
+     * 상품 요약에서 커서에 담을 정렬 값을 꺼낸다
+     */
+    public String valueOf(ProductSummaryResponse product) {
+        return String.valueOf(extractor.apply(product));
+    }
+}
@@ -0,0 +1,15 @@
+package com.jikim.mycommerce.product;
+
+/**
+ * ProductStock
+ *
+ * 상품 재고 조회 결과 (엔티티 로딩 없이 ID, 재고만 조회)
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+public record ProductStock(
+        Long productId,
+        Integer stock
+) {
+}
@@ -0,0 +1,28 @@
+package com.jikim.mycommerce.product;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * ProductSummaryResponse
+ *
+ * 상품 목록 항목 응답 (description 제외)
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+public record ProductSummaryResponse(
+        Long id,
+        String name,
+        BigDecimal price,
+        Integer stock,
+        ProductStatus status,
+        LocalDateTime createdAt
+) {
+
+    // JPQL 프로젝션용: 버킷 모드 상품은 상품 행 재고 + 버킷 재고 합계
+    public ProductSummaryResponse(Long id, String name, BigDecimal price, Integer stock, Integer bucketStock,
+                                  ProductStatus status, LocalDateTime createdAt) {
+        this(id, name, price, bucketStock != null ? stock + bucketStock : stock, status, createdAt);
+    }
+}
@@ -0,0 +1,29 @@
+package com.jikim.mycommerce.product;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.math.BigDecimal;
+
+/**
+ * ProductUpdateRequest
+ *
+ * 상품 수정 요청
+ *
+ * @author wjddl
+ * @since 25. 11. 6.
+ */
+public record ProductUpdateRequest(
+        @NotBlank(message = "상품명은 필수입니다")
+        @Size(max = 200, message = "상품명은 200자를 초과할 수 없습니다")
+        String name,
+
+        String description,
+
+        @NotNull(message = "가격은 필수입니다")
+        @DecimalMin(value = "0.0", inclusive = false, message = "가격은 0보다 커야 합니다")
+        BigDecimal price
+) {
+}
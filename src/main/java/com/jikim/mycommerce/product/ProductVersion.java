@@ -0,0 +1,43 @@
+package com.jikim.mycommerce.product;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * ProductVersion
+ *
+ * 상품 조회 응답의 HTTP 검증자 (ETag, Last-Modified)
+ * - ETag: @Version + 전체 재고 (버킷 모드 재고 차감은 상품 행 버전을 올리지 않음)
+ * - 엔티티, 응답 JSON 없이 버전 컬럼만 조회해 304 판단
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+public record ProductVersion(
+        Long version,
+        Integer stock,
+        LocalDateTime updatedAt
+) {
+
+    // JPQL 프로젝션용: 버킷 모드 상품은 상품 행 재고 + 버킷 재고 합계, 수정일시는 버킷 변경 포함
+    public ProductVersion(Long version, Integer stock, Integer bucketStock,
+                          LocalDateTime updatedAt, LocalDateTime bucketUpdatedAt) {
+        this(version, bucketStock != null ? stock + bucketStock : stock,
+                Product.lastModifiedAt(updatedAt, bucketUpdatedAt));
+    }
+
+    public static ProductVersion from(ProductResponse product) {
+        return new ProductVersion(product.version(), product.stock(), product.updatedAt());
+    }
+
+    public String etag() {
+        return "\"" + version + "-" + stock + "\"";
+    }
+
+    /**
+     * @return 수정일시 (epoch ms, 없으면 -1)
+     */
+    public long lastModified() {
+        return updatedAt != null ? updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : -1;
+    }
+}
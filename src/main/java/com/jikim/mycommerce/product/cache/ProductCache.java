@@ -0,0 +1,395 @@
+package com.jikim.mycommerce.product.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jikim.mycommerce.common.concurrent.Futures;
+import com.jikim.mycommerce.product.ProductResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * ProductCache
+ *
+ * 상품 조회 2단계 캐시
+ * - 1단계: 노드 로컬 Caffeine (near cache), 2단계: 노드 공유 Redis 해시(cache:product:{id})
+ * - 캐시 값은 @Version을 포함한 ProductResponse, Redis 저장은 버전 + 무효화 세대 비교 후 반영 (오래된 값 저장 방지)
+ * - 상품 수정/삭제/재고 변경 시 Redis 본문 삭제 + product:invalidate 채널 발행
+ *   → 모든 노드가 구독 메시지를 받아 로컬 캐시에서 제거
+ * - 메트릭: cache.gets/cache.evictions{cache=product.near}, product.cache.redis{result=hit|miss}
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+@Slf4j
+@Component
+public class ProductCache implements MessageListener {
+
+    public static final String CHANNEL = "product:invalidate";
+    private static final String KEY_PREFIX = "cache:product:";
+    // 무효화 세대 필드가 없으면 (첫 저장) 0
+    public static final String INITIAL_GENERATION = "0";
+
+    // 버전 + 무효화 세대 비교 후 저장 (리액티브 카탈로그도 같은 스크립트로 저장)
+    public static final RedisScript<Long> PUT_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/product_cache_put.lua"), Long.class);
+    private static final RedisScript<Long> EVICT_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/product_cache_evict.lua"), Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Cache<Long, ProductResponse> nearCache;
+    // 로딩 중인 상품 (같은 상품 동시 미스는 한 번만 로딩)
+    private final ConcurrentMap<Long, CompletableFuture<ProductResponse>> loadings = new ConcurrentHashMap<>();
+    // 상품별 로컬 무효화 횟수 (로딩 전후 값이 다르면 로딩 결과를 로컬 캐시에 넣지 않음)
+    // 다른 상품의 무효화(주문마다 발생)는 로딩 결과를 버리지 않음, 항목 수는 무효화된 상품 수로 제한
+    private final ConcurrentMap<Long, Long> invalidations = new ConcurrentHashMap<>();
+    private final long redisTtlMillis;
+    private final Counter redisHits;
+    private final Counter redisMisses;
+
+    public ProductCache(StringRedisTemplate redisTemplate,
+                        ObjectMapper objectMapper,
+                        MeterRegistry meterRegistry,
+                        RedisMessageListenerContainer listenerContainer,
+                        @Value("${mycommerce.product.cache.near-max-size:10000}") long nearMaxSize,
+                        @Value("${mycommerce.product.cache.near-ttl-ms:30000}") long nearTtlMillis,
+                        @Value("${mycommerce.product.cache.redis-ttl-ms:600000}") long redisTtlMillis) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.redisTtlMillis = redisTtlMillis;
+
+        // 무효화 메시지 유실 대비 로컬 캐시는 짧게 유지
+        this.nearCache = Caffeine.newBuilder()
+                .maximumSize(nearMaxSize)
+                .expireAfterWrite(Duration.ofMillis(nearTtlMillis))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, nearCache, "product.near");
+
+        this.redisHits = Counter.builder("product.cache.redis")
+                .description("Redis 상품 캐시 조회 결과")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.redisMisses = Counter.builder("product.cache.redis")
+                .description("Redis 상품 캐시 조회 결과")
+                .tag("result", "miss")
+                .register(meterRegistry);
+
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * 상품 응답을 조회한다
+     * 로컬 → Redis → loader(DB) 순, 같은 상품의 동시 로컬 미스는 한 번만 로딩
+     * 로딩(Redis, DB 대기)은 Caffeine 잠금 밖에서 실행 → 가상 스레드가 대기 중 캐리어 스레드를 고정하지 않음
+     *
+     * @param id 상품 ID
+     * @param loader DB 조회 (없으면 null)
+     * @return 상품 응답 (없으면 null)
+     */
+    public ProductResponse get(Long id, Function<Long, ProductResponse> loader) {
+        ProductResponse cached = nearCache.getIfPresent(id);
+        if (cached != null) {
+            return cached;
+        }
+
+        CompletableFuture<ProductResponse> loading = new CompletableFuture<>();
+        CompletableFuture<ProductResponse> inFlight = loadings.putIfAbsent(id, loading);
+        if (inFlight != null) {
+            // 다른 스레드가 로딩 중 → 결과 대기
+            return Futures.join(inFlight);
+        }
+
+        try {
+            Long generation = invalidations.get(id);
+            ProductResponse loaded = load(id, loader);
+            if (loaded != null) {
+                // 로딩 중 무효화됐으면 로컬 캐시에 넣지 않음 (무효화 전 값일 수 있음)
+                putLocalIfNotInvalidated(id, loaded, generation);
+            }
+            loading.complete(loaded);
+            return loaded;
+        } catch (RuntimeException | Error e) {
+            // 대기 중인 스레드에도 같은 예외 전달 (완료하지 않으면 영원히 대기)
+            loading.completeExceptionally(e);
+            throw e;
+        } finally {
+            loadings.remove(id, loading);
+        }
+    }
+
+    /**
+     * 여러 상품 응답을 한 번에 조회한다
+     * 로컬 미스는 Redis 파이프라인 1회로 조회, Redis 미스만 loader로 한 번에 로딩
+     *
+     * @param ids 상품 ID 목록
+     * @param loader DB 일괄 조회 (없는 상품은 결과에서 제외)
+     * @return 상품 ID별 응답 (없는 상품 제외)
+     */
+    public Map<Long, ProductResponse> getAll(Collection<Long> ids,
+                                             Function<Set<Long>, Map<Long, ProductResponse>> loader) {
+        Map<Long, ProductResponse> found = new LinkedHashMap<>(nearCache.getAllPresent(ids));
+        Set<Long> missing = new LinkedHashSet<>(ids);
+        missing.removeAll(found.keySet());
+        if (missing.isEmpty()) {
+            return found;
+        }
+
+        Map<Long, Long> generations = new HashMap<>();
+        missing.forEach(id -> generations.put(id, invalidations.get(id)));
+        Map<Long, RedisEntry> entries = getAllFromRedis(missing);
+
+        Map<Long, ProductResponse> loaded = new HashMap<>();
+        Set<Long> misses = new HashSet<>();
+        entries.forEach((id, entry) -> {
+            if (entry.product() != null) {
+                loaded.put(id, entry.product());
+            } else {
+                misses.add(id);
+            }
+        });
+        if (!misses.isEmpty()) {
+            Map<Long, ProductResponse> fromLoader = loader.apply(misses);
+            fromLoader.values().forEach(product -> putToRedis(product, entries.get(product.id()).generation()));
+            loaded.putAll(fromLoader);
+        }
+
+        // 로딩 중 무효화됐으면 로컬 캐시에 넣지 않음 (get과 같은 기준)
+        loaded.forEach((id, product) -> putLocalIfNotInvalidated(id, product, generations.get(id)));
+
+        // 요청 순서 유지
+        Map<Long, ProductResponse> result = new LinkedHashMap<>();
+        for (Long id : ids) {
+            ProductResponse product = found.getOrDefault(id, loaded.get(id));
+            if (product != null) {
+                result.put(id, product);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 로컬 캐시에 있는 상품 응답만 조회한다 (Redis, DB 조회 없음)
+     *
+     * @param id 상품 ID
+     * @return 상품 응답 (없으면 null)
+     */
+    public ProductResponse getIfPresent(Long id) {
+        return nearCache.getIfPresent(id);
+    }
+
+    /**
+     * 여러 상품의 캐시를 현재 트랜잭션이 끝난 뒤 무효화한다 (재고 변경 등, 새 버전 모름)
+     * 트랜잭션 밖에서 호출하면 바로 무효화
+     *
+     * @param ids 상품 ID 목록
+     */
+    public void evictAfterCompletion(Collection<Long> ids) {
+        runAfterCompletion(() -> ids.forEach(id -> evict(id, ProductInvalidation.UNKNOWN_VERSION)));
+    }
+
+    /**
+     * 상품 캐시를 현재 트랜잭션이 끝난 뒤 무효화한다 (수정, 새 버전 알림)
+     *
+     * @param id 상품 ID
+     * @param version 수정된 상품의 버전 공급 (커밋 시점에 조회)
+     */
+    public void evictAfterCompletion(Long id, Supplier<Long> version) {
+        runAfterCompletion(() -> {
+            Long newVersion = version.get();
+            evict(id, newVersion != null ? newVersion : ProductInvalidation.UNKNOWN_VERSION);
+        });
+    }
+
+    /**
+     * 삭제된 상품의 캐시를 현재 트랜잭션이 끝난 뒤 무효화한다
+     *
+     * @param id 상품 ID
+     */
+    public void evictDeletedAfterCompletion(Long id) {
+        runAfterCompletion(() -> evict(id, ProductInvalidation.DELETED_VERSION));
+    }
+
+    /**
+     * 다른 노드(또는 자신)가 발행한 무효화 메시지 처리
+     * 메시지: "{상품 ID}:{새 버전}" (-1이면 버전 무관하게 제거)
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            ProductInvalidation invalidation = ProductInvalidation.from(message);
+            evictLocal(invalidation.productId(), invalidation.version());
+        } catch (IllegalArgumentException e) {
+            log.warn("상품 캐시 무효화 메시지 형식 오류", e);
+        }
+    }
+
+    private void evict(Long id, long version) {
+        // 발행 노드는 메시지를 기다리지 않고 바로 제거
+        evictLocal(id, version);
+        try {
+            redisTemplate.execute(EVICT_SCRIPT, List.of(key(id)),
+                    String.valueOf(id), String.valueOf(version), String.valueOf(redisTtlMillis), CHANNEL);
+        } catch (RuntimeException e) {
+            log.warn("상품 캐시 무효화 실패: 상품 ID={}", id, e);
+        }
+    }
+
+    private void evictLocal(Long id, long version) {
+        invalidations.merge(id, 1L, Long::sum);
+        nearCache.asMap().computeIfPresent(id, (key, cached) ->
+                version == ProductInvalidation.UNKNOWN_VERSION || cached.version() == null || cached.version() < version ? null : cached);
+    }
+
+    // 로딩 시작 후 같은 상품이 무효화되지 않았을 때만 로컬 캐시에 저장
+    private void putLocalIfNotInvalidated(Long id, ProductResponse product, Long generation) {
+        nearCache.asMap().compute(id, (key, current) ->
+                Objects.equals(invalidations.get(id), generation) ? product : current);
+    }
+
+    private ProductResponse load(Long id, Function<Long, ProductResponse> loader) {
+        RedisEntry cached = getFromRedis(id);
+        if (cached.product() != null) {
+            return cached.product();
+        }
+
+        ProductResponse loaded = loader.apply(id);
+        if (loaded != null) {
+            putToRedis(loaded, cached.generation());
+        }
+        return loaded;
+    }
+
+    private RedisEntry getFromRedis(Long id) {
+        try {
+            List<Object> values = redisTemplate.opsForHash().multiGet(key(id), List.of("body", "gen"));
+            return toEntry(values.get(0), values.get(1));
+        } catch (JsonProcessingException | RuntimeException e) {
+            // Redis 장애/형식 오류는 DB 조회로 대체 (세대를 모르므로 저장하지 않음)
+            log.warn("Redis 상품 캐시 조회 실패: 상품 ID={}", id, e);
+            return RedisEntry.UNAVAILABLE;
+        }
+    }
+
+    private Map<Long, RedisEntry> getAllFromRedis(Set<? extends Long> ids) {
+        List<Long> keys = new ArrayList<>(ids);
+        Map<Long, RedisEntry> entries = new HashMap<>();
+        try {
+            List<Object> values = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                keys.forEach(id -> connection.hashCommands().hMGet(key(id).getBytes(StandardCharsets.UTF_8),
+                        "body".getBytes(StandardCharsets.UTF_8), "gen".getBytes(StandardCharsets.UTF_8)));
+                return null;
+            });
+            for (int i = 0; i < keys.size(); i++) {
+                List<?> fields = (List<?>) values.get(i);
+                entries.put(keys.get(i), toEntry(fields.get(0), fields.get(1)));
+            }
+        } catch (JsonProcessingException | RuntimeException e) {
+            // Redis 장애/형식 오류는 DB 조회로 대체 (세대를 모르므로 저장하지 않음)
+            log.warn("Redis 상품 캐시 일괄 조회 실패: 상품 수={}", keys.size(), e);
+            entries.clear();
+            keys.forEach(id -> entries.put(id, RedisEntry.UNAVAILABLE));
+        }
+        return entries;
+    }
+
+    private RedisEntry toEntry(Object body, Object generation) throws JsonProcessingException {
+        if (body == null) {
+            redisMisses.increment();
+            return new RedisEntry(null, generation != null ? (String) generation : INITIAL_GENERATION);
+        }
+        redisHits.increment();
+        return new RedisEntry(objectMapper.readValue((String) body, ProductResponse.class), null);
+    }
+
+    // 세대: 캐시 미스 시점에 읽은 무효화 세대 (그 사이 무효화됐으면 스크립트가 저장 거절)
+    private void putToRedis(ProductResponse product, String generation) {
+        if (generation == null) {
+            return;
+        }
+        try {
+            redisTemplate.execute(PUT_SCRIPT, List.of(key(product.id())),
+                    String.valueOf(product.version()),
+                    objectMapper.writeValueAsString(product),
+                    String.valueOf(redisTtlMillis),
+                    generation);
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("Redis 상품 캐시 저장 실패: 상품 ID={}", product.id(), e);
+        }
+    }
+
+    // 롤백돼도 무효화 (트랜잭션 도중 다른 요청이 읽은 값 제거)
+    private void runAfterCompletion(Runnable eviction) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            eviction.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                eviction.run();
+            }
+        });
+    }
+
+    /**
+     * Redis 캐시 조회 결과
+     *
+     * @param product 캐시된 상품 응답 (미스면 null)
+     * @param generation 미스 시점의 무효화 세대 (적중 또는 Redis 장애면 null → 저장하지 않음)
+     */
+    private record RedisEntry(ProductResponse product, String generation) {
+
+        static final RedisEntry UNAVAILABLE = new RedisEntry(null, null);
+    }
+
+    /**
+     * @return Redis 캐시 보관 시간 (ms)
+     */
+    public long redisTtlMillis() {
+        return redisTtlMillis;
+    }
+
+    /**
+     * @param id 상품 ID
+     * @return Redis 캐시 키 (cache:product:{id})
+     */
+    public static String key(Long id) {
+        return KEY_PREFIX + id;
+    }
+}
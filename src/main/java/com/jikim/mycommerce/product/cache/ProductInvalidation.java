@@ -0,0 +1,50 @@
+package com.jikim.mycommerce.product.cache;
+
+import org.springframework.data.redis.connection.Message;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * ProductInvalidation
+ *
+ * product:invalidate 채널 메시지 ("{상품 ID}:{새 버전}")
+ * 새 버전이 -1이면 재고만 바뀐 경우 (버전 모름), 최대값이면 삭제
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+public record ProductInvalidation(
+        Long productId,
+        long version
+) {
+
+    public static final long UNKNOWN_VERSION = -1L;
+    // 삭제된 상품: 이후 어떤 버전도 저장되지 않도록 최대값 (Lua 숫자 정밀도 안의 최대 정수)
+    public static final long DELETED_VERSION = (1L << 53) - 1;
+
+    /**
+     * 재고 변경 등 상품 정보(이름, 가격, 상태)는 그대로인 무효화인지
+     */
+    public boolean isStockOnly() {
+        return version == UNKNOWN_VERSION;
+    }
+
+    /**
+     * 구독 메시지를 변환한다
+     *
+     * @param message 구독 메시지
+     * @return 무효화 메시지
+     * @throws IllegalArgumentException 형식이 올바르지 않은 경우
+     */
+    public static ProductInvalidation from(Message message) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(':');
+        try {
+            return new ProductInvalidation(
+                    Long.valueOf(body.substring(0, separator)),
+                    Long.parseLong(body.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid invalidation message: " + body, e);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.jikim.mycommerce.product.catalog;
+
+import com.jikim.mycommerce.product.ProductStatus;
+
+import java.math.BigDecimal;
+
+/**
+ * CatalogItem
+ *
+ * 카탈로그 상품 항목 (자주 바뀌는 재고, 큰 description 제외)
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+public record CatalogItem(
+        Long id,
+        String name,
+        BigDecimal price,
+        ProductStatus status
+) {
+}
@@ -0,0 +1,47 @@
+package com.jikim.mycommerce.product.catalog;
+
+import org.springframework.util.DigestUtils;
+
+/**
+ * CatalogPage
+ *
+ * 직렬화해둔 카탈로그 페이지 (JSON, gzip JSON, 강한 ETag)
+ * gzip 표현은 ETag에 -gzip을 붙여 구분
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+public record CatalogPage(
+        byte[] json,
+        byte[] gzip,
+        String etag,
+        String gzipEtag
+) {
+
+    public static CatalogPage of(byte[] json, byte[] gzip) {
+        String hash = DigestUtils.md5DigestAsHex(json);
+        return new CatalogPage(json, gzip, "\"" + hash + "\"", "\"" + hash + "-gzip\"");
+    }
+
+    /**
+     * If-None-Match 헤더가 이 페이지(어느 표현이든)와 일치하는지
+     *
+     * @param ifNoneMatch If-None-Match 헤더 값 (없으면 null)
+     * @return 일치 여부
+     */
+    public boolean matches(String ifNoneMatch) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String tag : ifNoneMatch.split(",")) {
+            String candidate = tag.trim();
+            if (candidate.startsWith("W/")) {
+                candidate = candidate.substring(2);   // If-None-Match는 약한 비교
+            }
+            if (candidate.equals("*") || candidate.equals(etag) || candidate.equals(gzipEtag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,19 @@
+package com.jikim.mycommerce.product.catalog;
+
+import java.util.List;
+
+/**
+ * CatalogPageResponse
+ *
+ * 카탈로그 페이지 응답 (상품 ID 순)
+ * 전체 페이지 수를 넣지 않음 → 상품 추가/삭제 시 뒤쪽 페이지만 다시 직렬화
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+public record CatalogPageResponse(
+        int page,
+        boolean hasNext,
+        List<CatalogItem> products
+) {
+}
@@ -0,0 +1,234 @@
+package com.jikim.mycommerce.product.catalog;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jikim.mycommerce.product.ProductRepository;
+import com.jikim.mycommerce.product.cache.ProductCache;
+import com.jikim.mycommerce.product.cache.ProductInvalidation;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * CatalogSnapshotService
+ *
+ * 카탈로그 페이지 스냅샷 (미리 직렬화한 JSON + gzip 바이트)
+ * - 요청 스레드는 volatile 페이지 목록에서 바이트 배열만 꺼냄 (엔티티 로딩, JSON 인코딩 없음)
+ * - product:invalidate 구독으로 바뀐 상품 ID를 모아 refresh 주기마다 해당 상품만 다시 조회
+ *   → 수정은 그 상품의 페이지만, 추가/삭제는 그 위치 이후 페이지만 다시 직렬화
+ * - 재고만 바뀐 메시지는 무시 (카탈로그에 재고 없음)
+ * - 구독 메시지 유실 대비 full-rebuild 주기마다 전체 재구축
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+@Slf4j
+@Service
+public class CatalogSnapshotService implements MessageListener {
+
+    private static final int LOAD_BATCH_SIZE = 1000;
+
+    private final ProductRepository productRepository;
+    private final ObjectMapper objectMapper;
+    private final int pageSize;
+
+    private final Set<Long> changedIds = ConcurrentHashMap.newKeySet();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private final TreeMap<Long, CatalogItem> items = new TreeMap<>();   // rebuildLock 보유 시에만 접근
+    private volatile List<CatalogPage> pages;                          // null: 아직 구축 전
+
+    public CatalogSnapshotService(ProductRepository productRepository,
+                                  ObjectMapper objectMapper,
+                                  RedisMessageListenerContainer listenerContainer,
+                                  @Value("${mycommerce.product.catalog.page-size:100}") int pageSize) {
+        this.productRepository = productRepository;
+        this.objectMapper = objectMapper;
+        this.pageSize = pageSize;
+        listenerContainer.addMessageListener(this, new ChannelTopic(ProductCache.CHANNEL));
+    }
+
+    /**
+     * 카탈로그 페이지를 조회한다
+     *
+     * @param page 페이지 번호 (0부터)
+     * @return 직렬화된 페이지 (없는 페이지면 null)
+     */
+    public CatalogPage getPage(int page) {
+        List<CatalogPage> current = pages;
+        if (current == null) {
+            current = buildIfAbsent();   // 시작 직후 첫 구축 전 요청
+        }
+        return page >= 0 && page < current.size() ? current.get(page) : null;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            ProductInvalidation invalidation = ProductInvalidation.from(message);
+            if (!invalidation.isStockOnly()) {
+                changedIds.add(invalidation.productId());
+            }
+        } catch (IllegalArgumentException e) {
+            log.warn("카탈로그 변경 메시지 형식 오류", e);
+        }
+    }
+
+    /**
+     * 바뀐 상품만 다시 조회해 영향받는 페이지를 다시 직렬화한다
+     */
+    @Scheduled(fixedDelayString = "${mycommerce.product.catalog.refresh-interval-ms:1000}")
+    public void refresh() {
+        if (changedIds.isEmpty() || pages == null) {
+            return;
+        }
+
+        rebuildLock.lock();
+        try {
+            List<Long> ids = new ArrayList<>(changedIds);
+            changedIds.removeAll(ids);   // 조회 이후 들어온 변경은 다음 주기에 반영
+
+            Map<Long, CatalogItem> loaded = productRepository.findCatalogItemsByIdIn(ids).stream()
+                    .collect(Collectors.toMap(CatalogItem::id, Function.identity()));
+
+            Long firstMovedId = null;   // 추가/삭제된 가장 작은 상품 ID (이후 페이지는 항목이 밀림)
+            Set<Long> updatedIds = new HashSet<>();
+            for (Long id : ids) {
+                CatalogItem item = loaded.get(id);
+                CatalogItem previous = item != null ? items.put(id, item) : items.remove(id);
+                if (Objects.equals(previous, item)) {
+                    continue;
+                }
+                if (previous == null || item == null) {
+                    firstMovedId = firstMovedId == null ? id : Math.min(firstMovedId, id);
+                } else {
+                    updatedIds.add(id);
+                }
+            }
+
+            if (firstMovedId != null || !updatedIds.isEmpty()) {
+                publish(pages, firstMovedId, updatedIds);
+            }
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * 전체 카탈로그를 다시 조회해 모든 페이지를 직렬화한다 (시작 시, 주기적 보정)
+     */
+    @Scheduled(fixedDelayString = "${mycommerce.product.catalog.full-rebuild-interval-ms:600000}")
+    public void rebuildAll() {
+        rebuildLock.lock();
+        try {
+            changedIds.clear();   // 전체 조회 이후 들어온 변경만 남김
+
+            items.clear();
+            Long afterId = 0L;
+            while (true) {
+                List<CatalogItem> batch = productRepository.findCatalogItemsAfterId(afterId, PageRequest.of(0, LOAD_BATCH_SIZE));
+                if (batch.isEmpty()) {
+                    break;
+                }
+                batch.forEach(item -> items.put(item.id(), item));
+                afterId = batch.get(batch.size() - 1).id();
+            }
+
+            publish(List.of(), null, Set.of());
+            log.info("카탈로그 스냅샷 전체 구축: 상품 수={}, 페이지 수={}", items.size(), pages.size());
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    // 첫 구축 전 동시 요청은 한 번만 구축 (락 대기 후 다른 요청이 구축했으면 그 결과 사용)
+    private List<CatalogPage> buildIfAbsent() {
+        rebuildLock.lock();
+        try {
+            if (pages == null) {
+                rebuildAll();
+            }
+            return pages;
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    // firstMovedId 위치 이후 페이지 + 수정된 상품의 페이지만 다시 직렬화, 나머지는 기존 바이트 재사용 (previous가 비면 전체)
+    private void publish(List<CatalogPage> previous, Long firstMovedId, Set<Long> updatedIds) {
+        List<Long> ids = new ArrayList<>(items.keySet());
+        List<CatalogItem> values = new ArrayList<>(items.values());
+        int pageCount = Math.max(1, (ids.size() + pageSize - 1) / pageSize);
+
+        boolean[] stale = new boolean[pageCount];
+        if (firstMovedId != null) {
+            for (int i = indexOf(ids, firstMovedId) / pageSize; i < pageCount; i++) {
+                stale[i] = true;
+            }
+        }
+        updatedIds.forEach(id -> stale[indexOf(ids, id) / pageSize] = true);
+        // 페이지 수가 바뀌면 기존 마지막 페이지의 hasNext도 바뀜
+        if (previous.size() != pageCount && !previous.isEmpty()) {
+            stale[Math.min(previous.size(), pageCount) - 1] = true;
+        }
+
+        List<CatalogPage> next = new ArrayList<>(pageCount);
+        int rebuilt = 0;
+        for (int i = 0; i < pageCount; i++) {
+            if (i < previous.size() && !stale[i]) {
+                next.add(previous.get(i));
+                continue;
+            }
+            List<CatalogItem> products = values.subList(Math.min(i * pageSize, values.size()),
+                    Math.min((i + 1) * pageSize, values.size()));
+            next.add(serialize(new CatalogPageResponse(i, i < pageCount - 1, products)));
+            rebuilt++;
+        }
+
+        pages = List.copyOf(next);
+        log.debug("카탈로그 페이지 다시 직렬화: {}/{}", rebuilt, pageCount);
+    }
+
+    private CatalogPage serialize(CatalogPageResponse page) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(page);
+            ByteArrayOutputStream gzip = new ByteArrayOutputStream(json.length / 4);
+            try (GZIPOutputStream out = new GZIPOutputStream(gzip)) {
+                out.write(json);
+            }
+            return CatalogPage.of(json, gzip.toByteArray());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("카탈로그 페이지 직렬화 실패: " + page.page(), e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 삭제된 ID는 들어갈 위치
+    private static int indexOf(List<Long> ids, Long id) {
+        int index = Collections.binarySearch(ids, id);
+        return index >= 0 ? index : -index - 1;
+    }
+}
@@ -0,0 +1,72 @@
+package com.jikim.mycommerce.product.reactive;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * ReactiveCatalogDatabase
+ *
+ * 리액티브 카탈로그 전용 R2DBC 커넥션 풀
+ * - JPA(Hikari) 풀과 별도, 카탈로그 서버만 사용 (ConnectionFactory 빈으로 노출하지 않음)
+ *   → R2DBC 자동 설정(트랜잭션 매니저, SQL 초기화)이 JPA 쪽과 섞이지 않음
+ * - URL이 r2dbc:h2면 H2(테스트), 아니면 PostgreSQL로 보고 SQL 방언 선택
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "mycommerce.product.reactive.enabled", havingValue = "true")
+public class ReactiveCatalogDatabase {
+
+    private final ConnectionPool pool;
+    private final DatabaseClient databaseClient;
+    private final boolean postgres;
+
+    public ReactiveCatalogDatabase(@Value("${mycommerce.product.reactive.r2dbc-url}") String url,
+                                   @Value("${mycommerce.product.reactive.username}") String username,
+                                   @Value("${mycommerce.product.reactive.password}") String password,
+                                   @Value("${mycommerce.product.reactive.pool-max-size:10}") int poolMaxSize) {
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(url).mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .build();
+
+        this.pool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                .name("catalog-r2dbc")
+                .initialSize(Math.min(2, poolMaxSize))
+                .maxSize(poolMaxSize)
+                .maxAcquireTime(Duration.ofSeconds(5))
+                .maxIdleTime(Duration.ofMinutes(10))
+                .build());
+        this.databaseClient = DatabaseClient.create(pool);
+        this.postgres = !url.startsWith("r2dbc:h2:");
+    }
+
+    public DatabaseClient client() {
+        return databaseClient;
+    }
+
+    /**
+     * @return PostgreSQL이면 true (전문 검색 사용), H2면 false
+     */
+    public boolean isPostgres() {
+        return postgres;
+    }
+
+    @PreDestroy
+    public void close() {
+        pool.disposeLater().block(Duration.ofSeconds(10));
+        log.info("카탈로그 R2DBC 커넥션 풀 종료");
+    }
+}
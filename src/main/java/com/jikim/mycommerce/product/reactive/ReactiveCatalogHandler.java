@@ -0,0 +1,112 @@
+package com.jikim.mycommerce.product.reactive;
+
+import com.jikim.mycommerce.common.exception.ErrorResponse;
+import com.jikim.mycommerce.product.ProductSearchCondition;
+import com.jikim.mycommerce.product.ProductSort;
+import com.jikim.mycommerce.product.ProductStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.util.function.Function;
+
+/**
+ * ReactiveCatalogHandler
+ *
+ * 리액티브 카탈로그 라우트 (읽기 전용, 요청 파라미터는 ProductController와 동일)
+ * - GET /api/catalog/products/{id}: 상품 단건
+ * - GET /api/catalog/products: 상품 목록 (status, minPrice, maxPrice, sort, direction, cursor, size)
+ * - GET /api/catalog/products/search: 상품 검색 (q, offset, size)
+ * - 잘못된 요청은 400, 없는 상품은 404 (ErrorResponse 본문)
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "mycommerce.product.reactive.enabled", havingValue = "true")
+public class ReactiveCatalogHandler {
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+
+    private final ReactiveCatalogService catalogService;
+
+    public RouterFunction<ServerResponse> routes() {
+        return RouterFunctions.route()
+                .path("/api/catalog/products", builder -> builder
+                        .GET("/search", this::searchProducts)
+                        .GET("/{id}", this::getProduct)
+                        .GET("", this::findProducts))
+                .build();
+    }
+
+    private Mono<ServerResponse> getProduct(ServerRequest request) {
+        Long id;
+        try {
+            id = Long.valueOf(request.pathVariable("id"));
+        } catch (NumberFormatException e) {
+            return badRequest(e);
+        }
+
+        return catalogService.getProduct(id)
+                .flatMap(product -> ServerResponse.ok().bodyValue(product))
+                .onErrorResume(IllegalArgumentException.class, e -> ServerResponse.status(HttpStatus.NOT_FOUND)
+                        .bodyValue(new ErrorResponse("NOT_FOUND", e.getMessage())));
+    }
+
+    private Mono<ServerResponse> findProducts(ServerRequest request) {
+        ProductSearchCondition condition;
+        int size;
+        try {
+            condition = new ProductSearchCondition(
+                    param(request, "status", ProductStatus::valueOf),
+                    param(request, "minPrice", BigDecimal::new),
+                    param(request, "maxPrice", BigDecimal::new),
+                    param(request, "sort", ProductSort::valueOf),
+                    param(request, "direction", Sort.Direction::valueOf));
+            size = intParam(request, "size", DEFAULT_PAGE_SIZE);
+        } catch (IllegalArgumentException e) {
+            return badRequest(e);
+        }
+
+        return catalogService.findProducts(condition, request.queryParam("cursor").orElse(null), size)
+                .flatMap(page -> ServerResponse.ok().bodyValue(page))
+                .onErrorResume(IllegalArgumentException.class, this::badRequest);
+    }
+
+    private Mono<ServerResponse> searchProducts(ServerRequest request) {
+        int offset;
+        int size;
+        try {
+            offset = intParam(request, "offset", 0);
+            size = intParam(request, "size", DEFAULT_PAGE_SIZE);
+        } catch (IllegalArgumentException e) {
+            return badRequest(e);
+        }
+
+        return catalogService.searchProducts(request.queryParam("q").orElse(null), offset, size)
+                .flatMap(page -> ServerResponse.ok().bodyValue(page))
+                .onErrorResume(IllegalArgumentException.class, this::badRequest);
+    }
+
+    private Mono<ServerResponse> badRequest(IllegalArgumentException e) {
+        return ServerResponse.badRequest().bodyValue(new ErrorResponse("INVALID_REQUEST", e.getMessage()));
+    }
+
+    private static <T> T param(ServerRequest request, String name, Function<String, T> parser) {
+        return request.queryParam(name).filter(value -> !value.isBlank()).map(parser).orElse(null);
+    }
+
+    private static int intParam(ServerRequest request, String name, int defaultValue) {
+        Integer value = param(request, name, Integer::valueOf);
+        return value != null ? value : defaultValue;
+    }
+}
@@ -0,0 +1,103 @@
+package com.jikim.mycommerce.product.reactive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.LoopResources;
+
+import java.time.Duration;
+
+/**
+ * ReactiveCatalogServer
+ *
+ * 읽기 전용 카탈로그 전용 Reactor Netty 서버
+ * - 앱은 서블릿(Tomcat) 그대로, 카탈로그 라우트만 별도 포트 + 전용 이벤트 루프(catalog-loop)에서 처리
+ *   → 요청당 스레드 없이 적은 스레드로 많은 동시 연결 처리, 서블릿 스레드 풀과 서로 영향 없음
+ * - 서블릿 보안 필터 체인을 거치지 않음 → 공개 카탈로그만 노출, 기본 비활성 (mycommerce.product.reactive.enabled)
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "mycommerce.product.reactive.enabled", havingValue = "true")
+public class ReactiveCatalogServer implements SmartLifecycle {
+
+    private final ReactiveCatalogHandler handler;
+    private final ObjectMapper objectMapper;
+    private final int port;
+    private final int eventLoopThreads;
+
+    private LoopResources loopResources;
+    private volatile DisposableServer server;
+
+    public ReactiveCatalogServer(ReactiveCatalogHandler handler,
+                                 ObjectMapper objectMapper,
+                                 @Value("${mycommerce.product.reactive.port:8091}") int port,
+                                 @Value("${mycommerce.product.reactive.event-loop-threads:4}") int eventLoopThreads) {
+        this.handler = handler;
+        this.objectMapper = objectMapper;
+        this.port = port;
+        this.eventLoopThreads = eventLoopThreads;
+    }
+
+    @Override
+    public void start() {
+        // 서블릿 쪽과 같은 ObjectMapper로 직렬화 (날짜 형식 등 응답 동일)
+        HandlerStrategies strategies = HandlerStrategies.builder()
+                .codecs(codecs -> {
+                    codecs.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper));
+                    codecs.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper));
+                })
+                .build();
+        HttpHandler httpHandler = RouterFunctions.toHttpHandler(handler.routes(), strategies);
+
+        loopResources = LoopResources.create("catalog-loop", eventLoopThreads, true);
+        server = HttpServer.create()
+                .port(port)
+                .runOn(loopResources)
+                .handle(new ReactorHttpHandlerAdapter(httpHandler))
+                .bindNow(Duration.ofSeconds(10));
+        log.info("리액티브 카탈로그 서버 시작: 포트={}, 이벤트 루프 스레드={}", server.port(), eventLoopThreads);
+    }
+
+    @Override
+    public void stop() {
+        if (server != null) {
+            server.disposeNow(Duration.ofSeconds(10));
+            server = null;
+        }
+        if (loopResources != null) {
+            loopResources.disposeLater().block(Duration.ofSeconds(10));
+            loopResources = null;
+        }
+        log.info("리액티브 카탈로그 서버 종료");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+
+    /**
+     * @return 실제 바인딩된 포트 (port: 0이면 임의 포트)
+     */
+    public int port() {
+        DisposableServer current = server;
+        if (current == null) {
+            throw new IllegalStateException("Reactive catalog server is not running");
+        }
+        return current.port();
+    }
+}
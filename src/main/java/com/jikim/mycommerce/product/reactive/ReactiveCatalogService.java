@@ -0,0 +1,177 @@
+package com.jikim.mycommerce.product.reactive;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jikim.mycommerce.common.exception.InvalidRequestException;
+import com.jikim.mycommerce.product.ProductCursor;
+import com.jikim.mycommerce.product.ProductPageResponse;
+import com.jikim.mycommerce.product.ProductResponse;
+import com.jikim.mycommerce.product.ProductSearchCondition;
+import com.jikim.mycommerce.product.ProductSummaryResponse;
+import com.jikim.mycommerce.product.cache.ProductCache;
+import com.jikim.mycommerce.product.search.ProductSearchResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * ReactiveCatalogService
+ *
+ * 리액티브 카탈로그 조회 (블로킹 호출 없음)
+ * - 단건: 로컬 캐시(ProductCache) → Redis 해시 → R2DBC 순, DB에서 읽으면 같은 버전 비교 스크립트로 Redis에 저장
+ *   → 서블릿 ProductController와 같은 캐시를 공유하고, 무효화도 기존 product:invalidate 흐름을 그대로 따름
+ * - 목록/검색: ProductService와 같은 페이지 크기 제한, 커서 형식
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "mycommerce.product.reactive.enabled", havingValue = "true")
+public class ReactiveCatalogService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_SEARCH_OFFSET = 1000;
+
+    private final ReactiveProductRepository productRepository;
+    private final ProductCache productCache;
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    public ReactiveCatalogService(ReactiveProductRepository productRepository,
+                                  ProductCache productCache,
+                                  ReactiveRedisConnectionFactory redisConnectionFactory,
+                                  ObjectMapper objectMapper) {
+        this.productRepository = productRepository;
+        this.productCache = productCache;
+        this.redisTemplate = new ReactiveStringRedisTemplate(redisConnectionFactory);
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 상품을 조회한다
+     *
+     * @param id 상품 ID
+     * @return 상품 응답 (없으면 IllegalArgumentException)
+     */
+    public Mono<ProductResponse> getProduct(Long id) {
+        ProductResponse near = productCache.getIfPresent(id);
+        if (near != null) {
+            return Mono.just(near);
+        }
+
+        return getFromRedis(id)
+                .flatMap(entry -> {
+                    ProductResponse cached = readBody(id, entry.get(0));
+                    if (cached != null) {
+                        return Mono.just(cached);
+                    }
+                    // 미스 시점의 무효화 세대로 저장 (그 사이 무효화됐으면 스크립트가 거절)
+                    return productRepository.findById(id).flatMap(product -> putToRedis(product, entry.get(1)));
+                })
+                .switchIfEmpty(Mono.error(() -> new IllegalArgumentException("Product not found: " + id)));
+    }
+
+    /**
+     * 상품 목록을 키셋 페이지로 조회한다
+     *
+     * @param condition 조회 조건
+     * @param cursor 이전 페이지 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기 (최대 100)
+     * @return 상품 목록 페이지 응답
+     */
+    public Mono<ProductPageResponse> findProducts(ProductSearchCondition condition, String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        ProductCursor after;
+        try {
+            after = cursor == null || cursor.isBlank() ? null : ProductCursor.decode(cursor, condition);
+        } catch (IllegalArgumentException e) {
+            return Mono.error(e);
+        }
+
+        return productRepository.findSummaries(condition, after, pageSize + 1).collectList()
+                .map(products -> {
+                    if (products.size() <= pageSize) {
+                        return new ProductPageResponse(products, null);
+                    }
+                    List<ProductSummaryResponse> page = products.subList(0, pageSize);
+                    return new ProductPageResponse(page, ProductCursor.of(condition, page.get(pageSize - 1)).encode());
+                });
+    }
+
+    /**
+     * 상품을 검색한다 (관련도 순)
+     *
+     * @param query 검색어
+     * @param offset 시작 위치 (최대 1000)
+     * @param size 페이지 크기 (최대 100)
+     * @return 상품 검색 응답
+     */
+    public Mono<ProductSearchResponse> searchProducts(String query, int offset, int size) {
+        if (query == null || query.isBlank()) {
+            return Mono.error(new InvalidRequestException("Search query must not be blank"));
+        }
+        if (offset < 0 || offset > MAX_SEARCH_OFFSET) {
+            return Mono.error(new InvalidRequestException("offset must be between 0 and " + MAX_SEARCH_OFFSET));
+        }
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+
+        return productRepository.search(query.trim(), offset, pageSize + 1).collectList()
+                .map(products -> products.size() <= pageSize
+                        ? new ProductSearchResponse(products, null)
+                        : new ProductSearchResponse(products.subList(0, pageSize), offset + pageSize));
+    }
+
+    // [본문, 무효화 세대], Redis 장애면 [null, null] (세대를 모르므로 저장하지 않음)
+    private Mono<List<String>> getFromRedis(Long id) {
+        return redisTemplate.<String, String>opsForHash().multiGet(ProductCache.key(id), List.of("body", "gen"))
+                .map(values -> Arrays.asList(values.get(0),
+                        values.get(1) != null ? values.get(1) : ProductCache.INITIAL_GENERATION))
+                .onErrorResume(e -> {
+                    // Redis 장애는 DB 조회로 대체
+                    log.warn("Redis 상품 캐시 조회 실패: 상품 ID={}", id, e);
+                    return Mono.just(Arrays.asList(null, null));
+                });
+    }
+
+    // 형식 오류는 미스로 보고 DB 조회로 대체
+    private ProductResponse readBody(Long id, String body) {
+        if (body == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(body, ProductResponse.class);
+        } catch (JsonProcessingException e) {
+            log.warn("Redis 상품 캐시 형식 오류: 상품 ID={}", id, e);
+            return null;
+        }
+    }
+
+    // 저장 실패해도 조회 결과는 그대로 반환
+    private Mono<ProductResponse> putToRedis(ProductResponse product, String generation) {
+        if (generation == null) {
+            return Mono.just(product);
+        }
+        String body;
+        try {
+            body = objectMapper.writeValueAsString(product);
+        } catch (JsonProcessingException e) {
+            log.warn("Redis 상품 캐시 저장 실패: 상품 ID={}", product.id(), e);
+            return Mono.just(product);
+        }
+
+        return redisTemplate.execute(ProductCache.PUT_SCRIPT, List.of(ProductCache.key(product.id())),
+                        List.of(String.valueOf(product.version()), body, String.valueOf(productCache.redisTtlMillis()), generation))
+                .then(Mono.just(product))
+                .onErrorResume(e -> {
+                    log.warn("Redis 상품 캐시 저장 실패: 상품 ID={}", product.id(), e);
+                    return Mono.just(product);
+                });
+    }
+}
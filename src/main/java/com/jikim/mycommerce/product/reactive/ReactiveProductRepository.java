@@ -0,0 +1,150 @@
+package com.jikim.mycommerce.product.reactive;
+
+import com.jikim.mycommerce.product.ProductCursor;
+import com.jikim.mycommerce.product.ProductQueryFragments;
+import com.jikim.mycommerce.product.ProductResponse;
+import com.jikim.mycommerce.product.ProductSearchCondition;
+import com.jikim.mycommerce.product.ProductStatus;
+import com.jikim.mycommerce.product.ProductSummaryResponse;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * ReactiveProductRepository
+ *
+ * 리액티브 카탈로그 상품 조회 (R2DBC, 읽기 전용)
+ * - 단건/목록/검색 SQL은 JPA 경로(Product @Formula, ProductQueryRepository, 검색 저장소)와 같은 결과를 내도록 작성
+ * - 재고: 상품 행 재고 + 버킷 재고 합계
+ * - 검색: PostgreSQL은 search_vector 전문 검색, H2는 LIKE 대체
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "mycommerce.product.reactive.enabled", havingValue = "true")
+public class ReactiveProductRepository {
+
+    // 버킷 서브쿼리는 버킷 모드 상품만 (Product.bucketStock, bucketUpdatedAt과 같은 기준)
+    private static final String STOCK = "CAST(p.stock + CASE WHEN p.stock_bucketed THEN COALESCE((SELECT SUM(b.stock) " +
+                                        "FROM product_stock_buckets b WHERE b.product_id = p.id), 0) ELSE 0 END AS INTEGER)";
+
+    private static final String UPDATED_AT = "CASE WHEN p.stock_bucketed THEN GREATEST(p.updated_at, (SELECT MAX(b.updated_at) " +
+                                             "FROM product_stock_buckets b WHERE b.product_id = p.id)) ELSE p.updated_at END";
+
+    private static final String FIND_BY_ID_SQL =
+            "SELECT p.id, p.name, p.description, p.price, " + STOCK + " AS stock, p.status, " +
+            "p.created_at, " + UPDATED_AT + " AS updated_at, p.version FROM products p WHERE p.id = :id";
+
+    private static final String SUMMARY_COLUMNS =
+            "SELECT p.id, p.name, p.price, " + STOCK + " AS stock, p.status, p.created_at FROM products p";
+
+    private static final String POSTGRES_SEARCH_SQL =
+            "SELECT p.id, p.name, p.price, " + STOCK + " AS stock, p.status, p.created_at " +
+            "FROM products p, websearch_to_tsquery('simple', :query) q " +
+            "WHERE p.search_vector @@ q " +
+            "ORDER BY ts_rank(p.search_vector, q) DESC, p.id DESC " +
+            "LIMIT :limit OFFSET :offset";
+
+    private final ReactiveCatalogDatabase database;
+
+    /**
+     * @param id 상품 ID
+     * @return 상품 응답 (없으면 빈 Mono)
+     */
+    public Mono<ProductResponse> findById(Long id) {
+        return database.client().sql(FIND_BY_ID_SQL)
+                .bind("id", id)
+                .map(row -> new ProductResponse(
+                        row.get("id", Long.class),
+                        row.get("name", String.class),
+                        row.get("description", String.class),
+                        row.get("price", BigDecimal.class),
+                        row.get("stock", Integer.class),
+                        ProductStatus.valueOf(row.get("status", String.class)),
+                        row.get("created_at", LocalDateTime.class),
+                        row.get("updated_at", LocalDateTime.class),
+                        row.get("version", Long.class)))
+                .one();
+    }
+
+    /**
+     * 조건에 맞는 상품 요약을 정렬 순서로 조회한다 (ProductQueryRepository와 같은 조건절)
+     *
+     * @param condition 조회 조건
+     * @param after 이전 페이지 커서 (첫 페이지는 null)
+     * @param limit 최대 조회 수
+     * @return 상품 요약 목록
+     */
+    public Flux<ProductSummaryResponse> findSummaries(ProductSearchCondition condition, ProductCursor after, int limit) {
+        ProductQueryFragments.Fragment fragment =
+                ProductQueryFragments.listing(condition, after, "p." + condition.sort().column());
+        return bind(database.client().sql(SUMMARY_COLUMNS + fragment.sql() + " LIMIT :limit"), fragment)
+                .bind("limit", limit)
+                .map(ReactiveProductRepository::toSummary)
+                .all();
+    }
+
+    /**
+     * 상품을 검색한다 (관련도 순)
+     *
+     * @param query 검색어
+     * @param offset 시작 위치
+     * @param limit 최대 조회 수
+     * @return 상품 요약 목록
+     */
+    public Flux<ProductSummaryResponse> search(String query, int offset, int limit) {
+        if (database.isPostgres()) {
+            return database.client().sql(POSTGRES_SEARCH_SQL)
+                    .bind("query", query)
+                    .bind("limit", limit)
+                    .bind("offset", offset)
+                    .map(ReactiveProductRepository::toSummary)
+                    .all();
+        }
+        return searchByLike(query, offset, limit);
+    }
+
+    // H2 대체 검색: LikeProductSearchRepository와 같은 조건절
+    private Flux<ProductSummaryResponse> searchByLike(String query, int offset, int limit) {
+        ProductQueryFragments.Fragment fragment = ProductQueryFragments.likeSearch(query);
+        if (fragment == null) {
+            return Flux.empty();
+        }
+
+        return bind(database.client().sql(SUMMARY_COLUMNS + fragment.sql() + " LIMIT :limit OFFSET :offset"), fragment)
+                .bind("limit", limit)
+                .bind("offset", offset)
+                .map(ReactiveProductRepository::toSummary)
+                .all();
+    }
+
+    // 상태는 문자열 컬럼 (JPA @Enumerated(STRING)과 같은 값)
+    private static DatabaseClient.GenericExecuteSpec bind(DatabaseClient.GenericExecuteSpec spec,
+                                                          ProductQueryFragments.Fragment fragment) {
+        for (Map.Entry<String, Object> parameter : fragment.parameters().entrySet()) {
+            Object value = parameter.getValue();
+            spec = spec.bind(parameter.getKey(), value instanceof Enum<?> constant ? constant.name() : value);
+        }
+        return spec;
+    }
+
+    private static ProductSummaryResponse toSummary(Readable row) {
+        return new ProductSummaryResponse(
+                row.get("id", Long.class),
+                row.get("name", String.class),
+                row.get("price", BigDecimal.class),
+                row.get("stock", Integer.class),
+                ProductStatus.valueOf(row.get("status", String.class)),
+                row.get("created_at", LocalDateTime.class));
+    }
+}
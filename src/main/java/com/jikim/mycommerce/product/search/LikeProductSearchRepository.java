@@ -0,0 +1,45 @@
+package com.jikim.mycommerce.product.search;
+
+import com.jikim.mycommerce.product.ProductQueryFragments;
+import com.jikim.mycommerce.product.ProductSummaryResponse;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * LikeProductSearchRepository
+ *
+ * H2(테스트) 상품 검색 대체 구현
+ * - 검색어를 공백으로 나눠 단어마다 상품명 또는 설명 LIKE (모두 포함)
+ * - 관련도: 상품명에 일치한 단어 수 내림차순 (인덱스 없이 전체 스캔)
+ * - 조건절은 ProductQueryFragments.likeSearch (리액티브 카탈로그와 공용)
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+@Repository
+@Profile("test")
+@RequiredArgsConstructor
+public class LikeProductSearchRepository implements ProductSearchRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<ProductSummaryResponse> search(String query, int offset, int limit) {
+        ProductQueryFragments.Fragment fragment = ProductQueryFragments.likeSearch(query);
+        if (fragment == null) {
+            return List.of();
+        }
+
+        TypedQuery<ProductSummaryResponse> search = entityManager.createQuery(
+                "SELECT new com.jikim.mycommerce.product.ProductSummaryResponse(" +
+                "p.id, p.name, p.price, p.stock, p.bucketStock, p.status, p.createdAt) " +
+                "FROM Product p" + fragment.sql(), ProductSummaryResponse.class);
+        fragment.parameters().forEach(search::setParameter);
+        return search.setFirstResult(offset).setMaxResults(limit).getResultList();
+    }
+}
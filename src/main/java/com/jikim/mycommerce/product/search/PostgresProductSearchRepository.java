@@ -0,0 +1,58 @@
+package com.jikim.mycommerce.product.search;
+
+import com.jikim.mycommerce.product.ProductStatus;
+import com.jikim.mycommerce.product.ProductSummaryResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * PostgresProductSearchRepository
+ *
+ * PostgreSQL 전문 검색
+ * - products.search_vector: 상품명(가중치 A) + 설명(B) tsvector 생성 컬럼 (schema-search.sql)
+ *   → 상품 생성/수정 시 DB가 함께 갱신, 애플리케이션 코드 변경 없음
+ * - websearch_to_tsquery로 검색어 해석 (공백 AND, "구문", -제외), GIN 인덱스로 후보 조회 후 ts_rank 정렬
+ * - 한국어 형태소 사전이 없어 'simple' 설정 사용 (공백 단위 토큰, 소문자화)
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+@Repository
+@Profile("!test")
+@RequiredArgsConstructor
+public class PostgresProductSearchRepository implements ProductSearchRepository {
+
+    private static final String SEARCH_SQL = """
+            SELECT p.id, p.name, p.price, p.status, p.created_at,
+                   p.stock + CASE WHEN p.stock_bucketed
+                                  THEN COALESCE((SELECT SUM(b.stock) FROM product_stock_buckets b WHERE b.product_id = p.id), 0)
+                                  ELSE 0 END AS stock
+            FROM products p, websearch_to_tsquery('simple', :query) q
+            WHERE p.search_vector @@ q
+            ORDER BY ts_rank(p.search_vector, q) DESC, p.id DESC
+            LIMIT :limit OFFSET :offset
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<ProductSummaryResponse> search(String query, int offset, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("query", query)
+                .addValue("limit", limit)
+                .addValue("offset", offset);
+
+        return jdbcTemplate.query(SEARCH_SQL, params, (rs, rowNum) -> new ProductSummaryResponse(
+                rs.getLong("id"),
+                rs.getString("name"),
+                rs.getBigDecimal("price"),
+                rs.getInt("stock"),
+                ProductStatus.valueOf(rs.getString("status")),
+                rs.getTimestamp("created_at").toLocalDateTime()));
+    }
+}
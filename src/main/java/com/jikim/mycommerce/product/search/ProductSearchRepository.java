@@ -0,0 +1,28 @@
+package com.jikim.mycommerce.product.search;
+
+import com.jikim.mycommerce.product.ProductSummaryResponse;
+
+import java.util.List;
+
+/**
+ * ProductSearchRepository
+ *
+ * 상품 검색 (상품명, 설명)
+ * - PostgreSQL: tsvector 생성 컬럼 + GIN 인덱스 (dev, prod)
+ * - H2: LIKE 대체 구현 (test)
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+public interface ProductSearchRepository {
+
+    /**
+     * 검색어에 맞는 상품을 관련도 순으로 조회한다
+     *
+     * @param query 검색어 (공백으로 구분한 단어 모두 포함)
+     * @param offset 시작 위치
+     * @param limit 최대 조회 수
+     * @return 상품 요약 목록 (관련도 내림차순, 동점은 최신 상품 먼저)
+     */
+    List<ProductSummaryResponse> search(String query, int offset, int limit);
+}
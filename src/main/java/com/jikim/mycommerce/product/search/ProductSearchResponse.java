@@ -0,0 +1,20 @@
+package com.jikim.mycommerce.product.search;
+
+import com.jikim.mycommerce.product.ProductSummaryResponse;
+
+import java.util.List;
+
+/**
+ * ProductSearchResponse
+ *
+ * 상품 검색 페이지 응답 (관련도 순)
+ * nextOffset이 null이면 마지막 페이지
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+public record ProductSearchResponse(
+        List<ProductSummaryResponse> products,
+        Integer nextOffset
+) {
+}
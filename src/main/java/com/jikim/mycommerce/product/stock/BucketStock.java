@@ -0,0 +1,15 @@
+package com.jikim.mycommerce.product.stock;
+
+/**
+ * BucketStock
+ *
+ * 버킷 재고 조회 결과 (락 없는 스냅샷, 라우팅용)
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+public record BucketStock(
+        Integer bucketNo,
+        Integer stock
+) {
+}
@@ -0,0 +1,224 @@
+package com.jikim.mycommerce.product.stock;
+
+import com.jikim.mycommerce.common.exception.InsufficientStockException;
+import com.jikim.mycommerce.common.exception.InvalidQuantityException;
+import com.jikim.mycommerce.product.Product;
+import com.jikim.mycommerce.product.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * BucketedStockService
+ *
+ * 버킷 재고 서비스 (핫 상품용)
+ * - 상품 재고를 N개 버킷(product_stock_buckets)으로 분할
+ * - 주문은 임의의 비어있지 않은 버킷 행 하나만 조건부 UPDATE → 버킷 수만큼 병렬 처리
+ * - 요청 수량을 감당할 버킷이 없으면 전체 버킷을 락 걸고 재분배
+ * - 차감으로 버킷이 비면 리필 대상으로 표시 → 주기 작업이 전체 버킷을 락 걸고 재분배
+ *   (버킷 행 락을 쥔 차감 트랜잭션 안에서 전체 버킷을 락 걸면 교착 위험)
+ * - 버킷 모드 상품은 products.stock = 0, Product.getStock()은 버킷 합계를 포함
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class BucketedStockService implements StockDecrementStrategy {
+
+    private final ProductStockBucketRepository bucketRepository;
+    private final ProductRepository productRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    // 차감으로 빈 버킷이 생긴 상품 ID (리필 대기)
+    private final Set<Long> pendingRefills = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public String name() {
+        return "bucketed";
+    }
+
+    /**
+     * 상품 재고를 버킷으로 분할한다
+     * 이미 버킷 모드인 상품은 버킷 수를 바꿔 다시 분할
+     *
+     * @param productId 상품 ID
+     * @param bucketCount 버킷 수
+     */
+    @Transactional
+    public void enableBuckets(Long productId, int bucketCount) {
+        if (bucketCount < 2) {
+            throw new IllegalArgumentException("버킷 수는 2 이상이어야 합니다: " + bucketCount);
+        }
+
+        Product product = productRepository.findByIdWithPessimisticLock(productId)
+                .orElseThrow(() -> new IllegalArgumentException("Product not found: " + productId));
+        List<ProductStockBucket> buckets = bucketRepository.findAllByProductIdOrderByBucketNo(productId);
+
+        int total = product.getBaseStock() + sumOf(buckets);
+        bucketRepository.deleteAllInBatch(buckets);
+        bucketRepository.flush();
+
+        List<ProductStockBucket> newBuckets = new ArrayList<>();
+        for (int bucketNo = 0; bucketNo < bucketCount; bucketNo++) {
+            newBuckets.add(ProductStockBucket.builder()
+                    .productId(productId)
+                    .bucketNo(bucketNo)
+                    .stock(0)
+                    .build());
+        }
+        distribute(newBuckets, total);
+        bucketRepository.saveAll(newBuckets);
+
+        product.setStock(0);
+        product.setStockBucketed(true);
+        log.info("재고 버킷 분할: 상품 ID={}, 버킷 수={}, 재고={}", productId, bucketCount, total);
+    }
+
+    /**
+     * 버킷 재고를 상품 재고로 합치고 버킷 모드를 해제한다
+     *
+     * @param productId 상품 ID
+     */
+    @Transactional
+    public void disableBuckets(Long productId) {
+        Product product = productRepository.findByIdWithPessimisticLock(productId)
+                .orElseThrow(() -> new IllegalArgumentException("Product not found: " + productId));
+        List<ProductStockBucket> buckets = bucketRepository.findAllByProductIdOrderByBucketNo(productId);
+
+        product.setStock(product.getBaseStock() + sumOf(buckets));
+        product.setStockBucketed(false);
+        bucketRepository.deleteAllInBatch(buckets);
+    }
+
+    /**
+     * 주문 전체 상품 재고를 차감한다
+     * 버킷 모드가 아닌 상품은 상품 행 조건부 UPDATE로 처리
+     *
+     * @param quantities 상품 ID별 차감 수량
+     * @throws InvalidQuantityException 수량이 0 이하인 경우
+     * @throws InsufficientStockException 재고가 부족한 경우
+     */
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void decrease(Map<Long, Integer> quantities) {
+        // 상품 ID 순으로 처리 (행 락 순서 고정)
+        new TreeMap<>(quantities).forEach(this::decreaseOne);
+    }
+
+    private void decreaseOne(Long productId, Integer quantity) {
+        if (quantity == null || quantity <= 0) {
+            throw new InvalidQuantityException(quantity);
+        }
+
+        List<BucketStock> bucketStocks = bucketRepository.findBucketStocks(productId);
+
+        // 버킷 모드가 아닌 상품
+        if (bucketStocks.isEmpty()) {
+            if (productRepository.decreaseStockIfAvailable(productId, quantity) == 0) {
+                throw new InsufficientStockException(
+                        String.format("재고 부족: 상품 ID=%d, 요청=%d", productId, quantity));
+            }
+            return;
+        }
+
+        // 요청 수량을 감당할 수 있는 비어있지 않은 버킷을 임의 순서로 시도
+        List<BucketStock> candidates = new ArrayList<>();
+        for (BucketStock bucketStock : bucketStocks) {
+            if (bucketStock.stock() >= quantity) {
+                candidates.add(bucketStock);
+            }
+        }
+        Collections.shuffle(candidates, ThreadLocalRandom.current());
+
+        for (BucketStock candidate : candidates) {
+            if (bucketRepository.decreaseStockIfAvailable(productId, candidate.bucketNo(), quantity) == 1) {
+                // 조회 시점 재고 기준으로 버킷이 비었으면 리필 대상 (롤백돼도 재분배만 하므로 무해)
+                if (candidate.stock() - quantity <= 0) {
+                    pendingRefills.add(productId);
+                }
+                return;
+            }
+        }
+
+        // 빈 버킷/쏠림으로 단일 버킷에서 처리 불가 → 재분배하며 차감
+        rebalanceAndDecrease(productId, quantity);
+    }
+
+    // 전체 버킷 락 → 여러 버킷에 걸쳐 차감 → 남은 재고를 균등 재분배
+    private void rebalanceAndDecrease(Long productId, Integer quantity) {
+        List<ProductStockBucket> buckets = bucketRepository.findAllByProductIdOrderByBucketNo(productId);
+
+        int total = sumOf(buckets);
+        if (total < quantity) {
+            throw new InsufficientStockException(productId, quantity, total);
+        }
+
+        distribute(buckets, total - quantity);
+        log.debug("재고 버킷 재분배: 상품 ID={}, 버킷 수={}, 남은 재고={}", productId, buckets.size(), total - quantity);
+    }
+
+    /**
+     * 빈 버킷이 생긴 상품의 버킷 재고를 재분배한다
+     * 상품마다 별도 트랜잭션에서 전체 버킷을 버킷 번호 순으로 락 (차감 트랜잭션과 락 순서 충돌 없음)
+     */
+    @Scheduled(fixedDelayString = "${mycommerce.stock.bucketed.refill-interval-ms:200}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void refillEmptyBuckets() {
+        if (pendingRefills.isEmpty()) {
+            return;
+        }
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        for (Long productId : List.copyOf(pendingRefills)) {
+            pendingRefills.remove(productId);
+            try {
+                transactionTemplate.executeWithoutResult(status -> refill(productId));
+            } catch (RuntimeException e) {
+                log.warn("재고 버킷 리필 실패: 상품 ID={}", productId, e);
+            }
+        }
+    }
+
+    private void refill(Long productId) {
+        List<ProductStockBucket> buckets = bucketRepository.findAllByProductIdOrderByBucketNo(productId);
+        boolean hasEmptyBucket = buckets.stream().anyMatch(bucket -> bucket.getStock() == 0);
+
+        int total = sumOf(buckets);
+        if (!hasEmptyBucket || total == 0) {
+            return;
+        }
+
+        distribute(buckets, total);
+        log.debug("재고 버킷 리필: 상품 ID={}, 버킷 수={}, 재고={}", productId, buckets.size(), total);
+    }
+
+    // 재고를 버킷에 균등 분배 (나머지는 앞 버킷부터 1개씩)
+    private void distribute(List<ProductStockBucket> buckets, int total) {
+        int base = total / buckets.size();
+        int remainder = total % buckets.size();
+        for (int i = 0; i < buckets.size(); i++) {
+            buckets.get(i).setStock(base + (i < remainder ? 1 : 0));
+        }
+    }
+
+    private int sumOf(List<ProductStockBucket> buckets) {
+        return buckets.stream().mapToInt(ProductStockBucket::getStock).sum();
+    }
+}
@@ -0,0 +1,51 @@
+package com.jikim.mycommerce.product.stock;
+
+import com.jikim.mycommerce.common.exception.InsufficientStockException;
+import com.jikim.mycommerce.common.exception.InvalidQuantityException;
+import com.jikim.mycommerce.product.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * ConditionalUpdateStockDecrementStrategy
+ *
+ * 조건부 UPDATE 재고 차감
+ * - 상품마다 UPDATE ... WHERE id = ? AND stock >= ? 1회 (엔티티 로딩, 분산 락 없음)
+ * - 상품 ID 순으로 갱신해 행 락 순서 고정 (교착 방지)
+ * - 0건 갱신 시 재고 부족 → 트랜잭션 롤백으로 앞서 차감한 상품도 복원
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+@Component
+@RequiredArgsConstructor
+public class ConditionalUpdateStockDecrementStrategy implements StockDecrementStrategy {
+
+    private final ProductRepository productRepository;
+
+    @Override
+    public String name() {
+        return "conditional-update";
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void decrease(Map<Long, Integer> quantities) {
+        new TreeMap<>(quantities).forEach((productId, quantity) -> {
+            if (quantity == null || quantity <= 0) {
+                throw new InvalidQuantityException(quantity);
+            }
+
+            int updated = productRepository.decreaseStockIfAvailable(productId, quantity);
+            if (updated == 0) {
+                throw new InsufficientStockException(
+                        String.format("재고 부족: 상품 ID=%d, 요청=%d", productId, quantity));
+            }
+        });
+    }
+}
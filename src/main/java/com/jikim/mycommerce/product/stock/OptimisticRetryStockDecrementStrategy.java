@@ -0,0 +1,95 @@
+package com.jikim.mycommerce.product.stock;
+
+import com.jikim.mycommerce.product.Product;
+import com.jikim.mycommerce.product.ProductRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * OptimisticRetryStockDecrementStrategy
+ *
+ * 낙관적 락(@Version) + 재시도 재고 차감
+ * - 락 없이 조회 → 차감 → 커밋 시 버전 충돌이면 새 트랜잭션으로 재시도
+ * - 재시도 간격은 지수 백오프 + 지터
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+@Slf4j
+@Component
+public class OptimisticRetryStockDecrementStrategy implements StockDecrementStrategy {
+
+    private final ProductRepository productRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxAttempts;
+    private final long backoffMillis;
+
+    public OptimisticRetryStockDecrementStrategy(ProductRepository productRepository,
+                                                 PlatformTransactionManager transactionManager,
+                                                 @Value("${mycommerce.stock.optimistic.max-attempts:50}") int maxAttempts,
+                                                 @Value("${mycommerce.stock.optimistic.backoff-ms:5}") long backoffMillis) {
+        this.productRepository = productRepository;
+        this.maxAttempts = maxAttempts;
+        this.backoffMillis = backoffMillis;
+
+        // 시도마다 새 트랜잭션 (충돌 시 영속성 컨텍스트째 버리고 다시 조회)
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    public String name() {
+        return "optimistic";
+    }
+
+    @Override
+    public void decrease(Map<Long, Integer> quantities) {
+        SortedMap<Long, Integer> sortedQuantities = new TreeMap<>(quantities);
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> decreaseOnce(sortedQuantities));
+                return;
+            } catch (ObjectOptimisticLockingFailureException e) {
+                if (attempt >= maxAttempts) {
+                    throw new IllegalStateException("재고 차감 재시도 횟수 초과: " + sortedQuantities.keySet(), e);
+                }
+                log.debug("재고 버전 충돌, 재시도 {}/{}: {}", attempt, maxAttempts, sortedQuantities.keySet());
+                backoff(attempt);
+            }
+        }
+    }
+
+    private void decreaseOnce(SortedMap<Long, Integer> sortedQuantities) {
+        List<Product> products = productRepository.findAllById(sortedQuantities.keySet());
+        if (products.size() != sortedQuantities.size()) {
+            throw new IllegalArgumentException("Product not found: " + sortedQuantities.keySet());
+        }
+
+        // 커밋 시 @Version 검사, 다른 트랜잭션이 먼저 갱신했으면 충돌
+        for (Product product : products) {
+            product.decreaseStock(sortedQuantities.get(product.getId()));
+        }
+    }
+
+    private void backoff(int attempt) {
+        long maxDelay = backoffMillis << Math.min(attempt - 1, 6);
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(maxDelay + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("재고 차감 중 인터럽트 발생", e);
+        }
+    }
+}
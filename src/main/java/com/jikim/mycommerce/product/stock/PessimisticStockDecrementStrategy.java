@@ -0,0 +1,49 @@
+package com.jikim.mycommerce.product.stock;
+
+import com.jikim.mycommerce.product.Product;
+import com.jikim.mycommerce.product.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * PessimisticStockDecrementStrategy
+ *
+ * 비관적 락(SELECT ... FOR UPDATE)만 사용하는 재고 차감
+ * 분산 락 없이 상품 ID 순으로 행 락을 획득
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+@Component
+@RequiredArgsConstructor
+public class PessimisticStockDecrementStrategy implements StockDecrementStrategy {
+
+    private final ProductRepository productRepository;
+
+    @Override
+    public String name() {
+        return "pessimistic";
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void decrease(Map<Long, Integer> quantities) {
+        SortedMap<Long, Integer> sortedQuantities = new TreeMap<>(quantities);
+
+        List<Product> products = productRepository.findAllByIdInWithPessimisticLock(sortedQuantities.keySet());
+        if (products.size() != sortedQuantities.size()) {
+            throw new IllegalArgumentException("Product not found: " + sortedQuantities.keySet());
+        }
+
+        for (Product product : products) {
+            product.decreaseStock(sortedQuantities.get(product.getId()));
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.jikim.mycommerce.product.stock;
+
+import com.jikim.mycommerce.common.domain.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * ProductStockBucket
+ *
+ * 상품 재고 버킷 (핫 상품 재고를 N개 하위 카운터로 분할)
+ * 주문은 임의의 비어있지 않은 버킷 행만 갱신하므로 상품 행 하나에 직렬화되지 않는다
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+@Entity
+@Table(name = "product_stock_buckets",
+        uniqueConstraints = @UniqueConstraint(name = "uk_product_stock_buckets", columnNames = {"product_id", "bucket_no"}))
+@RequiredArgsConstructor
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+public class ProductStockBucket extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Column(nullable = false)
+    private Integer bucketNo;
+
+    @Column(nullable = false)
+    private Integer stock;
+}
@@ -0,0 +1,57 @@
+package com.jikim.mycommerce.product.stock;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+/**
+ * ProductStockBucketRepository
+ *
+ * 상품 재고 버킷 레포지토리
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+public interface ProductStockBucketRepository extends JpaRepository<ProductStockBucket, Long> {
+
+    /**
+     * 상품의 버킷별 재고를 락 없이 조회한다
+     *
+     * @param productId 상품 ID
+     * @return 버킷별 재고 (버킷 모드가 아니면 빈 목록)
+     */
+    @Query("SELECT new com.jikim.mycommerce.product.stock.BucketStock(b.bucketNo, b.stock) " +
+           "FROM ProductStockBucket b WHERE b.productId = :productId")
+    List<BucketStock> findBucketStocks(@Param("productId") Long productId);
+
+    /**
+     * 버킷 재고가 충분할 때만 차감한다 (해당 버킷 행만 락)
+     * 상품 행 대신 버킷 updated_at을 갱신 (상품 Last-Modified는 버킷 변경일시 포함)
+     *
+     * @param productId 상품 ID
+     * @param bucketNo 버킷 번호
+     * @param quantity 차감 수량
+     * @return 수정된 행 수 (0이면 버킷 재고 부족)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ProductStockBucket b SET b.stock = b.stock - :quantity, b.updatedAt = LOCAL DATETIME " +
+           "WHERE b.productId = :productId AND b.bucketNo = :bucketNo AND b.stock >= :quantity")
+    int decreaseStockIfAvailable(@Param("productId") Long productId,
+                                 @Param("bucketNo") Integer bucketNo,
+                                 @Param("quantity") Integer quantity);
+
+    /**
+     * 비관적 락으로 상품의 모든 버킷 조회 (재분배, 버킷 설정 변경 시)
+     * 버킷 번호 순으로 락 획득
+     *
+     * @param productId 상품 ID
+     * @return 버킷 목록
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<ProductStockBucket> findAllByProductIdOrderByBucketNo(Long productId);
+}
@@ -0,0 +1,195 @@
+package com.jikim.mycommerce.product.stock;
+
+import com.jikim.mycommerce.common.exception.InsufficientStockException;
+import com.jikim.mycommerce.common.exception.InvalidQuantityException;
+import com.jikim.mycommerce.product.Product;
+import com.jikim.mycommerce.product.ProductRepository;
+import com.jikim.mycommerce.product.ProductStock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * RedisStockEngine
+ *
+ * Redis 재고 카운터 기반 재고 예약 엔진
+ * - 상품별 재고를 Redis 카운터(stock:product:{id})로 관리 (권위 있는 재고)
+ * - 주문 전체 재고를 Lua 스크립트 1회 호출로 원자적으로 검증 + 차감 (분산 락, DB 락 없음)
+ * - 커밋 전 예약 수량은 진행 중 예약 해시(stock:inflight)에 기록
+ * - 주문 트랜잭션 커밋 시 DB 반영 스트림에 적재, 롤백 시 예약 재고 반환
+ * - products.stock 반영은 StockSyncScheduler가 비동기로 처리
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisStockEngine implements StockDecrementStrategy {
+
+    private static final String STOCK_KEY_PREFIX = "stock:product:";
+    public static final String INFLIGHT_KEY = "stock:inflight";
+    public static final String TRACKED_KEY = "stock:tracked";
+
+    private static final RedisScript<Long> RESERVE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/stock_reserve.lua"), Long.class);
+    private static final RedisScript<Long> RELEASE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/stock_release.lua"), Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ProductRepository productRepository;
+    private final StockSyncScheduler stockSyncScheduler;
+
+    public static String stockKey(Long productId) {
+        return STOCK_KEY_PREFIX + productId;
+    }
+
+    @Override
+    public String name() {
+        return "redis-script";
+    }
+
+    @Override
+    public void decrease(Map<Long, Integer> quantities) {
+        reserve(quantities);
+    }
+
+    // products.stock은 비동기 반영이므로 카운터가 적재돼 있으면 카운터 기준
+    @Override
+    public int availableStock(Product product) {
+        Integer stock = currentStock(product.getId());
+        return stock != null ? stock : product.getStock();
+    }
+
+    /**
+     * 주문 전체 재고를 예약한다
+     * 모든 상품 재고가 충분할 때만 한 번에 차감 (all or nothing)
+     *
+     * @param quantities 상품 ID별 차감 수량
+     * @throws InvalidQuantityException 수량이 0 이하인 경우
+     * @throws InsufficientStockException 재고가 부족한 상품이 있는 경우
+     */
+    public void reserve(Map<Long, Integer> quantities) {
+        quantities.values().forEach(quantity -> {
+            if (quantity == null || quantity <= 0) {
+                throw new InvalidQuantityException(quantity);
+            }
+        });
+
+        List<Long> productIds = new ArrayList<>(quantities.keySet());
+        List<String> counterKeys = productIds.stream().map(RedisStockEngine::stockKey).toList();
+
+        List<String> keys = new ArrayList<>(List.of(INFLIGHT_KEY, TRACKED_KEY));
+        keys.addAll(counterKeys);
+        Object[] args = scriptArgs(productIds, quantities);
+
+        long result = redisTemplate.execute(RESERVE_SCRIPT, keys, args);
+
+        // 카운터 미적재 상품이 있으면 DB 재고로 적재 후 1회 재시도
+        if (result < 0) {
+            loadMissingCounters(productIds, counterKeys);
+            result = redisTemplate.execute(RESERVE_SCRIPT, keys, args);
+        }
+
+        if (result < 0) {
+            Long productId = productIds.get((int) -result - 1);
+            throw new IllegalArgumentException("Product not found: " + productId);
+        }
+        if (result > 0) {
+            Long productId = productIds.get((int) result - 1);
+            throw new InsufficientStockException(productId, quantities.get(productId), currentStock(productId));
+        }
+
+        afterReservation(quantities);
+    }
+
+    /**
+     * 예약한 재고를 반환한다
+     *
+     * @param quantities 상품 ID별 반환 수량
+     */
+    public void release(Map<Long, Integer> quantities) {
+        List<Long> productIds = new ArrayList<>(quantities.keySet());
+
+        List<String> keys = new ArrayList<>(List.of(INFLIGHT_KEY));
+        productIds.stream().map(RedisStockEngine::stockKey).forEach(keys::add);
+
+        redisTemplate.execute(RELEASE_SCRIPT, keys, scriptArgs(productIds, quantities));
+    }
+
+    /**
+     * Redis 카운터의 현재 재고를 조회한다
+     *
+     * @param productId 상품 ID
+     * @return 현재 재고 (카운터 미적재 시 null)
+     */
+    public Integer currentStock(Long productId) {
+        String stock = redisTemplate.opsForValue().get(stockKey(productId));
+        return stock != null ? Integer.valueOf(stock) : null;
+    }
+
+    /**
+     * 카운터와 진행 중 예약 수량을 삭제한다
+     * 다음 예약 시 DB 재고로 다시 적재된다
+     *
+     * @param productId 상품 ID
+     */
+    public void evict(Long productId) {
+        redisTemplate.delete(stockKey(productId));
+        redisTemplate.opsForHash().delete(INFLIGHT_KEY, String.valueOf(productId));
+    }
+
+    // 수량 목록 뒤에 상품 ID 목록 (스크립트 ARGV 형식)
+    private Object[] scriptArgs(List<Long> productIds, Map<Long, Integer> quantities) {
+        List<String> args = new ArrayList<>();
+        productIds.forEach(productId -> args.add(String.valueOf(quantities.get(productId))));
+        productIds.forEach(productId -> args.add(String.valueOf(productId)));
+        return args.toArray();
+    }
+
+    // 카운터가 없는 상품만 DB 재고로 적재 (SETNX: 다른 노드가 먼저 적재했으면 유지)
+    private void loadMissingCounters(List<Long> productIds, List<String> keys) {
+        List<String> counters = redisTemplate.opsForValue().multiGet(keys);
+
+        List<Long> missingIds = new ArrayList<>();
+        for (int i = 0; i < productIds.size(); i++) {
+            if (counters == null || counters.get(i) == null) {
+                missingIds.add(productIds.get(i));
+            }
+        }
+
+        for (ProductStock productStock : productRepository.findStocksByIdIn(missingIds)) {
+            redisTemplate.opsForValue()
+                    .setIfAbsent(stockKey(productStock.productId()), String.valueOf(productStock.stock()));
+            log.info("재고 카운터 적재: 상품 ID={}, 재고={}", productStock.productId(), productStock.stock());
+        }
+    }
+
+    // 주문 트랜잭션 결과에 따라 DB 반영 스트림 적재 또는 예약 반환
+    private void afterReservation(Map<Long, Integer> quantities) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            stockSyncScheduler.enqueue(quantities);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    stockSyncScheduler.enqueue(quantities);
+                } else {
+                    release(quantities);
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,89 @@
+package com.jikim.mycommerce.product.stock;
+
+import com.jikim.mycommerce.product.Product;
+import com.jikim.mycommerce.product.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RedissonStockDecrementStrategy
+ *
+ * 분산 락 + 비관적 락 재고 차감 (기본 전략)
+ *
+ * 주의: 동시성 제어 계층
+ * - Redis 분산 락 (MultiLock)              ← 전략 책임
+ * - DB Pessimistic Lock (Repository)      ← Repository 책임
+ * - Optimistic Lock (@Version 자동 처리)   ← JPA 책임
+ *
+ * - 모든 상품 락을 상품 ID 순으로 MultiLock 1회 호출로 획득 (역순 장바구니 간 교착 방지)
+ * - 비관적 락도 ID 순으로 한 번에 조회
+ * - 하나의 트랜잭션에서 차감 후 락을 함께 해제
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+@Component
+@RequiredArgsConstructor
+public class RedissonStockDecrementStrategy implements StockDecrementStrategy {
+
+    private static final String LOCK_KEY_PREFIX = "lock:product:";
+
+    private final ProductRepository productRepository;
+    private final RedissonClient redissonClient;
+
+    @Override
+    public String name() {
+        return "redisson";
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)  // ← 별도 트랜잭션으로 관리
+    public void decrease(Map<Long, Integer> quantities) {
+        SortedMap<Long, Integer> sortedQuantities = new TreeMap<>(quantities);
+
+        RLock[] locks = sortedQuantities.keySet().stream()
+                .map(productId -> redissonClient.getLock(LOCK_KEY_PREFIX + productId))
+                .toArray(RLock[]::new);
+        RLock multiLock = redissonClient.getMultiLock(locks);
+
+        boolean acquired = false;
+        try {
+            // 모든 상품 락을 한 번에 획득 (전부 획득하거나 전부 실패)
+            acquired = multiLock.tryLock(10, 10, TimeUnit.SECONDS);
+            if (!acquired) {
+                throw new IllegalStateException("재고 락 획득 실패");
+            }
+
+            // Pessimistic Lock으로 한 번에 조회 (ID 오름차순)
+            List<Product> products = productRepository
+                    .findAllByIdInWithPessimisticLock(sortedQuantities.keySet());
+            if (products.size() != sortedQuantities.size()) {
+                throw new IllegalArgumentException("Product not found: " + sortedQuantities.keySet());
+            }
+
+            // Entity의 순수 로직 호출, @Version으로 Optimistic Lock 자동 체크
+            for (Product product : products) {
+                product.decreaseStock(sortedQuantities.get(product.getId()));
+            }
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("재고 차감 중 인터럽트 발생", e);
+        } finally {
+            // MultiLock은 isHeldByCurrentThread 미지원 → 획득 여부로 판단
+            if (acquired) {
+                multiLock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package com.jikim.mycommerce.product.stock;
+
+import com.jikim.mycommerce.common.concurrent.Futures;
+import com.jikim.mycommerce.common.exception.InsufficientStockException;
+import com.jikim.mycommerce.common.exception.InvalidQuantityException;
+import com.jikim.mycommerce.product.Product;
+import com.jikim.mycommerce.product.ProductRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * StockDecrementCombiner
+ *
+ * 같은 상품 재고 차감 요청 결합기 (노드 내)
+ * - 동시에 들어온 같은 상품 차감 요청을 상품별 대기열에 모음
+ * - 리더 스레드 하나가 분산 락을 1회 획득 → 합산 수량을 DB에 1회 반영
+ * - 각 요청은 도착 순서대로 재고 범위 안에서 성공/재고 부족으로 개별 완료
+ * → 상품당 락 왕복 N회가 배치당 1회로 줄어듦
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+@Slf4j
+@Component
+public class StockDecrementCombiner implements StockDecrementStrategy {
+
+    private static final String LOCK_KEY_PREFIX = "lock:product:";
+    private static final long PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final ProductRepository productRepository;
+    private final RedissonClient redissonClient;
+    private final TransactionTemplate transactionTemplate;
+    private final DistributionSummary batchSizeSummary;
+    private final int maxBatchSize;
+
+    // 상품 ID → 결합 대기열
+    private final ConcurrentHashMap<Long, CombiningSlot> slots = new ConcurrentHashMap<>();
+
+    public StockDecrementCombiner(ProductRepository productRepository,
+                                  RedissonClient redissonClient,
+                                  PlatformTransactionManager transactionManager,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${mycommerce.stock.combining.max-batch-size:64}") int maxBatchSize) {
+        this.productRepository = productRepository;
+        this.redissonClient = redissonClient;
+        this.maxBatchSize = maxBatchSize;
+
+        // 호출한 주문 트랜잭션과 별도로 커밋 (기존 REQUIRES_NEW와 동일)
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        this.batchSizeSummary = DistributionSummary.builder("stock.combiner.batch.size")
+                .description("배치 1회에 결합 처리된 재고 차감 요청 수")
+                .baseUnit("requests")
+                .publishPercentiles(0.5, 0.9, 0.99)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String name() {
+        return "combining";
+    }
+
+    /**
+     * 주문 전체 상품 재고를 차감한다
+     * 상품 ID 순으로 결합기를 거치고, 중간에 실패하면 앞서 차감한 상품 재고를 복원
+     *
+     * @param quantities 상품 ID별 차감 수량
+     */
+    @Override
+    public void decrease(Map<Long, Integer> quantities) {
+        Map<Long, Integer> decreased = new LinkedHashMap<>();
+        try {
+            new TreeMap<>(quantities).forEach((productId, quantity) -> {
+                decrease(productId, quantity);
+                decreased.put(productId, quantity);
+            });
+        } catch (RuntimeException e) {
+            restore(decreased);
+            throw e;
+        }
+    }
+
+    /**
+     * 상품 재고를 차감한다
+     * 현재 배치를 처리 중인 리더가 있으면 대기열에 합류해 결과를 기다림
+     *
+     * @param productId 상품 ID
+     * @param quantity 차감 수량
+     * @throws InvalidQuantityException 수량이 0 이하인 경우
+     * @throws InsufficientStockException 재고가 부족한 경우
+     */
+    public void decrease(Long productId, Integer quantity) {
+        if (quantity == null || quantity <= 0) {
+            throw new InvalidQuantityException(quantity);
+        }
+
+        CombiningSlot slot = slots.computeIfAbsent(productId, id -> new CombiningSlot());
+        DecrementRequest request = new DecrementRequest(quantity, Thread.currentThread());
+        slot.queue.add(request);
+
+        while (!request.result.isDone()) {
+            if (slot.draining.compareAndSet(false, true)) {
+                // 리더: 대기열에서 배치를 꺼내 한 번에 처리
+                try {
+                    applyBatch(productId, pollBatch(slot));
+                } finally {
+                    slot.draining.set(false);
+                    handOff(slot);
+                }
+            } else {
+                // 팔로워: 완료되거나 리더 자리가 빌 때까지 대기
+                LockSupport.parkNanos(this, PARK_NANOS);
+            }
+        }
+
+        Futures.join(request.result);
+    }
+
+    private List<DecrementRequest> pollBatch(CombiningSlot slot) {
+        List<DecrementRequest> batch = new ArrayList<>();
+        DecrementRequest request;
+        while (batch.size() < maxBatchSize && (request = slot.queue.poll()) != null) {
+            batch.add(request);
+        }
+        return batch;
+    }
+
+    // 리더 자리를 비운 뒤 다음 대기 요청 스레드를 깨워 리더를 이어받게 함
+    private void handOff(CombiningSlot slot) {
+        DecrementRequest next = slot.queue.peek();
+        if (next != null) {
+            LockSupport.unpark(next.waiter);
+        }
+    }
+
+    private void applyBatch(Long productId, List<DecrementRequest> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        batchSizeSummary.record(batch.size());
+
+        RLock lock = redissonClient.getLock(LOCK_KEY_PREFIX + productId);
+        List<DecrementRequest> accepted = new ArrayList<>();
+        Map<DecrementRequest, Integer> rejected = new LinkedHashMap<>();   // 요청 → 판정 시점 재고
+
+        try {
+            boolean acquired = lock.tryLock(10, 10, TimeUnit.SECONDS);
+            if (!acquired) {
+                throw new IllegalStateException("재고 락 획득 실패");
+            }
+
+            transactionTemplate.executeWithoutResult(status -> {
+                accepted.clear();
+                rejected.clear();
+
+                Product product = productRepository.findByIdWithPessimisticLock(productId)
+                        .orElseThrow(() -> new IllegalArgumentException("Product not found: " + productId));
+
+                // 도착 순서대로 남은 재고 안에서 수락
+                int remaining = product.getBaseStock();
+                int total = 0;
+                for (DecrementRequest request : batch) {
+                    if (request.quantity <= remaining) {
+                        remaining -= request.quantity;
+                        total += request.quantity;
+                        accepted.add(request);
+                    } else {
+                        rejected.put(request, remaining);
+                    }
+                }
+
+                // 합산 수량 1회 반영, @Version으로 Optimistic Lock 자동 체크
+                if (total > 0) {
+                    product.decreaseStock(total);
+                }
+            });
+
+            // 커밋 이후 개별 완료
+            accepted.forEach(request -> request.complete(null));
+            rejected.forEach((request, available) -> request.complete(
+                    new InsufficientStockException(productId, request.quantity, available)));
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            RuntimeException failure = new RuntimeException("재고 차감 중 인터럽트 발생", e);
+            batch.forEach(request -> request.complete(failure));
+        } catch (RuntimeException e) {
+            log.warn("재고 차감 배치 실패: 상품 ID={}, 요청 수={}", productId, batch.size(), e);
+            batch.forEach(request -> request.complete(e));
+        } finally {
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    // 보상: 앞서 차감한 재고 복원 (결합하지 않고 상품별로 바로 반영)
+    private void restore(Map<Long, Integer> decreased) {
+        if (decreased.isEmpty()) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status ->
+                new TreeMap<>(decreased).forEach(productRepository::addStock));
+    }
+
+    private static final class CombiningSlot {
+        private final Queue<DecrementRequest> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean draining = new AtomicBoolean(false);
+    }
+
+    private static final class DecrementRequest {
+        private final int quantity;
+        private final Thread waiter;
+        private final CompletableFuture<Void> result = new CompletableFuture<>();
+
+        private DecrementRequest(int quantity, Thread waiter) {
+            this.quantity = quantity;
+            this.waiter = waiter;
+        }
+
+        // failure가 null이면 성공
+        private void complete(RuntimeException failure) {
+            if (failure == null) {
+                result.complete(null);
+            } else {
+                result.completeExceptionally(failure);
+            }
+            LockSupport.unpark(waiter);
+        }
+    }
+}
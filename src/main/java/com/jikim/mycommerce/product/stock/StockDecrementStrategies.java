@@ -0,0 +1,73 @@
+package com.jikim.mycommerce.product.stock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * StockDecrementStrategies
+ *
+ * 재고 차감 전략 목록
+ * - 모든 전략을 빈으로 등록해두고 mycommerce.stock.strategy로 현재 전략을 선택
+ * - 벤치마크에서는 이름으로 각 전략을 꺼내 비교
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+@Component
+public class StockDecrementStrategies {
+
+    private final Map<String, StockDecrementStrategy> strategies;
+    private final StockDecrementStrategy current;
+
+    public StockDecrementStrategies(List<StockDecrementStrategy> strategies,
+                                    @Value("${mycommerce.stock.strategy:redisson}") String strategyName) {
+        this.strategies = strategies.stream()
+                .collect(Collectors.toMap(StockDecrementStrategy::name, Function.identity(),
+                        (a, b) -> {
+                            throw new IllegalStateException("재고 차감 전략 이름 중복: " + a.name());
+                        },
+                        TreeMap::new));
+        this.current = get(strategyName);
+    }
+
+    /**
+     * 현재 설정된 전략
+     *
+     * @return 재고 차감 전략
+     */
+    public StockDecrementStrategy current() {
+        return current;
+    }
+
+    /**
+     * 이름으로 전략을 조회한다
+     *
+     * @param name 전략 이름
+     * @return 재고 차감 전략
+     * @throws IllegalArgumentException 없는 전략인 경우
+     */
+    public StockDecrementStrategy get(String name) {
+        StockDecrementStrategy strategy = strategies.get(name);
+        if (strategy == null) {
+            throw new IllegalArgumentException(
+                    "알 수 없는 재고 차감 전략: " + name + " (사용 가능: " + strategies.keySet() + ")");
+        }
+        return strategy;
+    }
+
+    /**
+     * 등록된 전략 이름 목록
+     *
+     * @return 전략 이름 (정렬)
+     */
+    public Set<String> names() {
+        return strategies.keySet();
+    }
+}
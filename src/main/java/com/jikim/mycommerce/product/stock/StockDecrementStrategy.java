@@ -0,0 +1,45 @@
+package com.jikim.mycommerce.product.stock;
+
+import com.jikim.mycommerce.product.Product;
+
+import java.util.Map;
+
+/**
+ * StockDecrementStrategy
+ *
+ * 재고 차감 전략
+ * mycommerce.stock.strategy 값과 name()이 같은 구현체가 주문 재고 차감에 사용된다
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+public interface StockDecrementStrategy {
+
+    /**
+     * 전략 이름 (mycommerce.stock.strategy 값)
+     *
+     * @return 전략 이름
+     */
+    String name();
+
+    /**
+     * 주문 전체 상품 재고를 차감한다
+     * 하나라도 재고가 부족하면 주문 전체가 차감되지 않아야 한다
+     *
+     * @param quantities 상품 ID별 차감 수량
+     * @throws com.jikim.mycommerce.common.exception.InvalidQuantityException 수량이 0 이하인 경우
+     * @throws com.jikim.mycommerce.common.exception.InsufficientStockException 재고가 부족한 경우
+     */
+    void decrease(Map<Long, Integer> quantities);
+
+    /**
+     * 지금 차감할 수 있는 재고를 조회한다
+     * 재고를 DB 밖(Redis 카운터 등)에서 관리하는 전략은 재정의
+     *
+     * @param product 상품
+     * @return 현재 재고
+     */
+    default int availableStock(Product product) {
+        return product.getStock();
+    }
+}
@@ -0,0 +1,39 @@
+package com.jikim.mycommerce.product.stock;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * StockSyncJobs
+ *
+ * Redis 재고 동기화 주기 작업 (redis-script 전략일 때만 등록)
+ * StockSyncScheduler는 벤치마크가 전략을 이름으로 꺼내 쓸 수 있도록 항상 등록하고,
+ * 스트림 반영/정합성 점검 주기 실행만 현재 전략에 따라 켬
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "mycommerce.stock.strategy", havingValue = "redis-script")
+public class StockSyncJobs {
+
+    private final StockSyncScheduler stockSyncScheduler;
+
+    @Scheduled(fixedDelayString = "${mycommerce.stock.redis.flush-interval-ms:200}")
+    public void flush() {
+        stockSyncScheduler.flush();
+    }
+
+    @Scheduled(fixedDelayString = "${mycommerce.stock.redis.reconcile-interval-ms:60000}")
+    public void reconcile() {
+        stockSyncScheduler.reconcile();
+    }
+
+    @Scheduled(fixedDelayString = "${mycommerce.stock.redis.log-cleanup-interval-ms:3600000}")
+    public void cleanupLog() {
+        stockSyncScheduler.cleanupLog();
+    }
+}
@@ -0,0 +1,293 @@
+package com.jikim.mycommerce.product.stock;
+
+import com.jikim.mycommerce.product.ProductStock;
+import com.jikim.mycommerce.product.ProductRepository;
+import com.jikim.mycommerce.product.cache.ProductCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * StockSyncScheduler
+ *
+ * Redis 재고 카운터 → products.stock 비동기 반영(write-behind) 및 정합성 점검
+ * - 커밋된 예약 수량을 Redis 스트림(stock:deltas)에 적재 → 노드가 재시작돼도 유실 없음
+ * - 주기적으로 스트림을 컨슈머 그룹으로 읽어 상품별로 합산, JDBC 배치 UPDATE로 반영
+ * - 반영한 엔트리 ID를 같은 트랜잭션에서 stock_sync_log에 기록 → ACK 전에 죽어도 중복 반영 없음
+ * - 죽은 노드가 읽고 ACK하지 못한 엔트리는 claim-idle-ms 이후 다른 노드가 가져감
+ * - Redis 카운터와 DB 재고(- 미반영 스트림 - 진행 중 예약)를 비교해 차이(drift)를 기록
+ * - 주기 실행은 StockSyncJobs (redis-script 전략일 때만)
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+@Slf4j
+@Component
+public class StockSyncScheduler {
+
+    public static final String STREAM_KEY = "stock:deltas";
+    private static final String GROUP = "stock-sync";
+
+    private static final RedisScript<String> COMMIT_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/stock_commit.lua"), String.class);
+
+    private final ProductRepository productRepository;
+    private final ProductCache productCache;
+    private final StringRedisTemplate redisTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final String consumerName;
+    private final int batchSize;
+    private final Duration claimIdle;
+
+    private volatile boolean groupCreated;
+
+    public StockSyncScheduler(ProductRepository productRepository,
+                              ProductCache productCache,
+                              StringRedisTemplate redisTemplate,
+                              TransactionTemplate transactionTemplate,
+                              JdbcTemplate jdbcTemplate,
+                              NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+                              @Value("${mycommerce.stock.redis.consumer:${HOSTNAME:stock-sync}}") String consumerName,
+                              @Value("${mycommerce.stock.redis.batch-size:1000}") int batchSize,
+                              @Value("${mycommerce.stock.redis.claim-idle-ms:30000}") long claimIdleMillis) {
+        this.productRepository = productRepository;
+        this.productCache = productCache;
+        this.redisTemplate = redisTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.consumerName = consumerName;
+        this.batchSize = batchSize;
+        this.claimIdle = Duration.ofMillis(claimIdleMillis);
+    }
+
+    /**
+     * 커밋된 예약 수량을 DB 반영 스트림에 적재한다
+     * 같은 스크립트에서 진행 중 예약 수량도 함께 줄임
+     *
+     * @param quantities 상품 ID별 차감 수량
+     */
+    public void enqueue(Map<Long, Integer> quantities) {
+        List<String> args = new ArrayList<>();
+        quantities.forEach((productId, quantity) -> {
+            args.add(String.valueOf(productId));
+            args.add(String.valueOf(quantity));
+        });
+
+        redisTemplate.execute(COMMIT_SCRIPT, List.of(RedisStockEngine.INFLIGHT_KEY, STREAM_KEY), args.toArray());
+    }
+
+    /**
+     * 스트림에 쌓인 차감 수량을 DB에 반영한다
+     * 자신이 읽고 ACK하지 못한 엔트리 → 새 엔트리 순으로 처리, 실패 시 다음 주기에 재시도
+     */
+    public void flush() {
+        if (!createGroupIfAbsent()) {
+            return;
+        }
+        claimStaleEntries();
+
+        try {
+            // 재시작 전 읽고 반영하지 못한 엔트리부터
+            while (apply(read(ReadOffset.from("0")))) {
+                // 미처리 엔트리가 없을 때까지
+            }
+            while (apply(read(ReadOffset.lastConsumed()))) {
+                // 새 엔트리가 없을 때까지
+            }
+        } catch (RuntimeException e) {
+            log.error("재고 DB 반영 실패, 다음 주기에 재시도", e);
+        }
+    }
+
+    /**
+     * Redis 카운터와 DB 재고를 비교한다
+     * 기대값 = DB 재고 - 미반영 스트림 수량 - 진행 중(커밋 전) 예약 수량
+     * 스트림 반영과 조회 사이 시점 차이로 일시적인 차이가 나타날 수 있음
+     *
+     * @return 상품 ID별 차이 (Redis 카운터 - 기대값, 차이가 있는 상품만)
+     */
+    public Map<Long, Integer> reconcile() {
+        Map<Long, Integer> drifts = new HashMap<>();
+        Set<String> trackedIds = redisTemplate.opsForSet().members(RedisStockEngine.TRACKED_KEY);
+        if (trackedIds == null || trackedIds.isEmpty()) {
+            return drifts;
+        }
+
+        List<Long> productIds = trackedIds.stream().map(Long::valueOf).toList();
+        List<String> counters = redisTemplate.opsForValue()
+                .multiGet(productIds.stream().map(RedisStockEngine::stockKey).toList());
+        List<Object> inflights = redisTemplate.opsForHash()
+                .multiGet(RedisStockEngine.INFLIGHT_KEY, new ArrayList<>(trackedIds));
+        Map<Long, Integer> pendingDeltas = pendingDeltas();
+
+        Map<Long, Integer> dbStocks = new HashMap<>();
+        for (ProductStock productStock : productRepository.findStocksByIdIn(productIds)) {
+            dbStocks.put(productStock.productId(), productStock.stock());
+        }
+
+        for (int i = 0; i < productIds.size(); i++) {
+            Long productId = productIds.get(i);
+            String counter = counters != null ? counters.get(i) : null;
+            Integer dbStock = dbStocks.get(productId);
+            if (counter == null || dbStock == null) {
+                continue;   // 카운터 미적재 또는 삭제된 상품
+            }
+
+            int pending = pendingDeltas.getOrDefault(productId, 0);
+            int inflight = inflights.get(i) != null ? Integer.parseInt((String) inflights.get(i)) : 0;
+            int drift = Integer.parseInt(counter) - (dbStock - pending - inflight);
+            if (drift != 0) {
+                drifts.put(productId, drift);
+                log.warn("재고 불일치: 상품 ID={}, Redis={}, DB={}, 미반영={}, 진행 중={}",
+                        productId, counter, dbStock, pending, inflight);
+            }
+        }
+
+        return drifts;
+    }
+
+    /**
+     * 오래된 반영 이력을 삭제한다
+     * 이력은 ACK 전 재전달 구간(claim-idle-ms)만 커버하면 충분
+     */
+    public void cleanupLog() {
+        int deleted = jdbcTemplate.update("DELETE FROM stock_sync_log WHERE applied_at < ?",
+                Timestamp.valueOf(LocalDateTime.now().minusDays(1)));
+        if (deleted > 0) {
+            log.info("재고 반영 이력 삭제: {}건", deleted);
+        }
+    }
+
+    private List<MapRecord<String, Object, Object>> read(ReadOffset offset) {
+        List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream().read(
+                Consumer.from(GROUP, consumerName),
+                StreamReadOptions.empty().count(batchSize),
+                StreamOffset.create(STREAM_KEY, offset));
+        return records != null ? records : List.of();
+    }
+
+    // 한 배치를 한 트랜잭션으로 반영 → ACK → 스트림에서 삭제, 반영한 엔트리가 있으면 true
+    private boolean apply(List<MapRecord<String, Object, Object>> records) {
+        if (records.isEmpty()) {
+            return false;
+        }
+
+        List<String> recordIds = records.stream().map(record -> record.getId().getValue()).toList();
+        Set<Long> changedProductIds = new HashSet<>();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Set<String> appliedIds = new HashSet<>(namedParameterJdbcTemplate.queryForList(
+                    "SELECT stream_id FROM stock_sync_log WHERE stream_id IN (:ids)",
+                    new MapSqlParameterSource("ids", recordIds), String.class));
+
+            // 상품별 합산 (상품 ID 순으로 갱신해 행 락 순서 고정)
+            Map<Long, Integer> deltas = new TreeMap<>();
+            List<Object[]> logs = new ArrayList<>();
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            for (MapRecord<String, Object, Object> record : records) {
+                if (appliedIds.contains(record.getId().getValue())) {
+                    continue;   // 반영 후 ACK 전에 중단된 엔트리
+                }
+                record.getValue().forEach((productId, quantity) -> deltas.merge(
+                        Long.valueOf((String) productId), Integer.valueOf((String) quantity), Integer::sum));
+                logs.add(new Object[]{record.getId().getValue(), now});
+            }
+
+            jdbcTemplate.batchUpdate(
+                    "UPDATE products SET stock = stock - ?, version = version + 1, updated_at = LOCALTIMESTAMP WHERE id = ?",
+                    deltas.entrySet().stream()
+                            .map(delta -> new Object[]{delta.getValue(), delta.getKey()})
+                            .toList());
+            jdbcTemplate.batchUpdate("INSERT INTO stock_sync_log (stream_id, applied_at) VALUES (?, ?)", logs);
+            changedProductIds.addAll(deltas.keySet());
+
+            log.debug("재고 DB 반영: 엔트리 {}건, {}", logs.size(), deltas);
+        });
+
+        RecordId[] ids = records.stream().map(MapRecord::getId).toArray(RecordId[]::new);
+        StreamOperations<String, Object, Object> streamOperations = redisTemplate.opsForStream();
+        streamOperations.acknowledge(STREAM_KEY, GROUP, ids);
+        streamOperations.delete(STREAM_KEY, ids);
+
+        productCache.evictAfterCompletion(changedProductIds);
+        return true;
+    }
+
+    // 다른 컨슈머가 읽고 오래 ACK하지 않은 엔트리 → 내 미처리 목록으로 가져옴
+    private void claimStaleEntries() {
+        StreamOperations<String, Object, Object> streamOperations = redisTemplate.opsForStream();
+        RecordId[] staleIds = streamOperations.pending(STREAM_KEY, GROUP, Range.unbounded(), batchSize).stream()
+                .filter(message -> !consumerName.equals(message.getConsumerName()))
+                .filter(message -> message.getElapsedTimeSinceLastDelivery().compareTo(claimIdle) > 0)
+                .map(PendingMessage::getId)
+                .toArray(RecordId[]::new);
+
+        if (staleIds.length > 0) {
+            streamOperations.claim(STREAM_KEY, GROUP, consumerName, claimIdle, staleIds);
+            log.info("재고 반영 엔트리 인수: {}건", staleIds.length);
+        }
+    }
+
+    // 스트림에 남은 엔트리 = 아직 DB에 반영되지 않은 수량
+    private Map<Long, Integer> pendingDeltas() {
+        Map<Long, Integer> pending = new HashMap<>();
+        List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream().range(STREAM_KEY, Range.unbounded());
+        if (records != null) {
+            records.forEach(record -> record.getValue().forEach((productId, quantity) -> pending.merge(
+                    Long.valueOf((String) productId), Integer.valueOf((String) quantity), Integer::sum)));
+        }
+        return pending;
+    }
+
+    // 그룹 생성(또는 이미 존재) 확인 시에만 기억, 일시 장애면 다음 주기에 다시 시도
+    private boolean createGroupIfAbsent() {
+        if (groupCreated) {
+            return true;
+        }
+        try {
+            redisTemplate.opsForStream().createGroup(STREAM_KEY, ReadOffset.from("0"), GROUP);
+        } catch (RedisSystemException e) {
+            String message = NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+            if (message == null || !message.contains("BUSYGROUP")) {
+                log.warn("재고 반영 컨슈머 그룹 생성 실패, 다음 주기에 재시도", e);
+                return false;
+            }
+            // BUSYGROUP: 다른 노드가 이미 생성
+            log.debug("재고 반영 컨슈머 그룹 이미 존재: {}", message);
+        }
+        groupCreated = true;
+        return true;
+    }
+}
@@ -0,0 +1,212 @@
+package com.jikim.mycommerce.product.stream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jikim.mycommerce.product.ProductRepository;
+import com.jikim.mycommerce.product.ProductStock;
+import com.jikim.mycommerce.product.cache.ProductCache;
+import com.jikim.mycommerce.product.cache.ProductInvalidation;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * StockStreamService
+ *
+ * 상품 재고 SSE 스트림 (GET /api/products/{id}/stock/stream)
+ * - 재고 변경은 이미 발행되는 product:invalidate 메시지 1건으로 전 노드에 전달 → 노드마다 로컬 구독자에게 전송
+ * - 메시지는 바뀐 상품 ID만 모아두고 interval-ms마다 한 번 재고 조회/전송 (상품당 초당 최대 1000/interval-ms회)
+ * - 구독자가 있는 상품만 조회, 재고 값이 그대로면 전송 안 함, 이벤트 JSON은 상품당 한 번만 직렬화
+ * - SseEmitter는 서블릿 비동기 요청 → 대기 중인 연결이 스레드를 점유하지 않음
+ * - 전송은 전용 전송 스레드(send-threads개)에서 처리 → 느린 연결이 다른 @Scheduled 작업을 막지 않음
+ *   상품 ID로 스레드를 고정해 같은 상품 이벤트 순서 유지
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+@Slf4j
+@Service
+public class StockStreamService implements MessageListener {
+
+    private static final String EVENT_NAME = "stock";
+
+    private final ProductRepository productRepository;
+    private final ObjectMapper objectMapper;
+    private final long emitterTimeoutMillis;
+
+    private final Map<Long, Set<SseEmitter>> subscribers = new ConcurrentHashMap<>();
+    private final Map<Long, Integer> lastSentStocks = new ConcurrentHashMap<>();
+    private final Set<Long> changedIds = ConcurrentHashMap.newKeySet();
+    // 상품별 전송 스레드 (productId % 스레드 수)
+    private final ExecutorService[] senders;
+
+    public StockStreamService(ProductRepository productRepository,
+                              ObjectMapper objectMapper,
+                              RedisMessageListenerContainer listenerContainer,
+                              MeterRegistry meterRegistry,
+                              @Value("${mycommerce.product.stock-stream.emitter-timeout-ms:1800000}") long emitterTimeoutMillis,
+                              @Value("${mycommerce.product.stock-stream.send-threads:4}") int sendThreads) {
+        this.productRepository = productRepository;
+        this.objectMapper = objectMapper;
+        this.emitterTimeoutMillis = emitterTimeoutMillis;
+        this.senders = new ExecutorService[sendThreads];
+        for (int i = 0; i < sendThreads; i++) {
+            senders[i] = Executors.newSingleThreadExecutor(
+                    Thread.ofPlatform().name("stock-stream-" + i).daemon().factory());
+        }
+        listenerContainer.addMessageListener(this, new ChannelTopic(ProductCache.CHANNEL));
+        Gauge.builder("product.stock.stream.subscribers", this, StockStreamService::subscriberCount)
+                .description("노드의 재고 SSE 구독 연결 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 상품 재고 스트림을 구독한다
+     * 구독 즉시 현재 재고를 보내고, 이후 재고가 바뀔 때마다 전송 (타임아웃 후 클라이언트가 재연결)
+     *
+     * @param productId 상품 ID
+     * @return SSE 연결
+     * @throws IllegalArgumentException 상품이 없는 경우
+     */
+    public SseEmitter subscribe(Long productId) {
+        return subscribe(productId, new SseEmitter(emitterTimeoutMillis));
+    }
+
+    // 테스트에서 전송 내용을 기록하는 연결로 구독
+    SseEmitter subscribe(Long productId, SseEmitter emitter) {
+        List<ProductStock> current = productRepository.findTotalStocksByIdIn(List.of(productId));
+        if (current.isEmpty()) {
+            throw new IllegalArgumentException("Product not found: " + productId);
+        }
+
+        subscribers.compute(productId, (id, emitters) -> {
+            Set<SseEmitter> registered = emitters != null ? emitters : ConcurrentHashMap.newKeySet();
+            registered.add(emitter);
+            return registered;
+        });
+        emitter.onCompletion(() -> unsubscribe(productId, emitter));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> unsubscribe(productId, emitter));
+
+        send(productId, emitter, toJson(current.get(0)));
+        return emitter;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            Long productId = ProductInvalidation.from(message).productId();
+            if (subscribers.containsKey(productId)) {
+                changedIds.add(productId);
+            }
+        } catch (IllegalArgumentException e) {
+            log.warn("재고 스트림 메시지 형식 오류", e);
+        }
+    }
+
+    /**
+     * 모아둔 변경 상품의 재고를 한 번에 조회해 구독자에게 전송한다
+     */
+    @Scheduled(fixedRateString = "${mycommerce.product.stock-stream.interval-ms:250}")
+    public void flush() {
+        if (changedIds.isEmpty()) {
+            return;
+        }
+
+        List<Long> ids = new ArrayList<>(changedIds);
+        changedIds.removeAll(ids);
+        ids.removeIf(id -> !subscribers.containsKey(id));
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        for (ProductStock stock : productRepository.findTotalStocksByIdIn(ids)) {
+            Integer previous = lastSentStocks.put(stock.productId(), stock.stock());
+            if (stock.stock().equals(previous)) {
+                continue;
+            }
+            String json = toJson(stock);
+            sender(stock.productId()).execute(() -> subscribers.getOrDefault(stock.productId(), Set.of())
+                    .forEach(emitter -> send(stock.productId(), emitter, json)));
+        }
+    }
+
+    /**
+     * 중간 프록시의 유휴 연결 종료 방지, 끊긴 연결 정리
+     */
+    @Scheduled(fixedRateString = "${mycommerce.product.stock-stream.heartbeat-ms:30000}")
+    public void heartbeat() {
+        subscribers.forEach((productId, emitters) -> sender(productId).execute(() -> emitters.forEach(emitter -> {
+            try {
+                emitter.send(SseEmitter.event().comment("ping"));
+            } catch (IOException | IllegalStateException e) {
+                unsubscribe(productId, emitter);
+            }
+        })));
+    }
+
+    /**
+     * @return 이 노드의 전체 구독 연결 수
+     */
+    public int subscriberCount() {
+        return subscribers.values().stream().mapToInt(Set::size).sum();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (ExecutorService sender : senders) {
+            sender.shutdownNow();
+        }
+    }
+
+    private ExecutorService sender(Long productId) {
+        return senders[Math.floorMod(productId, senders.length)];
+    }
+
+    private void send(Long productId, SseEmitter emitter, String json) {
+        try {
+            emitter.send(SseEmitter.event().name(EVENT_NAME).data(json, MediaType.APPLICATION_JSON));
+        } catch (IOException | IllegalStateException e) {
+            // 끊긴 연결 (완료 처리는 컨테이너가 onError/onCompletion으로 통지)
+            unsubscribe(productId, emitter);
+        }
+    }
+
+    private void unsubscribe(Long productId, SseEmitter emitter) {
+        subscribers.computeIfPresent(productId, (id, emitters) -> {
+            emitters.remove(emitter);
+            if (emitters.isEmpty()) {
+                lastSentStocks.remove(id);
+                return null;
+            }
+            return emitters;
+        });
+    }
+
+    private String toJson(ProductStock stock) {
+        try {
+            return objectMapper.writeValueAsString(stock);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("재고 이벤트 직렬화 실패: " + stock.productId(), e);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+-- 상품 전문 검색 (PostgreSQL 전용, dev/prod 프로파일에서만 실행. 테스트(H2)는 LIKE 대체 구현)
+-- 상품명(가중치 A) + 설명(B) tsvector 생성 컬럼: INSERT/UPDATE 시 DB가 자동 갱신
+-- 한국어 사전이 없어 'simple' 설정 (공백 단위 토큰, 소문자화)
+ALTER TABLE products ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', coalesce(name, '')), 'A') ||
+        setweight(to_tsvector('simple', coalesce(description, '')), 'B')
+    ) STORED;
+
+COMMENT ON COLUMN products.search_vector IS '검색벡터(상품명+설명)';
+
+CREATE INDEX IF NOT EXISTS idx_products_search ON products USING GIN (search_vector);
@@ -35,9 +35,12 @@ create table if not exists orders (
     created_at TIMESTAMP,
     updated_at TIMESTAMP,
     status varchar(20),
-    version BIGINT DEFAULT 0 NOT NULL
+    version BIGINT DEFAULT 0 NOT NULL,
+    tracking_id varchar(36)
 );
 
+ALTER TABLE orders ADD COLUMN IF NOT EXISTS tracking_id varchar(36);
+
 COMMENT ON TABLE orders IS '주문정보';
 COMMENT ON COLUMN orders.id IS '주문ID';
 COMMENT ON COLUMN orders.user_id IS '사용자ID';
@@ -46,8 +49,12 @@ COMMENT ON COLUMN orders.created_at IS '생성일시';
 COMMENT ON COLUMN orders.updated_at IS '수정일시';
 COMMENT ON COLUMN orders.status IS '주문상태';
 COMMENT ON COLUMN orders.version IS '버전(낙관적락)';
+COMMENT ON COLUMN orders.tracking_id IS '비동기 주문 접수ID (중복 생성 방지)';
 
-CREATE INDEX IF NOT EXISTS idx_orders_user_id ON orders(user_id);
+-- 사용자 주문 목록 키셋 페이지 (user_id, created_at, id). user_id 단독 인덱스를 대체
+DROP INDEX IF EXISTS idx_orders_user_id;
+CREATE INDEX IF NOT EXISTS idx_orders_user_created ON orders(user_id, created_at DESC, id DESC);
+CREATE UNIQUE INDEX IF NOT EXISTS uk_orders_tracking_id ON orders(tracking_id);
 
 
 create table if not exists products (
@@ -73,6 +80,15 @@ COMMENT ON COLUMN products.created_at IS '생성일시';
 COMMENT ON COLUMN products.updated_at IS '수정일시';
 COMMENT ON COLUMN products.version IS '버전(낙관적락)';
 
+-- 상품 목록 키셋 페이지 (GET /api/products): 정렬 컬럼 + id, 판매 상태 필터 시 status 선행
+-- 재고/버전 컬럼은 인덱스에 없음 → 재고 차감 UPDATE는 HOT 업데이트 유지
+CREATE INDEX IF NOT EXISTS idx_products_created ON products(created_at, id);
+CREATE INDEX IF NOT EXISTS idx_products_price ON products(price, id);
+CREATE INDEX IF NOT EXISTS idx_products_name ON products(name, id);
+CREATE INDEX IF NOT EXISTS idx_products_status_created ON products(status, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_products_status_price ON products(status, price, id);
+CREATE INDEX IF NOT EXISTS idx_products_status_name ON products(status, name, id);
+
 
 create table if not exists order_items (
     id bigserial primary key,
@@ -93,4 +109,58 @@ COMMENT ON COLUMN order_items.quantity IS '주문수량';
 COMMENT ON COLUMN order_items.created_at IS '생성일시';
 COMMENT ON COLUMN order_items.updated_at IS '수정일시';
 
-CREATE INDEX IF NOT EXISTS idx_order_items_order_id ON order_items(order_id);
\ No newline at end of file
+CREATE INDEX IF NOT EXISTS idx_order_items_order_id ON order_items(order_id);
+
+
+create table if not exists product_stock_buckets (
+    id bigserial primary key,
+    product_id bigint not null references products(id) on delete cascade,
+    bucket_no INTEGER not null,
+    stock INTEGER default 0 not null,
+    created_at TIMESTAMP,
+    updated_at TIMESTAMP,
+    constraint uk_product_stock_buckets unique (product_id, bucket_no)
+);
+
+COMMENT ON TABLE product_stock_buckets IS '상품재고버킷(핫 상품 재고 분할)';
+COMMENT ON COLUMN product_stock_buckets.id IS '버킷ID';
+COMMENT ON COLUMN product_stock_buckets.product_id IS '상품ID';
+COMMENT ON COLUMN product_stock_buckets.bucket_no IS '버킷번호';
+COMMENT ON COLUMN product_stock_buckets.stock IS '버킷재고수량';
+COMMENT ON COLUMN product_stock_buckets.created_at IS '생성일시';
+COMMENT ON COLUMN product_stock_buckets.updated_at IS '수정일시';
+
+-- 버킷 모드 상품 표시 (재고 합계 서브쿼리를 버킷 모드 상품에서만 실행)
+ALTER TABLE products ADD COLUMN IF NOT EXISTS stock_bucketed BOOLEAN DEFAULT false NOT NULL;
+UPDATE products SET stock_bucketed = true
+WHERE stock_bucketed = false AND id IN (SELECT product_id FROM product_stock_buckets);
+
+COMMENT ON COLUMN products.stock_bucketed IS '재고버킷모드여부';
+
+
+create table if not exists stock_sync_log (
+    stream_id varchar(64) primary key,
+    applied_at TIMESTAMP not null
+);
+
+COMMENT ON TABLE stock_sync_log IS '재고반영이력(Redis 스트림 → products.stock 중복 반영 방지)';
+COMMENT ON COLUMN stock_sync_log.stream_id IS 'Redis 스트림 엔트리ID';
+COMMENT ON COLUMN stock_sync_log.applied_at IS '반영일시';
+
+CREATE INDEX IF NOT EXISTS idx_stock_sync_log_applied_at ON stock_sync_log(applied_at);
+
+
+create table if not exists order_outbox (
+    id bigserial primary key,
+    aggregate_id bigint not null,
+    event_type varchar(30) not null,
+    payload TEXT not null,
+    created_at TIMESTAMP not null
+);
+
+COMMENT ON TABLE order_outbox IS '주문이벤트아웃박스(주문과 같은 트랜잭션에서 기록 → Redis 스트림 발행 후 삭제)';
+COMMENT ON COLUMN order_outbox.id IS '이벤트ID';
+COMMENT ON COLUMN order_outbox.aggregate_id IS '주문ID';
+COMMENT ON COLUMN order_outbox.event_type IS '이벤트종류(ORDER_CREATED, ORDER_CANCELLED)';
+COMMENT ON COLUMN order_outbox.payload IS '이벤트본문(JSON)';
+COMMENT ON COLUMN order_outbox.created_at IS '생성일시';
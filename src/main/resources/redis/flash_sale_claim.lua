@@ -0,0 +1,28 @@
+-- 플래시 세일 티켓으로 주문 진입 (앞에서 window개 티켓만 진입 가능, 티켓당 1회)
+-- KEYS[1]: 세일 정보 해시, KEYS[2]: 대기열 ZSET, KEYS[3]: 티켓 해시, KEYS[4]: 진입한 티켓 해시 (티켓 ID → 진입 시각)
+-- ARGV: 티켓 ID, userId, quantity, window, 진입 시각(ms)
+-- 반환: {1, 순번} = 진입, {0, 순번} = 차례 아님, {-1, 0} = 없는/다른 사용자 티켓, {-2, 0} = 이미 사용 중
+
+local ticket = redis.call('HGET', KEYS[3], ARGV[1])
+if not ticket then
+    return {-1, 0}
+end
+
+local userId, quantity = string.match(ticket, '^([^:]+):([^:]+):')
+if userId ~= ARGV[2] or tonumber(quantity) ~= tonumber(ARGV[3]) then
+    return {-1, 0}
+end
+
+local rank = redis.call('ZRANK', KEYS[2], ARGV[1])
+if not rank then
+    return {-1, 0}
+end
+if rank >= tonumber(ARGV[4]) then
+    return {0, rank}
+end
+
+if redis.call('HSETNX', KEYS[4], ARGV[1], ARGV[5]) == 0 then
+    return {-2, rank}
+end
+
+return {1, rank}
@@ -0,0 +1,26 @@
+-- 플래시 세일 대기열 입장 (남은 수량 안에서만 티켓 발급)
+-- KEYS[1]: 세일 정보 해시 (capacity, admitted, seq)
+-- KEYS[2]: 대기열 ZSET (member = 티켓 ID, score = 발급 순번)
+-- KEYS[3]: 티켓 해시 (티켓 ID → userId:quantity:issuedAt)
+-- KEYS[4]: 진입한 티켓 해시 (사용 안 함)
+-- ARGV: userId, quantity, issuedAt(ms)
+-- 반환: {티켓 ID, 대기 순번(0부터)}, {0, 0} = 매진, {-1, 0} = 세일 없음
+
+if redis.call('EXISTS', KEYS[1]) == 0 then
+    return {-1, 0}
+end
+
+local capacity = tonumber(redis.call('HGET', KEYS[1], 'capacity'))
+local admitted = tonumber(redis.call('HGET', KEYS[1], 'admitted'))
+local quantity = tonumber(ARGV[2])
+
+if admitted + quantity > capacity then
+    return {0, 0}
+end
+
+local ticketId = redis.call('HINCRBY', KEYS[1], 'seq', 1)
+redis.call('HINCRBY', KEYS[1], 'admitted', quantity)
+redis.call('ZADD', KEYS[2], ticketId, ticketId)
+redis.call('HSET', KEYS[3], ticketId, ARGV[1] .. ':' .. ARGV[2] .. ':' .. ARGV[3])
+
+return {ticketId, redis.call('ZRANK', KEYS[2], ticketId)}
@@ -0,0 +1,38 @@
+-- 만료된 플래시 세일 티켓 정리
+-- - 발급 후 ttl이 지나도록 주문하지 않은 티켓
+-- - 주문에 진입한 뒤 임대 시간이 지나도록 결과가 없는 티켓 (주문 도중 노드 종료 등으로 leave 누락)
+-- 대기열 앞쪽(오래된 티켓)부터 검사, 임대 중인 진입 티켓은 유지
+-- KEYS[1]: 세일 정보 해시, KEYS[2]: 대기열 ZSET, KEYS[3]: 티켓 해시, KEYS[4]: 진입한 티켓 해시 (티켓 ID → 진입 시각)
+-- ARGV: 발급 만료 기준 시각(ms), 최대 검사 수, 진입 만료 기준 시각(ms)
+-- 반환: 만료 처리한 티켓 수
+
+local ticketIds = redis.call('ZRANGE', KEYS[2], 0, tonumber(ARGV[2]) - 1)
+local expired = 0
+
+for _, ticketId in ipairs(ticketIds) do
+    local ticket = redis.call('HGET', KEYS[3], ticketId)
+    local quantity, issuedAt = 0, 0
+    if ticket then
+        quantity, issuedAt = string.match(ticket, '^[^:]+:([^:]+):([^:]+)$')
+    end
+
+    local claimedAt = redis.call('HGET', KEYS[4], ticketId)
+    local expire
+    if claimedAt then
+        expire = tonumber(claimedAt) < tonumber(ARGV[3])
+    elseif tonumber(issuedAt) >= tonumber(ARGV[1]) then
+        break
+    else
+        expire = true
+    end
+
+    if expire then
+        redis.call('ZREM', KEYS[2], ticketId)
+        redis.call('HDEL', KEYS[3], ticketId)
+        redis.call('HDEL', KEYS[4], ticketId)
+        redis.call('HINCRBY', KEYS[1], 'admitted', -tonumber(quantity))
+        expired = expired + 1
+    end
+end
+
+return expired
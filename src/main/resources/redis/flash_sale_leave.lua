@@ -0,0 +1,19 @@
+-- 플래시 세일 대기열에서 티켓 제거
+-- KEYS[1]: 세일 정보 해시, KEYS[2]: 대기열 ZSET, KEYS[3]: 티켓 해시, KEYS[4]: 진입한 티켓 해시
+-- ARGV[1]: 티켓 ID
+-- ARGV[2]: 1 = 수량 반환 (주문 실패, 만료), 0 = 수량 소진 (주문 성공)
+-- 반환: 1 = 제거, 0 = 이미 제거된 티켓
+
+local ticket = redis.call('HGET', KEYS[3], ARGV[1])
+if not ticket or redis.call('ZREM', KEYS[2], ARGV[1]) == 0 then
+    return 0
+end
+
+if ARGV[2] == '1' and redis.call('EXISTS', KEYS[1]) == 1 then
+    local quantity = string.match(ticket, '^[^:]+:([^:]+):')
+    redis.call('HINCRBY', KEYS[1], 'admitted', -tonumber(quantity))
+end
+
+redis.call('HDEL', KEYS[3], ARGV[1])
+redis.call('HDEL', KEYS[4], ARGV[1])
+return 1
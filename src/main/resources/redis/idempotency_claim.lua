@@ -0,0 +1,12 @@
+-- 멱등 키 선점 (첫 요청만 처리 권한 획득)
+-- KEYS[1]: 멱등 키 해시 (idempotency:order:{userId}:{key})
+-- ARGV: 처리자 토큰, 요청 지문, 처리 임대 시간(ms)
+-- 반환: {} = 선점 성공, {state, fingerprint} = 이미 처리 중이거나 완료된 키
+
+if redis.call('EXISTS', KEYS[1]) == 1 then
+    return redis.call('HMGET', KEYS[1], 'state', 'fingerprint')
+end
+
+redis.call('HSET', KEYS[1], 'state', 'PROCESSING', 'owner', ARGV[1], 'fingerprint', ARGV[2])
+redis.call('PEXPIRE', KEYS[1], ARGV[3])
+return {}
@@ -0,0 +1,12 @@
+-- 멱등 키 처리 결과 저장 (선점한 처리자만)
+-- KEYS[1]: 멱등 키 해시
+-- ARGV: 처리자 토큰, 결과 보관 시간(ms), HTTP 상태, Location, 응답 본문(JSON)
+-- 반환: 1 = 저장, 0 = 임대 만료 등으로 선점이 풀린 경우
+
+if redis.call('HGET', KEYS[1], 'owner') ~= ARGV[1] then
+    return 0
+end
+
+redis.call('HSET', KEYS[1], 'state', 'COMPLETED', 'status', ARGV[3], 'location', ARGV[4], 'body', ARGV[5])
+redis.call('PEXPIRE', KEYS[1], ARGV[2])
+return 1
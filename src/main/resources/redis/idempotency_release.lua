@@ -0,0 +1,11 @@
+-- 멱등 키 선점 해제 (처리 실패 시, 선점한 처리자만)
+-- 재시도 요청이 다시 처리할 수 있도록 키 삭제
+-- KEYS[1]: 멱등 키 해시
+-- ARGV: 처리자 토큰
+-- 반환: 1 = 해제, 0 = 선점이 이미 풀린 경우
+
+if redis.call('HGET', KEYS[1], 'owner') ~= ARGV[1] then
+    return 0
+end
+
+return redis.call('DEL', KEYS[1])
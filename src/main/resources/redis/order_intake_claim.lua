@@ -0,0 +1,22 @@
+-- 비동기 주문 접수 처리 선점 (재고 차감 전, 같은 접수 ID는 한 워커만 처리)
+-- 인수(XCLAIM)로 같은 엔트리가 두 워커에 전달돼도 임대가 유효한 동안 다른 워커는 처리하지 않음
+-- KEYS[1]: 접수 상태 해시 (order:intake:status:{접수 ID})
+-- ARGV: 처리자 토큰, 처리 임대 시간(ms)
+-- 반환: CLAIMED = 선점 성공, COMPLETED/FAILED = 이미 처리 완료, BUSY = 다른 워커가 처리 중
+
+local status = redis.call('HGET', KEYS[1], 'status')
+if status == 'COMPLETED' or status == 'FAILED' then
+    return status
+end
+
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+local owner = redis.call('HGET', KEYS[1], 'owner')
+local leaseUntil = tonumber(redis.call('HGET', KEYS[1], 'leaseUntil') or '0')
+if owner and owner ~= ARGV[1] and leaseUntil > now then
+    return 'BUSY'
+end
+
+redis.call('HSET', KEYS[1], 'status', 'PROCESSING', 'owner', ARGV[1], 'leaseUntil', now + tonumber(ARGV[2]))
+return 'CLAIMED'
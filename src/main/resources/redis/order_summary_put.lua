@@ -0,0 +1,15 @@
+-- 주문 요약 저장 (사용자별 ZSET + 주문 해시)
+-- 저장된 버전보다 오래된 요약은 무시 (재구축 작업과 커밋 이벤트 경합 대비)
+-- KEYS[1]: 사용자 주문 ZSET (order:summary:user:{userId}), KEYS[2]: 주문 요약 해시 (order:summary:order:{orderId})
+-- ARGV: 주문 ID, 점수(생성일시 epoch ms), 버전, 상태, 총액, 항목 수, 생성일시
+-- 반환: 1 = 저장, 0 = 더 새로운 버전이 이미 있음
+
+local current = redis.call('HGET', KEYS[2], 'version')
+if current and tonumber(current) > tonumber(ARGV[3]) then
+    return 0
+end
+
+redis.call('HSET', KEYS[2], 'version', ARGV[3], 'status', ARGV[4], 'totalPrice', ARGV[5],
+        'itemCount', ARGV[6], 'createdAt', ARGV[7])
+redis.call('ZADD', KEYS[1], ARGV[2], ARGV[1])
+return 1
@@ -0,0 +1,15 @@
+-- 상품 캐시 무효화 + 전 노드 로컬 캐시 무효화 메시지 발행
+-- 본문을 지우고 무효화 세대(gen)를 올림 → 무효화 전에 미스난 로딩 결과는 저장 거절
+-- 새 버전을 알면 하한(floor)도 올림 (버전을 모르면 하한 유지: 버전이 바뀌지 않는 변경도 다시 저장 가능)
+-- KEYS[1]: 상품 캐시 해시 (cache:product:{id})
+-- ARGV: 상품 ID, 새 버전 (모르면 -1, 삭제면 최대값), 보관 시간(ms), 채널
+-- 반환: 메시지를 받은 구독자 수
+
+local floor = tonumber(redis.call('HGET', KEYS[1], 'floor') or '-1')
+local newFloor = math.max(floor, tonumber(ARGV[2]))
+
+redis.call('HDEL', KEYS[1], 'version', 'body')
+redis.call('HSET', KEYS[1], 'floor', string.format('%d', newFloor))
+redis.call('HINCRBY', KEYS[1], 'gen', 1)
+redis.call('PEXPIRE', KEYS[1], ARGV[3])
+return redis.call('PUBLISH', ARGV[4], ARGV[1] .. ':' .. ARGV[2])
@@ -0,0 +1,19 @@
+-- 상품 캐시 저장 (버전 + 무효화 세대 비교)
+-- 저장된 버전보다 새롭고, 무효화 하한(floor) 이상이며, 캐시 미스 시점 이후 무효화가 없었던 값만 저장
+-- → 무효화 직전에 DB에서 읽은 오래된 상품이 늦게 저장되는 것을 방지
+--   (버킷 재고 차감처럼 버전이 바뀌지 않는 변경은 세대로 구분)
+-- KEYS[1]: 상품 캐시 해시 (cache:product:{id})
+-- ARGV: 버전, 응답 본문(JSON), 보관 시간(ms), 캐시 미스 시점의 무효화 세대
+-- 반환: 1 = 저장, 0 = 더 새로운 버전이 있거나 하한 미만이거나 그 사이 무효화됨
+
+local version = tonumber(ARGV[1])
+local floor = tonumber(redis.call('HGET', KEYS[1], 'floor') or '-1')
+local current = tonumber(redis.call('HGET', KEYS[1], 'version') or '-1')
+local generation = redis.call('HGET', KEYS[1], 'gen') or '0'
+if version < floor or version <= current or generation ~= ARGV[4] then
+    return 0
+end
+
+redis.call('HSET', KEYS[1], 'version', ARGV[1], 'body', ARGV[2])
+redis.call('PEXPIRE', KEYS[1], ARGV[3])
+return 1
@@ -0,0 +1,12 @@
+-- 예약 확정 (주문 트랜잭션 커밋 시)
+-- 진행 중 예약 수량을 줄이고 같은 수량을 DB 반영 스트림에 적재 (원자적)
+-- KEYS[1]: 진행 중 예약 해시 (stock:inflight)
+-- KEYS[2]: DB 반영 스트림 (stock:deltas)
+-- ARGV: 상품 ID, 수량, 상품 ID, 수량, ...
+-- 반환: 스트림 엔트리 ID
+
+for i = 1, #ARGV, 2 do
+    redis.call('HINCRBY', KEYS[1], ARGV[i], -tonumber(ARGV[i + 1]))
+end
+
+return redis.call('XADD', KEYS[2], '*', unpack(ARGV))
@@ -0,0 +1,16 @@
+-- 예약 재고 반환 (주문 트랜잭션 롤백 시)
+-- KEYS[1]: 진행 중 예약 해시 (stock:inflight)
+-- KEYS[2..]: 상품별 재고 카운터 키 (stock:product:{id})
+-- ARGV[1..n]: 카운터와 같은 순서의 반환 수량, ARGV[n+1..2n]: 상품 ID
+-- 카운터가 없는 상품은 다음 예약 시 DB 재고로 다시 적재되므로 건너뛴다
+
+local n = #KEYS - 1
+
+for i = 1, n do
+    if redis.call('EXISTS', KEYS[i + 1]) == 1 then
+        redis.call('INCRBY', KEYS[i + 1], ARGV[i])
+    end
+    redis.call('HINCRBY', KEYS[1], ARGV[n + i], -tonumber(ARGV[i]))
+end
+
+return 0
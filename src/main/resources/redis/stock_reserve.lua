@@ -0,0 +1,26 @@
+-- 주문 전체 재고 예약 (원자적 검증 + 차감)
+-- KEYS[1]: 진행 중 예약 해시 (stock:inflight, 상품 ID → 커밋 전 예약 수량)
+-- KEYS[2]: 정합성 점검 대상 상품 SET (stock:tracked)
+-- KEYS[3..]: 상품별 재고 카운터 키 (stock:product:{id})
+-- ARGV[1..n]: 카운터와 같은 순서의 차감 수량, ARGV[n+1..2n]: 상품 ID
+-- 반환: 0 = 성공, i = i번째 상품 재고 부족, -i = i번째 상품 카운터 미적재
+
+local n = #KEYS - 2
+
+for i = 1, n do
+    local stock = redis.call('GET', KEYS[i + 2])
+    if not stock then
+        return -i
+    end
+    if tonumber(stock) < tonumber(ARGV[i]) then
+        return i
+    end
+end
+
+for i = 1, n do
+    redis.call('DECRBY', KEYS[i + 2], ARGV[i])
+    redis.call('HINCRBY', KEYS[1], ARGV[n + i], ARGV[i])
+    redis.call('SADD', KEYS[2], ARGV[n + i])
+end
+
+return 0
@@ -0,0 +1,36 @@
+package com.jikim.mycommerce.common.concurrent;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * FuturesTest
+ *
+ * CompletableFuture 대기 예외 전달 단위 테스트
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+class FuturesTest {
+
+    @Test
+    @DisplayName("RuntimeException, Error는 그대로, 검사 예외는 CompletionException으로 감싸 던진다")
+    void join_RethrowsCause() {
+        assertThat(Futures.join(CompletableFuture.completedFuture("ok"))).isEqualTo("ok");
+
+        assertThatThrownBy(() -> Futures.join(CompletableFuture.failedFuture(new IllegalStateException("실패"))))
+                .isExactlyInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> Futures.join(CompletableFuture.failedFuture(new StackOverflowError())))
+                .isExactlyInstanceOf(StackOverflowError.class);
+        assertThatThrownBy(() -> Futures.join(CompletableFuture.failedFuture(new IOException("실패"))))
+                .isExactlyInstanceOf(CompletionException.class)
+                .hasCauseExactlyInstanceOf(IOException.class);
+    }
+}
@@ -0,0 +1,82 @@
+package com.jikim.mycommerce.common.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * SnowflakeIdGeneratorTest
+ *
+ * Snowflake ID 생성기 단위 테스트
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+class SnowflakeIdGeneratorTest {
+
+    @Test
+    @DisplayName("한 스레드에서 생성한 ID는 계속 증가하고 노드 ID를 포함한다")
+    void nextId_Increasing() {
+        SnowflakeIdGenerator generator = SnowflakeIdGenerator.forNode(7);
+
+        long previous = 0;
+        for (int i = 0; i < 100_000; i++) {
+            long id = generator.nextId();
+            assertThat(id).isGreaterThan(previous);
+            assertThat((id >> 12) & SnowflakeIdGenerator.MAX_NODE_ID).isEqualTo(7);
+            previous = id;
+        }
+    }
+
+    @Test
+    @DisplayName("여러 스레드에서 동시에 생성해도 중복 없음")
+    void nextId_ConcurrentUnique() throws InterruptedException {
+        SnowflakeIdGenerator generator = SnowflakeIdGenerator.forNode(8);
+        int threadCount = 16;
+        int perThread = 20_000;
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        for (int t = 0; t < threadCount; t++) {
+            executorService.submit(() -> {
+                List<Long> generated = new ArrayList<>(perThread);
+                for (int i = 0; i < perThread; i++) {
+                    generated.add(generator.nextId());
+                }
+                ids.addAll(generated);
+                latch.countDown();
+            });
+        }
+
+        latch.await();
+        executorService.shutdown();
+
+        assertThat(ids).hasSize(threadCount * perThread);
+    }
+
+    @Test
+    @DisplayName("같은 노드 ID는 같은 인스턴스, 범위 밖 노드 ID는 예외")
+    void forNode() {
+        assertThat(SnowflakeIdGenerator.forNode(3)).isSameAs(SnowflakeIdGenerator.forNode(3));
+        assertThatThrownBy(() -> SnowflakeIdGenerator.forNode(1024)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("노드 ID 설정이 없으면 기본값 없이 예외")
+    void forNodeSetting_Unset() {
+        assertThat(SnowflakeIdGenerator.forNodeSetting("5")).isSameAs(SnowflakeIdGenerator.forNode(5));
+        assertThatThrownBy(() -> SnowflakeIdGenerator.forNodeSetting(null)).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> SnowflakeIdGenerator.forNodeSetting(" ")).isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,73 @@
+package com.jikim.mycommerce.order;
+
+import com.jikim.mycommerce.product.ProductService;
+import com.jikim.mycommerce.product.stock.BucketedStockService;
+import com.jikim.mycommerce.product.stock.ProductStockBucket;
+import com.jikim.mycommerce.product.stock.ProductStockBucketRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * BucketedOrderConcurrencyTest
+ *
+ * 버킷 재고 전략으로 OrderConcurrencyTest 시나리오 실행
+ * 기본 테스트 상품(재고 10)을 버킷 4개로 분할해 버킷 라우팅/재분배와 합계 재고를 검증
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+@SpringBootTest(properties = {
+        "mycommerce.stock.strategy=bucketed",
+        "mycommerce.stock.bucketed.refill-interval-ms=3600000"
+})
+class BucketedOrderConcurrencyTest extends OrderConcurrencyTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private BucketedStockService bucketedStockService;
+
+    @Autowired
+    private ProductStockBucketRepository bucketRepository;
+
+    @BeforeEach
+    void enableStockBuckets() {
+        // 상위 클래스 setUp 이후 실행
+        productService.enableStockBuckets(testProduct.getId(), 4);
+    }
+
+    @Test
+    @DisplayName("차감으로 버킷이 비면 리필 작업이 남은 재고를 재분배")
+    void decrease_DrainsBucket_RefilledEvenly() {
+        // given - 버킷 재고 [4, 2, 2, 2] → 수량 4는 0번 버킷만 감당
+        List<ProductStockBucket> buckets = bucketRepository.findAll().stream()
+                .filter(bucket -> bucket.getProductId().equals(testProduct.getId()))
+                .toList();
+        buckets.forEach(bucket -> bucket.setStock(bucket.getBucketNo() == 0 ? 4 : 2));
+        bucketRepository.saveAllAndFlush(buckets);
+
+        // when
+        orderService.createOrder(testUser.getId(),
+                new OrderCreateRequest(List.of(new OrderItemRequest(testProduct.getId(), 4))));
+        bucketedStockService.refillEmptyBuckets();
+
+        // then - 남은 6개가 [2, 2, 1, 1]로 재분배
+        List<Integer> stocks = bucketRepository.findAll().stream()
+                .filter(bucket -> bucket.getProductId().equals(testProduct.getId()))
+                .sorted((a, b) -> a.getBucketNo().compareTo(b.getBucketNo()))
+                .map(ProductStockBucket::getStock)
+                .toList();
+        assertThat(stocks).containsExactly(2, 2, 1, 1);
+    }
+}
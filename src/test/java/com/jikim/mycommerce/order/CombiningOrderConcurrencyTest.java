@@ -0,0 +1,15 @@
+package com.jikim.mycommerce.order;
+
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * CombiningOrderConcurrencyTest
+ *
+ * 재고 차감 요청 결합 전략으로 OrderConcurrencyTest 시나리오 실행
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+@SpringBootTest(properties = "mycommerce.stock.strategy=combining")
+class CombiningOrderConcurrencyTest extends OrderConcurrencyTest {
+}
@@ -0,0 +1,16 @@
+package com.jikim.mycommerce.order;
+
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * ConditionalUpdateOrderConcurrencyTest
+ *
+ * 조건부 UPDATE 재고 차감 전략으로 OrderConcurrencyTest 시나리오 실행
+ * (분산 락, 비관적 락 없이 DB 행 락만 사용)
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+@SpringBootTest(properties = "mycommerce.stock.strategy=conditional-update")
+class ConditionalUpdateOrderConcurrencyTest extends OrderConcurrencyTest {
+}
@@ -0,0 +1,95 @@
+package com.jikim.mycommerce.order;
+
+import com.jikim.mycommerce.product.Product;
+import com.jikim.mycommerce.product.ProductRepository;
+import com.jikim.mycommerce.product.ProductStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * GroupCommitOrderConcurrencyTest
+ *
+ * 주문 저장 그룹 커밋으로 OrderConcurrencyTest 시나리오 실행
+ * + 커넥션 풀보다 많은 주문이 동시에 저장을 기다려도 writer가 커넥션을 얻는지 확인
+ *   (커넥션 대기 시간을 짧게 두어 풀 고갈 시 바로 실패)
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+@SpringBootTest(properties = {
+        "mycommerce.order.group-commit.enabled=true",
+        "spring.datasource.hikari.connection-timeout=3000"
+})
+class GroupCommitOrderConcurrencyTest extends OrderConcurrencyTest {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Value("${spring.datasource.hikari.maximum-pool-size}")
+    private int maximumPoolSize;
+
+    @Test
+    @DisplayName("커넥션 풀 크기의 5배 주문이 동시에 들어와도 모두 저장된다")
+    void concurrentOrders_MoreThanPoolSize() throws InterruptedException {
+        // given: 재고는 넉넉히 → 실패는 커넥션 고갈뿐
+        int threadCount = maximumPoolSize * 5;
+        Product product = productRepository.saveAndFlush(Product.builder()
+                .name("그룹 커밋 동시성 상품")
+                .description("재고 넉넉")
+                .price(BigDecimal.valueOf(10000))
+                .stock(threadCount * 10)
+                .status(ProductStatus.AVAILABLE)
+                .build());
+
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch ready = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threadCount);
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger failCount = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    ready.await();
+                    orderService.createOrder(testUser.getId(),
+                            new OrderCreateRequest(List.of(new OrderItemRequest(product.getId(), 1))));
+                    successCount.incrementAndGet();
+                } catch (Exception e) {
+                    failCount.incrementAndGet();
+                    System.out.println("주문 실패: " + e.getMessage());
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        ready.countDown();
+        done.await();
+        executorService.shutdown();
+
+        // then
+        assertThat(successCount.get()).isEqualTo(threadCount);
+        assertThat(failCount.get()).isZero();
+        assertThat(orderRepository.count()).isEqualTo(threadCount);
+        assertThat(productRepository.findById(product.getId()).orElseThrow().getStock())
+                .isEqualTo(threadCount * 9);
+    }
+}
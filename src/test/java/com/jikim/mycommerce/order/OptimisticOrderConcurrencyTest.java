@@ -0,0 +1,18 @@
+package com.jikim.mycommerce.order;
+
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * OptimisticOrderConcurrencyTest
+ *
+ * 낙관적 락 + 재시도 재고 차감 전략으로 OrderConcurrencyTest 시나리오 실행
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+@SpringBootTest(properties = {
+        "mycommerce.stock.strategy=optimistic",
+        "mycommerce.stock.optimistic.max-attempts=200"
+})
+class OptimisticOrderConcurrencyTest extends OrderConcurrencyTest {
+}
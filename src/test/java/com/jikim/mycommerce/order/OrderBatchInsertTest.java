@@ -0,0 +1,116 @@
+package com.jikim.mycommerce.order;
+
+import com.jikim.mycommerce.product.Product;
+import com.jikim.mycommerce.product.ProductRepository;
+import com.jikim.mycommerce.product.ProductStatus;
+import com.jikim.mycommerce.user.User;
+import com.jikim.mycommerce.user.UserRepository;
+import com.jikim.mycommerce.user.UserRole;
+import com.jikim.mycommerce.user.UserStatus;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * OrderBatchInsertTest
+ *
+ * Snowflake ID + JDBC 배치 INSERT 테스트
+ * 항목 20개 주문 저장 시 INSERT 문 준비는 테이블당 1회
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class OrderBatchInsertTest {
+
+    private static final int ITEM_COUNT = 20;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User testUser;
+    private Product testProduct;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository.deleteAll();
+        productRepository.deleteAll();
+        userRepository.deleteAll();
+
+        testUser = userRepository.saveAndFlush(User.builder()
+                .name("배치저장유저")
+                .email("batch@test.com")
+                .phoneNumber("01044444444")
+                .provider("github")
+                .providerId("github_444")
+                .role(UserRole.USER)
+                .status(UserStatus.ACTIVE)
+                .build());
+
+        testProduct = productRepository.saveAndFlush(Product.builder()
+                .name("배치저장 상품")
+                .description("재고 100개")
+                .price(BigDecimal.valueOf(1000))
+                .stock(100)
+                .status(ProductStatus.AVAILABLE)
+                .build());
+    }
+
+    @Test
+    @DisplayName("항목 20개 주문 → orders 1건 + order_items 20건이 문장 2개로 저장")
+    void save_LargeOrder_BatchedInserts() {
+        // given
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        // when
+        Long orderId = transactionTemplate.execute(status -> {
+            Order order = Order.builder()
+                    .user(testUser)
+                    .status(OrderStatus.PENDING)
+                    .totalPrice(testProduct.getPrice().multiply(BigDecimal.valueOf(ITEM_COUNT)))
+                    .build();
+            for (int i = 0; i < ITEM_COUNT; i++) {
+                order.addOrderItem(OrderItem.builder()
+                        .product(testProduct)
+                        .price(testProduct.getPrice())
+                        .quantity(1)
+                        .build());
+            }
+
+            statistics.clear();
+            Order saved = orderRepository.saveAndFlush(order);
+
+            // then - ID는 INSERT 전에 생성, INSERT 21건이 문장 2개(테이블당 배치 1개)로 실행
+            assertThat(saved.getId()).isNotNull();
+            assertThat(statistics.getEntityInsertCount()).isEqualTo(ITEM_COUNT + 1);
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+            return saved.getId();
+        });
+
+        assertThat(orderRepository.findByIdWithItems(orderId).orElseThrow().getOrderItems()).hasSize(ITEM_COUNT);
+    }
+}
@@ -49,8 +49,8 @@ class OrderConcurrencyTest {
     @Autowired
     private OrderRepository orderRepository;
 
-    private User testUser;
-    private Product testProduct;
+    protected User testUser;
+    protected Product testProduct;
 
     @BeforeEach
     void setUp() {
@@ -234,4 +234,59 @@ class OrderConcurrencyTest {
         assertThat(updatedProduct1.getStock()).isEqualTo(5);   // 10 - 5 = 5 (정확히 5개만 차감)
         assertThat(updatedProduct2.getStock()).isEqualTo(0);   // 5 - 5 = 0
     }
+
+    @Test
+    @DisplayName("같은 상품을 역순으로 담은 주문 동시 처리 → 교착 없이 완료")
+    void concurrentOrderTest_ReverseOrderedCarts() throws InterruptedException {
+        // given
+        Product product2 = Product.builder()
+                .name("상품2")
+                .description("재고 10개")
+                .price(BigDecimal.valueOf(20000))
+                .stock(10)
+                .status(ProductStatus.AVAILABLE)
+                .build();
+        productRepository.saveAndFlush(product2);
+
+        int threadCount = 20;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        AtomicInteger successCount = new AtomicInteger(0);
+        AtomicInteger failCount = new AtomicInteger(0);
+
+        // when - 절반은 [상품1, 상품2], 절반은 [상품2, 상품1] 순서로 주문
+        long start = System.currentTimeMillis();
+        for (int i = 0; i < threadCount; i++) {
+            boolean reversed = i % 2 == 1;
+            executorService.submit(() -> {
+                try {
+                    OrderItemRequest item1 = new OrderItemRequest(testProduct.getId(), 1);
+                    OrderItemRequest item2 = new OrderItemRequest(product2.getId(), 1);
+                    OrderCreateRequest request = new OrderCreateRequest(
+                            reversed ? List.of(item2, item1) : List.of(item1, item2));
+
+                    orderService.createOrder(testUser.getId(), request);
+                    successCount.incrementAndGet();
+                } catch (Exception e) {
+                    failCount.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        long elapsed = System.currentTimeMillis() - start;
+        executorService.shutdown();
+
+        // then
+        System.out.println("성공: " + successCount.get() + ", 실패: " + failCount.get() + ", 소요: " + elapsed + "ms");
+
+        assertThat(successCount.get()).isEqualTo(10);
+        assertThat(elapsed).isLessThan(10_000);  // tryLock 대기 시간(10초) 안에 완료
+
+        assertThat(productRepository.findById(testProduct.getId()).orElseThrow().getStock()).isZero();
+        assertThat(productRepository.findById(product2.getId()).orElseThrow().getStock()).isZero();
+    }
 }
@@ -0,0 +1,201 @@
+package com.jikim.mycommerce.order;
+
+import com.jikim.mycommerce.product.Product;
+import com.jikim.mycommerce.product.ProductRepository;
+import com.jikim.mycommerce.product.ProductStatus;
+import com.jikim.mycommerce.user.User;
+import com.jikim.mycommerce.user.UserRepository;
+import com.jikim.mycommerce.user.UserRole;
+import com.jikim.mycommerce.user.UserStatus;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * OrderReadBenchmarkTest
+ *
+ * 주문 목록 조회 경로 벤치마크 (./gradlew benchmark)
+ * - entity: fetch join으로 Order/OrderItem/Product 엔티티 로딩 후 응답 변환
+ * - projection: 응답 컬럼만 평면 행(OrderItemRow)으로 조회 후 응답 조립
+ * - 같은 페이지(주문 ID 목록)를 읽기 전용 트랜잭션에서 반복 조회
+ * - 호출당 p50/p99 지연과 스레드 할당 바이트 출력
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+class OrderReadBenchmarkTest {
+
+    private static final int PRODUCT_COUNT = 50;
+    private static final int ORDER_COUNT = 500;
+    private static final int ITEMS_PER_ORDER = 5;
+    private static final int PAGE_SIZE = 50;
+    private static final int ITERATIONS = 500;
+    private static final int WARMUP_ITERATIONS = 200;
+    private static final int DESCRIPTION_LENGTH = 4000;
+
+    // 비교 대상 엔티티 경로 (페이지 주문만 fetch join)
+    private static final String FETCH_JOIN_JPQL = "SELECT DISTINCT o FROM Order o " +
+                                                  "LEFT JOIN FETCH o.orderItems oi " +
+                                                  "LEFT JOIN FETCH oi.product " +
+                                                  "WHERE o.id IN :ids";
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private TransactionTemplate readOnly;
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository.deleteAll();
+        productRepository.deleteAll();
+        userRepository.deleteAll();
+
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        testUser = userRepository.saveAndFlush(User.builder()
+                .name("조회벤치마크유저")
+                .email("read-benchmark@test.com")
+                .phoneNumber("01077777777")
+                .provider("github")
+                .providerId("github_777")
+                .role(UserRole.USER)
+                .status(UserStatus.ACTIVE)
+                .build());
+
+        // 상품 설명(TEXT)은 크게 → 엔티티 경로만 읽음
+        String description = "설명".repeat(DESCRIPTION_LENGTH / 2);
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < PRODUCT_COUNT; i++) {
+            products.add(Product.builder()
+                    .name("조회 벤치마크 상품 " + i)
+                    .description(description)
+                    .price(BigDecimal.valueOf(1000L * (i + 1)))
+                    .stock(1000)
+                    .status(ProductStatus.AVAILABLE)
+                    .build());
+        }
+        products = productRepository.saveAll(products);
+
+        List<Order> orders = new ArrayList<>();
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            Order order = Order.builder()
+                    .user(testUser)
+                    .status(OrderStatus.PAID)
+                    .totalPrice(BigDecimal.ZERO)
+                    .build();
+            for (int j = 0; j < ITEMS_PER_ORDER; j++) {
+                Product product = products.get((i + j) % PRODUCT_COUNT);
+                order.addOrderItem(OrderItem.builder()
+                        .product(product)
+                        .price(product.getPrice())
+                        .quantity(j + 1)
+                        .build());
+            }
+            orders.add(order);
+        }
+        orderRepository.saveAll(orders);
+    }
+
+    @Test
+    @DisplayName("주문 목록 조회: 엔티티 로딩 vs DTO 프로젝션 지연/할당 비교")
+    void benchmarkReadPaths() {
+        List<Long> ids = readOnly.execute(status ->
+                orderRepository.findPageKeysByUserId(testUser.getId(), PageRequest.of(0, PAGE_SIZE))
+                        .stream().map(OrderCursor::id).toList());
+
+        Function<List<Long>, List<OrderResponse>> entityPath = pageIds ->
+                entityManager.createQuery(FETCH_JOIN_JPQL, Order.class).setParameter("ids", pageIds).getResultList().stream()
+                        .map(OrderResponse::from)
+                        .toList();
+
+        Function<List<Long>, List<OrderResponse>> projectionPath = pageIds -> {
+            Map<Long, List<OrderItemRow>> rowsByOrder = new HashMap<>();
+            for (OrderItemRow row : orderRepository.findItemRowsByIdIn(pageIds)) {
+                rowsByOrder.computeIfAbsent(row.orderId(), id -> new ArrayList<>()).add(row);
+            }
+            return pageIds.stream().map(rowsByOrder::get).map(OrderResponse::from).toList();
+        };
+
+        // 두 경로 응답 동일 확인
+        List<OrderResponse> fromEntities = readOnly.execute(status -> entityPath.apply(ids));
+        List<OrderResponse> fromRows = readOnly.execute(status -> projectionPath.apply(ids));
+        assertThat(fromRows).usingRecursiveComparison().ignoringCollectionOrder().isEqualTo(fromEntities);
+
+        run(entityPath, ids, WARMUP_ITERATIONS);    // JIT, 커넥션 풀 워밍업
+        run(projectionPath, ids, WARMUP_ITERATIONS);
+        Result entity = run(entityPath, ids, ITERATIONS);
+        Result projection = run(projectionPath, ids, ITERATIONS);
+
+        System.out.printf("%n%-12s %10s %10s %16s%n", "path", "p50(ms)", "p99(ms)", "alloc(KB)/call");
+        System.out.printf("%-12s %10.2f %10.2f %16.1f%n", "entity",
+                entity.p50Millis(), entity.p99Millis(), entity.allocatedKbPerCall());
+        System.out.printf("%-12s %10.2f %10.2f %16.1f%n", "projection",
+                projection.p50Millis(), projection.p99Millis(), projection.allocatedKbPerCall());
+
+        assertThat(projection.allocatedKbPerCall()).isLessThan(entity.allocatedKbPerCall());
+    }
+
+    private Result run(Function<List<Long>, List<OrderResponse>> path, List<Long> ids, int iterations) {
+        com.sun.management.ThreadMXBean threadMXBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        long[] latencies = new long[iterations];
+        long allocatedBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < iterations; i++) {
+            long start = System.nanoTime();
+            List<OrderResponse> page = readOnly.execute(status -> path.apply(ids));
+            latencies[i] = System.nanoTime() - start;
+            assertThat(page).hasSize(ids.size());
+        }
+        long allocated = threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        Arrays.sort(latencies);
+        return new Result(percentileMillis(latencies, 0.50), percentileMillis(latencies, 0.99),
+                allocated / 1024.0 / iterations);
+    }
+
+    private double percentileMillis(long[] sortedNanos, double percentile) {
+        int index = (int) Math.ceil(percentile * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    private record Result(double p50Millis, double p99Millis, double allocatedKbPerCall) {
+    }
+}
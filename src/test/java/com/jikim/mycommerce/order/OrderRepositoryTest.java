@@ -8,9 +8,12 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 
@@ -57,38 +60,35 @@ class OrderRepositoryTest {
     }
 
     @Test
-    @DisplayName("사용자 ID로 모든 주문을 조회한다 (N+1 방지)")
-    void findAllByUserIdWithItems() {
+    @DisplayName("사용자 주문 키를 최신순으로 커서 이후만 조회한다 (키셋 페이지)")
+    void findPageKeysByUserId() {
         // given
         User savedUser = TestDataFactory.savedUser(entityManager);
-        
-        Product savedProduct1 = TestDataFactory.savedProduct(entityManager,
-                TestDataFactory.product()
-                        .name("상품1")
-                        .price(BigDecimal.valueOf(10000))
-                        .stock(100)
-        );
-        
-        Product savedProduct2 = TestDataFactory.savedProduct(entityManager,
-                TestDataFactory.product()
-                        .name("상품2")
-                        .price(BigDecimal.valueOf(20000))
-                        .stock(50)
-        );
+        Product savedProduct = TestDataFactory.savedProduct(entityManager);
 
-        Order savedOrder1 = TestDataFactory.savedCompleteOrder(entityManager, savedUser, savedProduct1, 3);
-        Order savedOrder2 = TestDataFactory.savedCompleteOrder(entityManager, savedUser, savedProduct2, 2);
+        for (int i = 0; i < 5; i++) {
+            TestDataFactory.savedCompleteOrder(entityManager, savedUser, savedProduct, 1);
+        }
 
         entityManager.flush();
         entityManager.clear();
 
         // when
-        List<Order> orders = orderRepository.findAllByUserIdWithItems(savedUser.getId());
-
-        // then
-        assertThat(orders).hasSize(2);
-        assertThat(orders.get(0).getOrderItems()).isNotEmpty();
-        assertThat(orders.get(1).getOrderItems()).isNotEmpty();
+        List<OrderCursor> firstPage = orderRepository.findPageKeysByUserId(savedUser.getId(), PageRequest.of(0, 3));
+        OrderCursor last = firstPage.get(firstPage.size() - 1);
+        List<OrderCursor> nextPage = orderRepository.findPageKeysByUserIdAfter(
+                savedUser.getId(), last.createdAt(), last.id(), PageRequest.of(0, 3));
+
+        // then - 두 페이지가 겹치지 않고 (created_at, id) 내림차순으로 이어짐
+        assertThat(firstPage).hasSize(3);
+        assertThat(nextPage).hasSize(2);
+
+        List<OrderCursor> all = new ArrayList<>(firstPage);
+        all.addAll(nextPage);
+        assertThat(all).extracting(OrderCursor::id).doesNotHaveDuplicates();
+        assertThat(all).isSortedAccordingTo(Comparator.comparing(OrderCursor::createdAt)
+                .thenComparing(OrderCursor::id)
+                .reversed());
     }
 
     @Test
@@ -210,4 +210,31 @@ class OrderRepositoryTest {
         assertThat(foundOrder.getTotalPrice()).isEqualByComparingTo(BigDecimal.valueOf(200000));
         assertThat(foundOrder.getUser().getName()).isEqualTo("VIP고객");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("버전만 조회한 ETag가 주문을 로딩해 만든 ETag와 같고, 주문이 바뀌면 달라진다")
+    void findVersionById() {
+        // given
+        TestDataFactory.OrderWithDependencies testData =
+                TestDataFactory.savedOrderWithDependencies(entityManager, 2);
+        entityManager.flush();
+        entityManager.clear();
+        Long orderId = testData.order().getId();
+
+        // when
+        OrderVersion version = orderRepository.findVersionById(orderId).orElseThrow();
+        Order order = orderRepository.findByIdWithItems(orderId).orElseThrow();
+
+        // then
+        assertThat(version.etag()).isEqualTo(OrderVersion.from(order).etag());
+        assertThat(version.lastModified()).isPositive();
+
+        // when - 상태 변경 (버전 증가)
+        order.changeStatus(OrderStatus.CANCELLED);
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        assertThat(orderRepository.findVersionById(orderId).orElseThrow().etag()).isNotEqualTo(version.etag());
+    }
+}
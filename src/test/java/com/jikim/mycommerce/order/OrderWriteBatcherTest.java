@@ -0,0 +1,128 @@
+package com.jikim.mycommerce.order;
+
+import com.jikim.mycommerce.product.Product;
+import com.jikim.mycommerce.product.ProductRepository;
+import com.jikim.mycommerce.product.ProductStatus;
+import com.jikim.mycommerce.user.User;
+import com.jikim.mycommerce.user.UserRepository;
+import com.jikim.mycommerce.user.UserRole;
+import com.jikim.mycommerce.user.UserStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * OrderWriteBatcherTest
+ *
+ * 주문 저장 그룹 커밋 테스트
+ * - 동시에 들어온 주문을 한 배치로 저장하고 각자 ID를 돌려받음
+ * - 실패한 주문이 있어도 나머지 주문은 저장됨
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+@SpringBootTest(properties = "mycommerce.order.group-commit.window-ms=50")
+@ActiveProfiles("test")
+class OrderWriteBatcherTest {
+
+    @Autowired
+    private OrderWriteBatcher orderWriteBatcher;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User testUser;
+    private Product testProduct;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository.deleteAll();
+        productRepository.deleteAll();
+        userRepository.deleteAll();
+
+        testUser = userRepository.saveAndFlush(User.builder()
+                .name("그룹커밋유저")
+                .email("groupcommit@test.com")
+                .phoneNumber("01055555555")
+                .provider("github")
+                .providerId("github_555")
+                .role(UserRole.USER)
+                .status(UserStatus.ACTIVE)
+                .build());
+
+        testProduct = productRepository.saveAndFlush(Product.builder()
+                .name("그룹커밋 상품")
+                .description("재고 100개")
+                .price(BigDecimal.valueOf(10000))
+                .stock(100)
+                .status(ProductStatus.AVAILABLE)
+                .build());
+    }
+
+    @Test
+    @DisplayName("실패한 주문만 예외, 나머지 주문은 저장")
+    void write_FailedOrderDoesNotPoisonBatch() {
+        // given - 없는 사용자 주문 1건 (FK 위반) + 정상 주문 9건
+        User missingUser = User.builder().id(testUser.getId() + 1000).build();
+
+        List<CompletableFuture<Order>> futures = new ArrayList<>();
+        futures.add(CompletableFuture.supplyAsync(() -> orderWriteBatcher.write(newOrder(missingUser))));
+        for (int i = 0; i < 9; i++) {
+            futures.add(CompletableFuture.supplyAsync(() -> orderWriteBatcher.write(newOrder(testUser))));
+        }
+
+        // when
+        int failed = 0;
+        List<Order> saved = new ArrayList<>();
+        for (CompletableFuture<Order> future : futures) {
+            try {
+                saved.add(future.join());
+            } catch (CompletionException e) {
+                failed++;
+            }
+        }
+
+        // then
+        assertThat(failed).isEqualTo(1);
+        assertThat(saved).hasSize(9)
+                .allSatisfy(order -> {
+                    assertThat(order.getId()).isNotNull();
+                    assertThat(order.getCreatedAt()).isNotNull();
+                    assertThat(order.getOrderItems().get(0).getId()).isNotNull();
+                });
+        assertThat(orderRepository.count()).isEqualTo(9);
+        assertThat(orderRepository.findByIdWithItems(saved.get(0).getId()).orElseThrow().getOrderItems())
+                .hasSize(1);
+    }
+
+    private Order newOrder(User user) {
+        Order order = Order.builder()
+                .user(user)
+                .status(OrderStatus.PENDING)
+                .totalPrice(testProduct.getPrice())
+                .build();
+        order.addOrderItem(OrderItem.builder()
+                .product(testProduct)
+                .price(testProduct.getPrice())
+                .quantity(1)
+                .build());
+        return order;
+    }
+}
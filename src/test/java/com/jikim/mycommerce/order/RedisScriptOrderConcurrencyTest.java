@@ -0,0 +1,167 @@
+package com.jikim.mycommerce.order;
+
+import com.jikim.mycommerce.common.exception.InsufficientStockException;
+import com.jikim.mycommerce.product.Product;
+import com.jikim.mycommerce.product.ProductRepository;
+import com.jikim.mycommerce.product.ProductStatus;
+import com.jikim.mycommerce.product.stock.RedisStockEngine;
+import com.jikim.mycommerce.product.stock.StockSyncScheduler;
+import com.jikim.mycommerce.user.User;
+import com.jikim.mycommerce.user.UserRepository;
+import com.jikim.mycommerce.user.UserRole;
+import com.jikim.mycommerce.user.UserStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * RedisScriptOrderConcurrencyTest
+ *
+ * Redis 재고 엔진(Lua 원자적 예약) 주문 동시성 테스트
+ * - 초과 판매 없음
+ * - products.stock 비동기 반영 및 정합성 확인
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+@SpringBootTest(properties = "mycommerce.stock.strategy=redis-script")
+@ActiveProfiles("test")
+class RedisScriptOrderConcurrencyTest {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private RedisStockEngine redisStockEngine;
+
+    @Autowired
+    private StockSyncScheduler stockSyncScheduler;
+
+    private User testUser;
+    private Product testProduct;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository.deleteAll();
+        productRepository.deleteAll();
+        userRepository.deleteAll();
+
+        testUser = userRepository.saveAndFlush(User.builder()
+                .name("동시성테스트유저")
+                .email("concurrent@test.com")
+                .phoneNumber("01099999999")
+                .provider("github")
+                .providerId("github_999")
+                .role(UserRole.USER)
+                .status(UserStatus.ACTIVE)
+                .build());
+
+        testProduct = productRepository.saveAndFlush(Product.builder()
+                .name("동시성 테스트 상품")
+                .description("재고 10개로 동시성 테스트")
+                .price(BigDecimal.valueOf(10000))
+                .stock(10)
+                .status(ProductStatus.AVAILABLE)
+                .build());
+
+        // 이전 실행에서 남은 카운터 제거 (H2 ID 재사용)
+        redisStockEngine.evict(testProduct.getId());
+    }
+
+    @Test
+    @DisplayName("100명이 동시에 1개씩 주문 → 10명만 성공, DB 재고는 비동기 반영")
+    void concurrentOrderTest_100Users_1Each() throws InterruptedException {
+        // given
+        int threadCount = 100;
+        ExecutorService executorService = Executors.newFixedThreadPool(32);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        AtomicInteger successCount = new AtomicInteger(0);
+        AtomicInteger failCount = new AtomicInteger(0);
+
+        // when
+        long start = System.nanoTime();
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    OrderCreateRequest request = new OrderCreateRequest(
+                            List.of(new OrderItemRequest(testProduct.getId(), 1)));
+
+                    orderService.createOrder(testUser.getId(), request);
+                    successCount.incrementAndGet();
+                } catch (Exception e) {
+                    failCount.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        long elapsedNanos = System.nanoTime() - start;
+        executorService.shutdown();
+
+        // then
+        System.out.printf("성공: %d, 실패: %d, 처리량: %.1f orders/sec%n",
+                successCount.get(), failCount.get(), threadCount / (elapsedNanos / 1_000_000_000.0));
+
+        assertThat(successCount.get()).isEqualTo(10);
+        assertThat(failCount.get()).isEqualTo(90);
+        assertThat(redisStockEngine.currentStock(testProduct.getId())).isZero();
+
+        // 비동기 반영 후 DB 재고 확인
+        stockSyncScheduler.flush();
+        Product updatedProduct = productRepository.findById(testProduct.getId()).orElseThrow();
+        assertThat(updatedProduct.getStock()).isZero();
+        assertThat(stockSyncScheduler.reconcile()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("재고 부족 상품이 포함된 주문은 전체 예약되지 않는다")
+    void reserveAllOrNothing() {
+        // given
+        Product product2 = productRepository.saveAndFlush(Product.builder()
+                .name("상품2")
+                .description("재고 1개")
+                .price(BigDecimal.valueOf(20000))
+                .stock(1)
+                .status(ProductStatus.AVAILABLE)
+                .build());
+        redisStockEngine.evict(product2.getId());
+
+        // when - 상품2 재고(1) 초과 주문
+        OrderCreateRequest request = new OrderCreateRequest(List.of(
+                new OrderItemRequest(testProduct.getId(), 3),
+                new OrderItemRequest(product2.getId(), 1),
+                new OrderItemRequest(product2.getId(), 1)
+        ));
+
+        // then
+        assertThatThrownBy(() -> orderService.createOrder(testUser.getId(), request))
+                .isInstanceOf(InsufficientStockException.class);
+        assertThat(redisStockEngine.currentStock(testProduct.getId())).isEqualTo(10);
+        assertThat(redisStockEngine.currentStock(product2.getId())).isEqualTo(1);
+    }
+}
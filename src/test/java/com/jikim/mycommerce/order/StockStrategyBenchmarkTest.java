@@ -0,0 +1,193 @@
+package com.jikim.mycommerce.order;
+
+import com.jikim.mycommerce.product.Product;
+import com.jikim.mycommerce.product.ProductRepository;
+import com.jikim.mycommerce.product.ProductService;
+import com.jikim.mycommerce.product.ProductStatus;
+import com.jikim.mycommerce.product.stock.RedisStockEngine;
+import com.jikim.mycommerce.product.stock.StockDecrementStrategies;
+import com.jikim.mycommerce.product.stock.StockDecrementStrategy;
+import com.jikim.mycommerce.product.stock.StockSyncScheduler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * StockStrategyBenchmarkTest
+ *
+ * 재고 차감 전략 벤치마크 (./gradlew benchmark)
+ * - 전략 × 상품 수마다 고정 동시성으로 재고 차감 요청
+ * - 전략 간 차이만 보도록 주문 생성(공통 구간)은 제외하고 전략을 직접 호출
+ * - 처리량, p50/p99 지연, 초과 판매 수 출력
+ * - 재고는 요청 수보다 적게 두어 재고 부족 경합까지 포함
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+class StockStrategyBenchmarkTest {
+
+    private static final int CONCURRENCY = 32;
+    private static final int REQUESTS = 2000;
+    private static final int WARMUP_REQUESTS = 200;
+    private static final int[] PRODUCT_COUNTS = {1, 4};
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private StockDecrementStrategies stockDecrementStrategies;
+
+    @Autowired
+    private RedisStockEngine redisStockEngine;
+
+    @Autowired
+    private StockSyncScheduler stockSyncScheduler;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository.deleteAll();
+        productRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("재고 차감 전략별 처리량/지연/초과 판매 비교")
+    void benchmarkAllStrategies() throws InterruptedException {
+        List<Result> results = new ArrayList<>();
+
+        for (String strategyName : stockDecrementStrategies.names()) {
+            StockDecrementStrategy strategy = stockDecrementStrategies.get(strategyName);
+            for (int productCount : PRODUCT_COUNTS) {
+                run(strategy, productCount, WARMUP_REQUESTS);   // JIT, 커넥션 풀, Redis 커넥션 워밍업
+                results.add(run(strategy, productCount, REQUESTS));
+            }
+        }
+
+        System.out.printf("%n%-20s %8s %10s %10s %10s %8s %8s %9s%n",
+                "strategy", "products", "ops/sec", "p50(ms)", "p99(ms)", "success", "fail", "oversell");
+        results.forEach(result -> System.out.printf("%-20s %8d %10.1f %10.2f %10.2f %8d %8d %9d%n",
+                result.strategy(), result.productCount(), result.throughput(),
+                result.p50Millis(), result.p99Millis(), result.success(), result.fail(), result.oversell()));
+
+        assertThat(results).allSatisfy(result -> assertThat(result.oversell()).isZero());
+    }
+
+    private Result run(StockDecrementStrategy strategy, int productCount, int requestCount) throws InterruptedException {
+        // 재고는 요청 수의 80% (상품별로 나눔)
+        int stockPerProduct = requestCount * 8 / 10 / productCount;
+        List<Product> products = createProducts(productCount, stockPerProduct);
+        prepare(strategy.name(), products);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(CONCURRENCY);
+        CountDownLatch ready = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(requestCount);
+        long[] latencies = new long[requestCount];
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger failCount = new AtomicInteger();
+
+        for (int i = 0; i < requestCount; i++) {
+            int index = i;
+            Long productId = products.get(i % productCount).getId();
+            executorService.submit(() -> {
+                try {
+                    ready.await();
+                    long start = System.nanoTime();
+                    try {
+                        strategy.decrease(Map.of(productId, 1));
+                        successCount.incrementAndGet();
+                    } catch (Exception e) {
+                        failCount.incrementAndGet();
+                    } finally {
+                        latencies[index] = System.nanoTime() - start;
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        long start = System.nanoTime();
+        ready.countDown();
+        done.await();
+        long elapsedNanos = System.nanoTime() - start;
+        executorService.shutdown();
+        executorService.awaitTermination(10, TimeUnit.SECONDS);
+
+        // Redis 엔진은 DB 반영이 비동기 → 남은 수량 반영 후 비교
+        stockSyncScheduler.flush();
+
+        int remainingStock = productRepository.findAllById(products.stream().map(Product::getId).toList())
+                .stream().mapToInt(Product::getStock).sum();
+        int soldStock = stockPerProduct * productCount - remainingStock;
+
+        // 초과 판매: 음수 재고 또는 성공 주문보다 많이 차감된 재고
+        int oversell = Math.max(0, -remainingStock) + Math.abs(soldStock - successCount.get());
+
+        Arrays.sort(latencies);
+        return new Result(strategy.name(), productCount,
+                requestCount / (elapsedNanos / 1_000_000_000.0),
+                percentileMillis(latencies, 0.50), percentileMillis(latencies, 0.99),
+                successCount.get(), failCount.get(), oversell);
+    }
+
+    private List<Product> createProducts(int productCount, int stock) {
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < productCount; i++) {
+            products.add(productRepository.saveAndFlush(Product.builder()
+                    .name("벤치마크 상품 " + i)
+                    .description("재고 " + stock + "개")
+                    .price(BigDecimal.valueOf(10000))
+                    .stock(stock)
+                    .status(ProductStatus.AVAILABLE)
+                    .build()));
+        }
+        return products;
+    }
+
+    // 전략별 사전 준비
+    private void prepare(String strategyName, List<Product> products) {
+        for (Product product : products) {
+            switch (strategyName) {
+                case "bucketed" -> productService.enableStockBuckets(product.getId(), 8);
+                case "redis-script" -> redisStockEngine.evict(product.getId());
+                default -> { }
+            }
+        }
+    }
+
+    private double percentileMillis(long[] sortedNanos, double percentile) {
+        int index = (int) Math.ceil(percentile * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    private record Result(String strategy, int productCount, double throughput,
+                          double p50Millis, double p99Millis, int success, int fail, int oversell) {
+    }
+}
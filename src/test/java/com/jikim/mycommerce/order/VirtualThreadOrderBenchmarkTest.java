@@ -0,0 +1,234 @@
+package com.jikim.mycommerce.order;
+
+import com.jikim.mycommerce.product.Product;
+import com.jikim.mycommerce.product.ProductRepository;
+import com.jikim.mycommerce.product.ProductStatus;
+import com.jikim.mycommerce.user.User;
+import com.jikim.mycommerce.user.UserRepository;
+import com.jikim.mycommerce.user.UserRole;
+import com.jikim.mycommerce.user.UserStatus;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * VirtualThreadOrderBenchmarkTest
+ *
+ * 주문 생성 동시성 벤치마크: 플랫폼 스레드 vs 가상 스레드 (./gradlew benchmark)
+ * - platform: Tomcat 기본과 같은 200 스레드 고정 풀
+ * - virtual: 요청마다 가상 스레드 (spring.threads.virtual.enabled 시 Tomcat 실행 방식)
+ * - 두 방식 모두 같은 Hikari 풀, 같은 재고 전략(Redisson 락 + 비관적 락)으로 createOrder 호출
+ * - 동시 요청 수별 처리량, p50/p99(대기 포함), 최대 처리 중 요청 수, 최대 플랫폼 스레드 수 출력
+ * - JFR jdk.VirtualThreadPinned 이벤트로 캐리어 스레드 고정 여부 확인 (애플리케이션 코드 원인은 0건이어야 함)
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+class VirtualThreadOrderBenchmarkTest {
+
+    private static final int PLATFORM_POOL_SIZE = 200;     // server.tomcat.threads.max
+    private static final int PRODUCT_COUNT = 200;
+    private static final int[] CONCURRENCY_LEVELS = {200, 1000, 2000};
+    private static final int REQUESTS = 4000;
+    private static final int WARMUP_REQUESTS = 500;
+    private static final String APPLICATION_PACKAGE = "com.jikim.mycommerce.";
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Long userId;
+    private List<Long> productIds;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository.deleteAll();
+        productRepository.deleteAll();
+        userRepository.deleteAll();
+
+        userId = userRepository.saveAndFlush(User.builder()
+                .name("가상스레드벤치마크유저")
+                .email("virtual-benchmark@test.com")
+                .phoneNumber("01066666666")
+                .provider("github")
+                .providerId("github_666")
+                .role(UserRole.USER)
+                .status(UserStatus.ACTIVE)
+                .build()).getId();
+
+        // 재고는 넉넉히 → 실패는 락/커넥션 대기 시간 초과만
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < PRODUCT_COUNT; i++) {
+            products.add(Product.builder()
+                    .name("가상 스레드 벤치마크 상품 " + i)
+                    .description("가상 스레드 벤치마크")
+                    .price(BigDecimal.valueOf(1000L * (i + 1)))
+                    .stock(1_000_000)
+                    .status(ProductStatus.AVAILABLE)
+                    .build());
+        }
+        productIds = productRepository.saveAll(products).stream().map(Product::getId).toList();
+    }
+
+    @Test
+    @DisplayName("주문 생성: 플랫폼 스레드 풀 vs 가상 스레드 동시성/처리량 비교")
+    void comparePlatformAndVirtualThreads() throws InterruptedException {
+        run("platform", PLATFORM_POOL_SIZE, WARMUP_REQUESTS);   // JIT, 커넥션 풀, Redis 커넥션 워밍업
+        run("virtual", PLATFORM_POOL_SIZE, WARMUP_REQUESTS);
+
+        List<Result> results = new ArrayList<>();
+        for (int concurrency : CONCURRENCY_LEVELS) {
+            results.add(run("platform", concurrency, REQUESTS));
+            results.add(run("virtual", concurrency, REQUESTS));
+        }
+
+        System.out.printf("%n%-9s %6s %10s %9s %9s %7s %9s %8s %7s%n",
+                "threads", "conc", "orders/s", "p50(ms)", "p99(ms)", "fail", "in-flight", "platform", "pinned");
+        results.forEach(result -> System.out.printf("%-9s %6d %10.1f %9.2f %9.2f %7d %9d %8d %7d%n",
+                result.mode(), result.concurrency(), result.throughput(), result.p50Millis(), result.p99Millis(),
+                result.fail(), result.peakInFlight(), result.peakPlatformThreads(), result.pinned()));
+
+        List<Result> virtual = results.stream().filter(result -> result.mode().equals("virtual")).toList();
+        assertThat(virtual).allSatisfy(result -> {
+            assertThat(result.fail()).isZero();
+            assertThat(result.applicationPinned()).isZero();
+        });
+        // 가상 스레드는 플랫폼 풀 크기보다 많은 요청을 동시에 처리 중으로 유지
+        assertThat(virtual.get(virtual.size() - 1).peakInFlight()).isGreaterThan(PLATFORM_POOL_SIZE);
+    }
+
+    private Result run(String mode, int concurrency, int requestCount) throws InterruptedException {
+        ExecutorService executorService = mode.equals("virtual")
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(PLATFORM_POOL_SIZE);
+
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        threads.resetPeakThreadCount();
+
+        LongAdder pinned = new LongAdder();
+        Map<String, Integer> applicationPins = new ConcurrentHashMap<>();
+        RecordingStream recording = new RecordingStream();
+        recording.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ofMillis(1)).withStackTrace();
+        recording.onEvent("jdk.VirtualThreadPinned", event -> {
+            pinned.increment();
+            String frame = pinnedApplicationFrame(event);
+            if (frame != null) {
+                applicationPins.merge(frame, 1, Integer::sum);
+            }
+        });
+        recording.startAsync();
+
+        // 동시 요청 수만큼 한 번에 제출 → 끝날 때마다 다음 요청 제출 (클라이언트 연결 수 고정과 같은 부하)
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger peakInFlight = new AtomicInteger();
+        AtomicInteger failCount = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(requestCount);
+        long[] latencies = new long[requestCount];
+
+        long start = System.nanoTime();
+        for (int i = 0; i < Math.min(concurrency, requestCount); i++) {
+            submit(executorService, next, requestCount, inFlight, peakInFlight, failCount, latencies, done);
+        }
+        done.await();
+        long elapsedNanos = System.nanoTime() - start;
+
+        executorService.shutdown();
+        executorService.awaitTermination(10, TimeUnit.SECONDS);
+        recording.close();
+
+        applicationPins.forEach((frame, count) -> System.out.printf("pinned in %s: %d%n", frame, count));
+
+        Arrays.sort(latencies);
+        return new Result(mode, concurrency,
+                requestCount / (elapsedNanos / 1_000_000_000.0),
+                percentileMillis(latencies, 0.50), percentileMillis(latencies, 0.99),
+                failCount.get(), peakInFlight.get(), threads.getPeakThreadCount(),
+                pinned.sum(), applicationPins.values().stream().mapToInt(Integer::intValue).sum());
+    }
+
+    private void submit(ExecutorService executorService, AtomicInteger next, int requestCount,
+                        AtomicInteger inFlight, AtomicInteger peakInFlight, AtomicInteger failCount,
+                        long[] latencies, CountDownLatch done) {
+        int index = next.getAndIncrement();
+        if (index >= requestCount) {
+            return;
+        }
+
+        long submitted = System.nanoTime();
+        Long productId = productIds.get(index % productIds.size());
+        executorService.execute(() -> {
+            peakInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                orderService.createOrder(userId, new OrderCreateRequest(List.of(new OrderItemRequest(productId, 1))));
+            } catch (RuntimeException e) {
+                failCount.incrementAndGet();
+            } finally {
+                inFlight.decrementAndGet();
+                latencies[index] = System.nanoTime() - submitted;   // 풀 대기 포함
+                done.countDown();
+                submit(executorService, next, requestCount, inFlight, peakInFlight, failCount, latencies, done);
+            }
+        });
+    }
+
+    // 고정 원인이 된 애플리케이션 synchronized 메서드 (라이브러리 모니터는 출력만)
+    private static String pinnedApplicationFrame(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return null;
+        }
+        for (RecordedFrame frame : event.getStackTrace().getFrames()) {
+            String type = frame.getMethod().getType().getName();
+            if (type.startsWith(APPLICATION_PACKAGE) && Modifier.isSynchronized(frame.getMethod().getModifiers())) {
+                return type + "." + frame.getMethod().getName();
+            }
+        }
+        return null;
+    }
+
+    private double percentileMillis(long[] sortedNanos, double percentile) {
+        int index = (int) Math.ceil(percentile * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    private record Result(String mode, int concurrency, double throughput, double p50Millis, double p99Millis,
+                          int fail, int peakInFlight, int peakPlatformThreads, long pinned, int applicationPinned) {
+    }
+}
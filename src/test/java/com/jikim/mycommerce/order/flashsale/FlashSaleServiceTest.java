@@ -0,0 +1,225 @@
+package com.jikim.mycommerce.order.flashsale;
+
+import com.jikim.mycommerce.common.exception.FlashSaleRejectedException;
+import com.jikim.mycommerce.order.Order;
+import com.jikim.mycommerce.order.OrderCreateRequest;
+import com.jikim.mycommerce.order.OrderItemRequest;
+import com.jikim.mycommerce.order.OrderRepository;
+import com.jikim.mycommerce.order.OrderService;
+import com.jikim.mycommerce.product.Product;
+import com.jikim.mycommerce.product.ProductRepository;
+import com.jikim.mycommerce.product.ProductStatus;
+import com.jikim.mycommerce.user.User;
+import com.jikim.mycommerce.user.UserRepository;
+import com.jikim.mycommerce.user.UserRole;
+import com.jikim.mycommerce.user.UserStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * FlashSaleServiceTest
+ *
+ * 플래시 세일 대기열 테스트
+ * - 재고만큼만 티켓 발급, 나머지는 즉시 매진 거절
+ * - 대기열 앞쪽 entry-window개 티켓만 주문 진입
+ * - 주문 진입 후 임대 시간 안에 결과가 없는 티켓은 만료, 수량 반환
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+@SpringBootTest(properties = {
+        "mycommerce.flash-sale.entry-window=2",
+        "mycommerce.flash-sale.claim-lease-ms=1000"
+})
+@ActiveProfiles("test")
+class FlashSaleServiceTest {
+
+    @Autowired
+    private FlashSaleService flashSaleService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    private User testUser;
+    private Product testProduct;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository.deleteAll();
+        productRepository.deleteAll();
+        userRepository.deleteAll();
+
+        testUser = userRepository.saveAndFlush(User.builder()
+                .name("플래시세일유저")
+                .email("flashsale@test.com")
+                .phoneNumber("01077777777")
+                .provider("github")
+                .providerId("github_777")
+                .role(UserRole.USER)
+                .status(UserStatus.ACTIVE)
+                .build());
+
+        testProduct = productRepository.saveAndFlush(Product.builder()
+                .name("한정 수량 상품")
+                .description("재고 10개")
+                .price(BigDecimal.valueOf(10000))
+                .stock(10)
+                .status(ProductStatus.AVAILABLE)
+                .build());
+
+        flashSaleService.open(testProduct.getId());
+    }
+
+    @AfterEach
+    void tearDown() {
+        flashSaleService.close(testProduct.getId());
+    }
+
+    @Test
+    @DisplayName("100명이 동시에 입장 → 10명만 티켓 발급, 90명은 즉시 매진")
+    void enter_100Users_OnlyStockTickets() throws InterruptedException {
+        // given
+        int threadCount = 100;
+        ExecutorService executorService = Executors.newFixedThreadPool(32);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        AtomicInteger ticketCount = new AtomicInteger(0);
+        AtomicInteger soldOutCount = new AtomicInteger(0);
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            long userId = i + 1;
+            executorService.submit(() -> {
+                try {
+                    flashSaleService.enter(testProduct.getId(), userId, 1);
+                    ticketCount.incrementAndGet();
+                } catch (FlashSaleRejectedException e) {
+                    soldOutCount.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        executorService.shutdown();
+
+        // then
+        assertThat(ticketCount.get()).isEqualTo(10);
+        assertThat(soldOutCount.get()).isEqualTo(90);
+
+        FlashSaleResponse sale = flashSaleService.getSale(testProduct.getId());
+        assertThat(sale.admitted()).isEqualTo(10);
+        assertThat(sale.waiting()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("차례가 된 티켓만 주문 진입, 주문 후 다음 티켓 차례")
+    void admit_OnlyReadyTickets() {
+        // given
+        FlashSaleTicketResponse first = flashSaleService.enter(testProduct.getId(), testUser.getId(), 1);
+        flashSaleService.enter(testProduct.getId(), testUser.getId(), 1);
+        FlashSaleTicketResponse third = flashSaleService.enter(testProduct.getId(), testUser.getId(), 1);
+        OrderCreateRequest request = new OrderCreateRequest(List.of(new OrderItemRequest(testProduct.getId(), 1)));
+
+        assertThat(first.ready()).isTrue();
+        assertThat(third.ready()).isFalse();
+
+        // when & then - 티켓 없음, 차례 아님
+        assertThatThrownBy(() -> flashSaleService.admit(testUser.getId(), request, null,
+                () -> orderService.createOrder(testUser.getId(), request)))
+                .isInstanceOf(FlashSaleRejectedException.class)
+                .hasFieldOrPropertyWithValue("code", "NO_TICKET");
+        assertThatThrownBy(() -> flashSaleService.admit(testUser.getId(), request, third.ticketId(),
+                () -> orderService.createOrder(testUser.getId(), request)))
+                .isInstanceOf(FlashSaleRejectedException.class)
+                .hasFieldOrPropertyWithValue("code", "NOT_YOUR_TURN");
+
+        // 첫 번째 티켓 주문 → 세 번째 티켓 차례
+        Order order = flashSaleService.admit(testUser.getId(), request, first.ticketId(),
+                () -> orderService.createOrder(testUser.getId(), request));
+
+        assertThat(order.getId()).isNotNull();
+        assertThat(flashSaleService.getTicket(testProduct.getId(), third.ticketId()).ready()).isTrue();
+        assertThatThrownBy(() -> flashSaleService.getTicket(testProduct.getId(), first.ticketId()))
+                .isInstanceOf(FlashSaleRejectedException.class);
+    }
+
+    @Test
+    @DisplayName("주문 실패 시 티켓 수량 반환")
+    void admit_OrderFailed_RestoresCapacity() {
+        // given
+        FlashSaleTicketResponse ticket = flashSaleService.enter(testProduct.getId(), testUser.getId(), 1);
+        OrderCreateRequest request = new OrderCreateRequest(List.of(new OrderItemRequest(testProduct.getId(), 1)));
+
+        // when
+        assertThatThrownBy(() -> flashSaleService.admit(testUser.getId(), request, ticket.ticketId(), () -> {
+            throw new IllegalStateException("결제 실패");
+        })).isInstanceOf(IllegalStateException.class);
+
+        // then
+        FlashSaleResponse sale = flashSaleService.getSale(testProduct.getId());
+        assertThat(sale.admitted()).isZero();
+        assertThat(sale.waiting()).isZero();
+    }
+
+    @Test
+    @DisplayName("주문 진입 후 임대 시간이 지나도록 결과가 없으면 티켓 만료, 수량은 한 번만 반환")
+    void admit_ClaimLeaseExpired_RestoresCapacityOnce() {
+        // given
+        FlashSaleTicketResponse ticket = flashSaleService.enter(testProduct.getId(), testUser.getId(), 1);
+        OrderCreateRequest request = new OrderCreateRequest(List.of(new OrderItemRequest(testProduct.getId(), 1)));
+
+        // when - 주문이 끝나지 않는 동안 스케줄러가 진입 티켓을 만료
+        AtomicInteger admittedDuringOrder = new AtomicInteger(-1);
+        assertThatThrownBy(() -> flashSaleService.admit(testUser.getId(), request, ticket.ticketId(), () -> {
+            admittedDuringOrder.set(awaitAdmitted(0));
+            throw new IllegalStateException("주문 시간 초과");
+        })).isInstanceOf(IllegalStateException.class);
+
+        // then - 만료로 반환됐으므로 주문 실패 시 다시 반환하지 않음
+        assertThat(admittedDuringOrder.get()).isZero();
+        FlashSaleResponse sale = flashSaleService.getSale(testProduct.getId());
+        assertThat(sale.admitted()).isZero();
+        assertThat(sale.waiting()).isZero();
+    }
+
+    private int awaitAdmitted(int expected) {
+        long deadline = System.currentTimeMillis() + 5000;
+        int admitted = flashSaleService.getSale(testProduct.getId()).admitted();
+        while (admitted != expected && System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            admitted = flashSaleService.getSale(testProduct.getId()).admitted();
+        }
+        return admitted;
+    }
+}
@@ -0,0 +1,226 @@
+package com.jikim.mycommerce.order.idempotency;
+
+import com.jikim.mycommerce.common.exception.IdempotencyKeyException;
+import com.jikim.mycommerce.order.Order;
+import com.jikim.mycommerce.order.OrderCreateRequest;
+import com.jikim.mycommerce.order.OrderItemRequest;
+import com.jikim.mycommerce.order.OrderRepository;
+import com.jikim.mycommerce.order.OrderResponse;
+import com.jikim.mycommerce.order.OrderService;
+import com.jikim.mycommerce.product.Product;
+import com.jikim.mycommerce.product.ProductRepository;
+import com.jikim.mycommerce.product.ProductStatus;
+import com.jikim.mycommerce.user.User;
+import com.jikim.mycommerce.user.UserRepository;
+import com.jikim.mycommerce.user.UserRole;
+import com.jikim.mycommerce.user.UserStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * OrderIdempotencyServiceTest
+ *
+ * 주문 생성 Idempotency-Key 테스트
+ * - 같은 키 동시/늦은 재시도 → 주문 1건, 재고 1회 차감, 같은 응답
+ * - 실패한 요청은 선점 해제, 다른 본문 재사용은 거절
+ * - 성공 후 응답 저장 실패는 성공 응답 유지
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class OrderIdempotencyServiceTest {
+
+    @Autowired
+    private OrderIdempotencyService orderIdempotencyService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    private User testUser;
+    private Product testProduct;
+    private OrderCreateRequest request;
+    private AtomicInteger executions;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository.deleteAll();
+        productRepository.deleteAll();
+        userRepository.deleteAll();
+
+        testUser = userRepository.saveAndFlush(User.builder()
+                .name("멱등주문유저")
+                .email("idempotency@test.com")
+                .phoneNumber("01055555555")
+                .provider("github")
+                .providerId("github_555")
+                .role(UserRole.USER)
+                .status(UserStatus.ACTIVE)
+                .build());
+
+        testProduct = productRepository.saveAndFlush(Product.builder()
+                .name("멱등 주문 상품")
+                .description("재고 10개")
+                .price(BigDecimal.valueOf(10000))
+                .stock(10)
+                .status(ProductStatus.AVAILABLE)
+                .build());
+
+        request = new OrderCreateRequest(List.of(new OrderItemRequest(testProduct.getId(), 1)));
+        executions = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("같은 키로 20건 동시 요청 → 주문 1건, 재고 1개 차감, 모두 같은 주문 응답")
+    void execute_ConcurrentDuplicates_SingleOrder() throws InterruptedException {
+        // given
+        String key = UUID.randomUUID().toString();
+        int threadCount = 20;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicInteger replayed = new AtomicInteger();
+        AtomicInteger created = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    ResponseEntity<?> response = orderIdempotencyService.execute(
+                            testUser.getId(), key, request, createOrder());
+                    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+                    if (response.getHeaders().containsKey(OrderIdempotencyService.REPLAYED_HEADER)) {
+                        replayed.incrementAndGet();
+                    } else {
+                        created.incrementAndGet();
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        executorService.shutdown();
+
+        // then
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(created.get()).isEqualTo(1);
+        assertThat(replayed.get()).isEqualTo(threadCount - 1);
+        assertThat(orderRepository.count()).isEqualTo(1);
+        assertThat(productRepository.findById(testProduct.getId()).orElseThrow().getStock()).isEqualTo(9);
+    }
+
+    @Test
+    @DisplayName("완료 후 늦게 온 재시도 → 저장된 응답(Location, 본문) 재전송")
+    void execute_LateRetry_ReplaysStoredResponse() {
+        // given
+        String key = UUID.randomUUID().toString();
+        ResponseEntity<?> first = orderIdempotencyService.execute(testUser.getId(), key, request, createOrder());
+        Long orderId = ((OrderResponse) first.getBody()).id();
+
+        // when
+        ResponseEntity<?> retry = orderIdempotencyService.execute(testUser.getId(), key, request, createOrder());
+
+        // then
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(retry.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(retry.getHeaders().getLocation()).isEqualTo(URI.create("/orders/" + orderId));
+        assertThat(retry.getHeaders().getFirst(OrderIdempotencyService.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat((String) retry.getBody()).contains("\"id\":\"" + orderId + "\"");   // 주문 ID는 JSON 문자열
+    }
+
+    @Test
+    @DisplayName("처리 실패 → 선점 해제, 같은 키 재시도가 다시 처리")
+    void execute_Failure_ReleasesKey() {
+        // given
+        String key = UUID.randomUUID().toString();
+
+        // when
+        assertThatThrownBy(() -> orderIdempotencyService.execute(testUser.getId(), key, request, () -> {
+            executions.incrementAndGet();
+            throw new IllegalStateException("결제 실패");
+        })).isInstanceOf(IllegalStateException.class);
+
+        ResponseEntity<?> retry = orderIdempotencyService.execute(testUser.getId(), key, request, createOrder());
+
+        // then
+        assertThat(executions.get()).isEqualTo(2);
+        assertThat(retry.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(orderRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("처리 성공 후 응답 저장에 실패해도 성공 응답을 그대로 돌려준다")
+    void execute_CompleteFailed_ReturnsResponse() {
+        // given - 직렬화할 수 없는 응답 본문 (주문 커밋 후 응답 저장 단계에서 실패)
+        String key = UUID.randomUUID().toString();
+        Object unserializable = new Object();
+
+        // when
+        ResponseEntity<?> response = orderIdempotencyService.execute(testUser.getId(), key, request, () -> {
+            executions.incrementAndGet();
+            return ResponseEntity.status(HttpStatus.CREATED).body(unserializable);
+        });
+
+        // then
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(response.getBody()).isSameAs(unserializable);
+    }
+
+    @Test
+    @DisplayName("같은 키로 다른 요청 본문 → 422 거절")
+    void execute_DifferentRequest_Rejected() {
+        // given
+        String key = UUID.randomUUID().toString();
+        orderIdempotencyService.execute(testUser.getId(), key, request, createOrder());
+
+        OrderCreateRequest other = new OrderCreateRequest(List.of(new OrderItemRequest(testProduct.getId(), 2)));
+
+        // when & then
+        assertThatThrownBy(() -> orderIdempotencyService.execute(testUser.getId(), key, other, createOrder()))
+                .isInstanceOf(IdempotencyKeyException.class)
+                .extracting("status")
+                .isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+        assertThat(executions.get()).isEqualTo(1);
+    }
+
+    private Supplier<ResponseEntity<?>> createOrder() {
+        return () -> {
+            executions.incrementAndGet();
+            Order order = orderService.createOrder(testUser.getId(), request);
+            return ResponseEntity
+                    .created(URI.create("/orders/" + order.getId()))
+                    .body(OrderResponse.from(order));
+        };
+    }
+}
@@ -0,0 +1,120 @@
+package com.jikim.mycommerce.order.intake;
+
+import com.jikim.mycommerce.order.OrderCreateRequest;
+import com.jikim.mycommerce.order.OrderItemRequest;
+import com.jikim.mycommerce.order.OrderRepository;
+import com.jikim.mycommerce.product.Product;
+import com.jikim.mycommerce.product.ProductRepository;
+import com.jikim.mycommerce.product.ProductStatus;
+import com.jikim.mycommerce.user.User;
+import com.jikim.mycommerce.user.UserRepository;
+import com.jikim.mycommerce.user.UserRole;
+import com.jikim.mycommerce.user.UserStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+
+/**
+ * OrderIntakeRetryTest
+ *
+ * 비동기 주문 접수 재처리 테스트
+ * - 결과 기록 전 인프라 오류가 나면 ACK하지 않고, claim-idle-ms 이후 인수해 다시 처리
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+@SpringBootTest(properties = {
+        "mycommerce.order.intake.mode=async",
+        "mycommerce.order.intake.claim-idle-ms=1000",
+        "mycommerce.order.intake.claim-interval-ms=500"
+})
+@ActiveProfiles("test")
+class OrderIntakeRetryTest {
+
+    @MockitoSpyBean
+    private OrderIntakeService orderIntakeService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    private User testUser;
+    private Product testProduct;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository.deleteAll();
+        productRepository.deleteAll();
+        userRepository.deleteAll();
+
+        testUser = userRepository.saveAndFlush(User.builder()
+                .name("재처리유저")
+                .email("intake-retry@test.com")
+                .phoneNumber("01055555555")
+                .provider("github")
+                .providerId("github_555")
+                .role(UserRole.USER)
+                .status(UserStatus.ACTIVE)
+                .build());
+
+        testProduct = productRepository.saveAndFlush(Product.builder()
+                .name("재처리 상품")
+                .description("재고 10개")
+                .price(BigDecimal.valueOf(10000))
+                .stock(10)
+                .status(ProductStatus.AVAILABLE)
+                .build());
+    }
+
+    @Test
+    @DisplayName("처리 중 일시 장애가 나면 엔트리를 남겨두고 인수 후 다시 처리한다")
+    void process_TransientFailure_Retried() throws InterruptedException {
+        // given: 첫 처리만 DB 장애
+        doThrow(new DataAccessResourceFailureException("일시 장애"))
+                .doCallRealMethod()
+                .when(orderIntakeService).process(any());
+
+        // when
+        OrderIntakeResponse accepted = orderIntakeService.accept(testUser.getId(),
+                new OrderCreateRequest(List.of(new OrderItemRequest(testProduct.getId(), 1))));
+        OrderIntakeResponse result = awaitDone(accepted.trackingId());
+
+        // then
+        verify(orderIntakeService, atLeast(2)).process(any());
+        assertThat(result.status()).isEqualTo(OrderIntakeStatus.COMPLETED);
+        assertThat(orderRepository.findById(result.orderId())).isPresent();
+        assertThat(productRepository.findById(testProduct.getId()).orElseThrow().getStock()).isEqualTo(9);
+    }
+
+    // COMPLETED/FAILED가 될 때까지 폴링 (최대 30초)
+    private OrderIntakeResponse awaitDone(String trackingId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 30_000;
+        while (true) {
+            OrderIntakeResponse response = orderIntakeService.getStatus(trackingId, testUser.getId());
+            boolean done = response.status() == OrderIntakeStatus.COMPLETED || response.status() == OrderIntakeStatus.FAILED;
+            if (done || System.currentTimeMillis() > deadline) {
+                return response;
+            }
+            Thread.sleep(100);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.jikim.mycommerce.order.intake;
+
+import com.jikim.mycommerce.order.OrderCreateRequest;
+import com.jikim.mycommerce.order.OrderItemRequest;
+import com.jikim.mycommerce.order.OrderRepository;
+import com.jikim.mycommerce.product.Product;
+import com.jikim.mycommerce.product.ProductRepository;
+import com.jikim.mycommerce.product.ProductStatus;
+import com.jikim.mycommerce.user.User;
+import com.jikim.mycommerce.user.UserRepository;
+import com.jikim.mycommerce.user.UserRole;
+import com.jikim.mycommerce.user.UserStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * OrderIntakeServiceTest
+ *
+ * 비동기 주문 접수 테스트
+ * - 접수 즉시 QUEUED 반환, 워커가 주문 생성 후 COMPLETED/FAILED 기록
+ * - 재고보다 많이 접수돼도 초과 판매 없음
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+@SpringBootTest(properties = "mycommerce.order.intake.mode=async")
+@ActiveProfiles("test")
+class OrderIntakeServiceTest {
+
+    @Autowired
+    private OrderIntakeService orderIntakeService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    private User testUser;
+    private Product testProduct;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository.deleteAll();
+        productRepository.deleteAll();
+        userRepository.deleteAll();
+
+        testUser = userRepository.saveAndFlush(User.builder()
+                .name("비동기주문유저")
+                .email("intake@test.com")
+                .phoneNumber("01066666666")
+                .provider("github")
+                .providerId("github_666")
+                .role(UserRole.USER)
+                .status(UserStatus.ACTIVE)
+                .build());
+
+        testProduct = productRepository.saveAndFlush(Product.builder()
+                .name("비동기 주문 상품")
+                .description("재고 10개")
+                .price(BigDecimal.valueOf(10000))
+                .stock(10)
+                .status(ProductStatus.AVAILABLE)
+                .build());
+    }
+
+    @Test
+    @DisplayName("20건 접수 → 워커가 10건 생성, 10건 재고 부족 실패")
+    void accept_20Requests_10Completed() throws InterruptedException {
+        // given
+        OrderCreateRequest request = new OrderCreateRequest(List.of(new OrderItemRequest(testProduct.getId(), 1)));
+
+        // when
+        List<String> trackingIds = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            OrderIntakeResponse response = orderIntakeService.accept(testUser.getId(), request);
+            assertThat(response.status()).isEqualTo(OrderIntakeStatus.QUEUED);
+            trackingIds.add(response.trackingId());
+        }
+
+        List<OrderIntakeResponse> results = awaitDone(trackingIds);
+
+        // then
+        assertThat(results).filteredOn(r -> r.status() == OrderIntakeStatus.COMPLETED)
+                .hasSize(10)
+                .allSatisfy(r -> assertThat(orderRepository.findById(r.orderId())).isPresent());
+        assertThat(results).filteredOn(r -> r.status() == OrderIntakeStatus.FAILED).hasSize(10);
+        assertThat(productRepository.findById(testProduct.getId()).orElseThrow().getStock()).isZero();
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 접수 ID는 조회할 수 없다")
+    void getStatus_OtherUser_NotFound() {
+        OrderIntakeResponse response = orderIntakeService.accept(testUser.getId(),
+                new OrderCreateRequest(List.of(new OrderItemRequest(testProduct.getId(), 1))));
+
+        assertThatThrownBy(() -> orderIntakeService.getStatus(response.trackingId(), testUser.getId() + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // 모든 접수 건이 COMPLETED/FAILED가 될 때까지 폴링 (최대 30초)
+    private List<OrderIntakeResponse> awaitDone(List<String> trackingIds) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 30_000;
+        while (true) {
+            List<OrderIntakeResponse> results = trackingIds.stream()
+                    .map(trackingId -> orderIntakeService.getStatus(trackingId, testUser.getId()))
+                    .toList();
+            boolean done = results.stream().allMatch(r ->
+                    r.status() == OrderIntakeStatus.COMPLETED || r.status() == OrderIntakeStatus.FAILED);
+            if (done || System.currentTimeMillis() > deadline) {
+                return results;
+            }
+            Thread.sleep(100);
+        }
+    }
+}
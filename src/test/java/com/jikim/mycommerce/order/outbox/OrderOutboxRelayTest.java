@@ -0,0 +1,194 @@
+package com.jikim.mycommerce.order.outbox;
+
+import com.jikim.mycommerce.common.id.SnowflakeIdGenerator;
+import com.jikim.mycommerce.order.Order;
+import com.jikim.mycommerce.order.OrderCreateRequest;
+import com.jikim.mycommerce.order.OrderItemRequest;
+import com.jikim.mycommerce.order.OrderRepository;
+import com.jikim.mycommerce.order.OrderService;
+import com.jikim.mycommerce.order.OrderStatus;
+import com.jikim.mycommerce.product.Product;
+import com.jikim.mycommerce.product.ProductRepository;
+import com.jikim.mycommerce.product.ProductStatus;
+import com.jikim.mycommerce.user.User;
+import com.jikim.mycommerce.user.UserRepository;
+import com.jikim.mycommerce.user.UserRole;
+import com.jikim.mycommerce.user.UserStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * OrderOutboxRelayTest
+ *
+ * 주문 이벤트 아웃박스 테스트
+ * - 주문 생성/취소 커밋 시에만 이벤트 기록, 발행 후 아웃박스에서 삭제
+ * - 여러 릴레이가 동시에 돌아도 같은 이벤트를 두 번 발행하지 않음 (SKIP LOCKED)
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class OrderOutboxRelayTest {
+
+    @Autowired
+    private OrderOutboxRelay orderOutboxRelay;
+
+    @Autowired
+    private OrderOutbox orderOutbox;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private SnowflakeIdGenerator idGenerator;
+
+    private User testUser;
+    private Product testProduct;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository.deleteAll();
+        productRepository.deleteAll();
+        userRepository.deleteAll();
+
+        testUser = userRepository.saveAndFlush(User.builder()
+                .name("아웃박스유저")
+                .email("outbox@test.com")
+                .phoneNumber("01012121212")
+                .provider("github")
+                .providerId("github_1212")
+                .role(UserRole.USER)
+                .status(UserStatus.ACTIVE)
+                .build());
+
+        testProduct = productRepository.saveAndFlush(Product.builder()
+                .name("아웃박스 상품")
+                .description("재고 1개")
+                .price(BigDecimal.valueOf(10000))
+                .stock(1)
+                .status(ProductStatus.AVAILABLE)
+                .build());
+    }
+
+    @Test
+    @DisplayName("주문 생성, 취소 → 이벤트 2건 발행 후 아웃박스 비움, 실패한 주문은 이벤트 없음")
+    void createAndCancel_RelayedToStream() {
+        // given
+        OrderCreateRequest request = new OrderCreateRequest(List.of(new OrderItemRequest(testProduct.getId(), 1)));
+        Order order = orderService.createOrder(testUser.getId(), request);
+        orderService.cancelOrder(order.getId(), testUser.getId());
+
+        // 재고 부족으로 롤백된 주문
+        assertThatThrownBy(() -> orderService.createOrder(testUser.getId(), request))
+                .isInstanceOf(RuntimeException.class);
+
+        // when
+        orderOutboxRelay.relay();
+
+        // then
+        List<MapRecord<String, Object, Object>> events = eventsOf(order.getId());
+        assertThat(events).extracting(record -> record.getValue().get("type"))
+                .containsExactly(OrderEventType.ORDER_CREATED.name(), OrderEventType.ORDER_CANCELLED.name());
+        assertThat((String) events.get(1).getValue().get("payload"))
+                .contains("\"status\":\"" + OrderStatus.CANCELLED.name() + "\"");
+
+        assertThat(outboxCount(order.getId())).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM order_outbox", Long.class)).isZero();
+    }
+
+    @Test
+    @DisplayName("릴레이 4개가 동시에 1000건 발행 → 중복/누락 없음")
+    void concurrentRelays_NoDuplicates() throws InterruptedException {
+        // given - 주문 저장 없이 이벤트만 기록
+        List<Order> orders = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            orders.add(Order.builder()
+                    .id(idGenerator.nextId())
+                    .user(testUser)
+                    .status(OrderStatus.PAID)
+                    .totalPrice(BigDecimal.valueOf(10000))
+                    .build());
+        }
+        transactionTemplate.executeWithoutResult(status -> orderOutbox.appendAll(orders, OrderEventType.ORDER_CREATED));
+
+        // when
+        int relayCount = 4;
+        ExecutorService executorService = Executors.newFixedThreadPool(relayCount);
+        CountDownLatch latch = new CountDownLatch(relayCount);
+        for (int i = 0; i < relayCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    while (orderOutboxRelay.relayBatch() > 0) {
+                        // 빈 배치가 나올 때까지 발행
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+
+        // then
+        Set<Long> orderIds = orders.stream().map(Order::getId).collect(Collectors.toSet());
+        List<MapRecord<String, Object, Object>> events = redisTemplate.opsForStream()
+                .range(OrderOutboxRelay.STREAM_KEY, Range.unbounded());
+        List<Object> relayedOrderIds = events.stream()
+                .map(record -> record.getValue().get("orderId"))
+                .filter(orderId -> orderIds.contains(Long.valueOf((String) orderId)))
+                .toList();
+
+        assertThat(relayedOrderIds).hasSize(1000).doesNotHaveDuplicates();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM order_outbox", Long.class)).isZero();
+    }
+
+    private List<MapRecord<String, Object, Object>> eventsOf(Long orderId) {
+        return redisTemplate.opsForStream().range(OrderOutboxRelay.STREAM_KEY, Range.unbounded()).stream()
+                .filter(record -> String.valueOf(orderId).equals(record.getValue().get("orderId")))
+                .toList();
+    }
+
+    private long outboxCount(Long orderId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM order_outbox WHERE aggregate_id = ?", Long.class, orderId);
+    }
+}
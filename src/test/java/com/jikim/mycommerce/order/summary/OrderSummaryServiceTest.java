@@ -0,0 +1,158 @@
+package com.jikim.mycommerce.order.summary;
+
+import com.jikim.mycommerce.order.Order;
+import com.jikim.mycommerce.order.OrderCreateRequest;
+import com.jikim.mycommerce.order.OrderItemRequest;
+import com.jikim.mycommerce.order.OrderRepository;
+import com.jikim.mycommerce.order.OrderService;
+import com.jikim.mycommerce.order.OrderStatus;
+import com.jikim.mycommerce.product.Product;
+import com.jikim.mycommerce.product.ProductRepository;
+import com.jikim.mycommerce.product.ProductStatus;
+import com.jikim.mycommerce.user.User;
+import com.jikim.mycommerce.user.UserRepository;
+import com.jikim.mycommerce.user.UserRole;
+import com.jikim.mycommerce.user.UserStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * OrderSummaryServiceTest
+ *
+ * 주문 요약 읽기 모델 테스트
+ * - 주문 생성/취소 커밋 후 Redis 요약 갱신
+ * - Redis 요약 유실 시 orders 테이블로 재구축
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class OrderSummaryServiceTest {
+
+    @Autowired
+    private OrderSummaryService orderSummaryService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    private User testUser;
+    private Product testProduct1;
+    private Product testProduct2;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository.deleteAll();
+        productRepository.deleteAll();
+        userRepository.deleteAll();
+
+        testUser = userRepository.saveAndFlush(User.builder()
+                .name("주문요약유저")
+                .email("summary@test.com")
+                .phoneNumber("01088888888")
+                .provider("github")
+                .providerId("github_888")
+                .role(UserRole.USER)
+                .status(UserStatus.ACTIVE)
+                .build());
+
+        testProduct1 = saveProduct("요약 상품1", 10000);
+        testProduct2 = saveProduct("요약 상품2", 20000);
+
+        clearSummaries();
+    }
+
+    @Test
+    @DisplayName("주문 생성 → 요약이 최신순으로 조회되고, 취소하면 상태가 갱신된다")
+    void createAndCancel_UpdatesSummary() {
+        // given
+        List<Order> orders = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            orders.add(orderService.createOrder(testUser.getId(), new OrderCreateRequest(List.of(
+                    new OrderItemRequest(testProduct1.getId(), i),
+                    new OrderItemRequest(testProduct2.getId(), 1)))));
+        }
+
+        // when
+        orderService.cancelOrder(orders.get(0).getId(), testUser.getId());
+        OrderSummaryPageResponse page = orderSummaryService.findUserSummaries(testUser.getId(), 0, 20);
+
+        // then
+        assertThat(page.total()).isEqualTo(3);
+        assertThat(page.orders()).extracting(OrderSummaryResponse::id)
+                .containsExactly(orders.get(2).getId(), orders.get(1).getId(), orders.get(0).getId());
+        assertThat(page.orders()).allSatisfy(summary -> assertThat(summary.itemCount()).isEqualTo(2));
+
+        OrderSummaryResponse cancelled = page.orders().get(2);
+        assertThat(cancelled.status()).isEqualTo(OrderStatus.CANCELLED);
+        assertThat(cancelled.totalPrice()).isEqualByComparingTo(BigDecimal.valueOf(30000));
+    }
+
+    @Test
+    @DisplayName("Redis 요약이 사라져도 orders 테이블로 재구축된다")
+    void rebuild_FromOrdersTable() {
+        // given
+        Order order1 = orderService.createOrder(testUser.getId(),
+                new OrderCreateRequest(List.of(new OrderItemRequest(testProduct1.getId(), 1))));
+        Order order2 = orderService.createOrder(testUser.getId(),
+                new OrderCreateRequest(List.of(new OrderItemRequest(testProduct2.getId(), 2))));
+        orderService.cancelOrder(order1.getId(), testUser.getId());
+
+        // when - 전체 재구축
+        clearSummaries();
+        orderSummaryService.rebuildAll();
+        OrderSummaryPageResponse rebuilt = orderSummaryService.findUserSummaries(testUser.getId(), 0, 20);
+
+        // then
+        assertThat(rebuilt.orders()).extracting(OrderSummaryResponse::id)
+                .containsExactly(order2.getId(), order1.getId());
+        assertThat(rebuilt.orders().get(1).status()).isEqualTo(OrderStatus.CANCELLED);
+
+        // when - 사용자 요약 유실 → 첫 조회 시 재구축
+        clearSummaries();
+        OrderSummaryPageResponse lazy = orderSummaryService.findUserSummaries(testUser.getId(), 0, 1);
+
+        // then
+        assertThat(lazy.total()).isEqualTo(2);
+        assertThat(lazy.orders()).extracting(OrderSummaryResponse::id).containsExactly(order2.getId());
+    }
+
+    private Product saveProduct(String name, long price) {
+        return productRepository.saveAndFlush(Product.builder()
+                .name(name)
+                .description("재고 100개")
+                .price(BigDecimal.valueOf(price))
+                .stock(100)
+                .status(ProductStatus.AVAILABLE)
+                .build());
+    }
+
+    // 이전 실행에서 남은 요약 제거 (H2 사용자 ID 재사용)
+    private void clearSummaries() {
+        redisTemplate.delete("order:summary:user:" + testUser.getId());
+        redisTemplate.opsForSet().remove("order:summary:users", String.valueOf(testUser.getId()));
+    }
+}
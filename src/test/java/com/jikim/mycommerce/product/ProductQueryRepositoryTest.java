@@ -0,0 +1,122 @@
+package com.jikim.mycommerce.product;
+
+import com.jikim.mycommerce.common.exception.InvalidRequestException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * ProductQueryRepositoryTest
+ *
+ * 상품 목록 키셋 페이지 조회 테스트
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+@DataJpaTest
+@EnableJpaAuditing
+@Import(ProductQueryRepository.class)
+@DisplayName("ProductQueryRepository 테스트")
+class ProductQueryRepositoryTest {
+
+    @Autowired
+    private ProductQueryRepository productQueryRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private final List<Product> products = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        // 가격 동점(3000원 2개) 포함, 판매 중단 1개
+        products.add(persist("사과", 1000, ProductStatus.AVAILABLE));
+        products.add(persist("바나나", 3000, ProductStatus.AVAILABLE));
+        products.add(persist("체리", 3000, ProductStatus.AVAILABLE));
+        products.add(persist("딸기", 2000, ProductStatus.DISCONTINUED));
+        products.add(persist("포도", 5000, ProductStatus.AVAILABLE));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("가격 오름차순 + 상태/가격 필터로 커서를 따라가면 빠짐없이 한 번씩 조회된다")
+    void findSummaries_PriceAscWithFilters() {
+        // given
+        ProductSearchCondition condition = new ProductSearchCondition(
+                ProductStatus.AVAILABLE, BigDecimal.valueOf(1000), BigDecimal.valueOf(3000), ProductSort.PRICE, null);
+
+        // when
+        List<Long> ids = readAll(condition, 1);
+
+        // then - 동점은 ID 순
+        assertThat(ids).containsExactly(products.get(0).getId(), products.get(1).getId(), products.get(2).getId());
+    }
+
+    @Test
+    @DisplayName("상품명 내림차순으로 페이지를 나눠 조회한다")
+    void findSummaries_NameDesc() {
+        // given
+        ProductSearchCondition condition = new ProductSearchCondition(
+                null, BigDecimal.valueOf(1000), BigDecimal.valueOf(5000), ProductSort.NAME, Sort.Direction.DESC);
+
+        // when
+        List<Long> ids = readAll(condition, 2);
+
+        // then - 포도, 체리, 사과, 바나나, 딸기
+        assertThat(ids).containsExactly(products.get(4).getId(), products.get(2).getId(),
+                products.get(0).getId(), products.get(1).getId(), products.get(3).getId());
+    }
+
+    @Test
+    @DisplayName("다른 정렬 조건으로 만든 커서는 거절한다")
+    void decode_RejectsCursorOfOtherSort() {
+        // given
+        ProductSearchCondition byPrice = new ProductSearchCondition(null, null, null, ProductSort.PRICE, null);
+        ProductSummaryResponse first = productQueryRepository.findSummaries(byPrice, null, 1).get(0);
+        String cursor = ProductCursor.of(byPrice, first).encode();
+
+        // when & then
+        ProductSearchCondition byName = new ProductSearchCondition(null, null, null, ProductSort.NAME, null);
+        assertThatThrownBy(() -> ProductCursor.decode(cursor, byName))
+                .isInstanceOf(InvalidRequestException.class);
+    }
+
+    // 커서를 인코딩/디코딩하며 마지막 페이지까지 조회
+    private List<Long> readAll(ProductSearchCondition condition, int pageSize) {
+        List<Long> ids = new ArrayList<>();
+        ProductCursor after = null;
+        while (true) {
+            List<ProductSummaryResponse> page = productQueryRepository.findSummaries(condition, after, pageSize);
+            page.forEach(product -> ids.add(product.id()));
+            if (page.size() < pageSize) {
+                return ids;
+            }
+            String cursor = ProductCursor.of(condition, page.get(page.size() - 1)).encode();
+            after = ProductCursor.decode(cursor, condition);
+        }
+    }
+
+    private Product persist(String name, long price, ProductStatus status) {
+        return entityManager.persist(Product.builder()
+                .name(name)
+                .description("목록 조회 테스트")
+                .price(BigDecimal.valueOf(price))
+                .stock(10)
+                .status(status)
+                .build());
+    }
+}
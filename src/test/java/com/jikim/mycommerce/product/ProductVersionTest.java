@@ -0,0 +1,98 @@
+package com.jikim.mycommerce.product;
+
+import com.jikim.mycommerce.product.stock.ProductStockBucketRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ProductVersionTest
+ *
+ * 상품 조건부 GET 검증자 테스트
+ * - 버전만 조회한 ETag = 전체 응답으로 만든 ETag
+ * - 상품 수정, 재고 변경 시 ETag 변경
+ * - 버킷 재고 차감 시 Last-Modified 갱신
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ProductVersionTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductStockBucketRepository bucketRepository;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    @DisplayName("버전 조회 ETag는 응답 ETag와 같고, 수정/재고 변경 후에는 달라진다")
+    void etag_ChangesWithProduct() {
+        // given
+        Product product = productService.createProduct(
+                new ProductCreateRequest("ETag 상품", "설명", BigDecimal.valueOf(1000), 10));
+        redisTemplate.delete("cache:product:" + product.getId());   // 이전 실행에서 남은 캐시 제거 (H2 상품 ID 재사용)
+
+        // when - DB 버전 조회
+        ProductVersion fromDb = productService.getProductVersion(product.getId());
+        ProductVersion fromResponse = ProductVersion.from(productService.getProduct(product.getId()));
+
+        // then
+        assertThat(fromDb.etag()).isEqualTo(fromResponse.etag());
+        assertThat(productService.getProductVersion(product.getId()).etag()).isEqualTo(fromDb.etag());   // 로컬 캐시 적중
+
+        // when - 상품 수정
+        productService.updateProduct(product.getId(),
+                new ProductUpdateRequest("ETag 상품 수정", "설명", BigDecimal.valueOf(2000)));
+        ProductVersion updated = productService.getProductVersion(product.getId());
+
+        // then
+        assertThat(updated.etag()).isNotEqualTo(fromDb.etag());
+
+        // when - 재고만 변경 (벌크 UPDATE)
+        transactionTemplate.executeWithoutResult(status -> productRepository.subtractStock(product.getId(), 1));
+        ProductVersion afterStock = productRepository.findVersionById(product.getId()).orElseThrow();
+
+        // then
+        assertThat(afterStock.etag()).isNotEqualTo(updated.etag());
+        assertThat(afterStock.stock()).isEqualTo(9);
+    }
+
+    @Test
+    @DisplayName("버킷 재고 차감은 상품 행을 바꾸지 않아도 Last-Modified를 갱신한다")
+    void lastModified_AdvancesWithBucketStock() throws InterruptedException {
+        // given
+        Product product = productService.createProduct(
+                new ProductCreateRequest("버킷 상품", "설명", BigDecimal.valueOf(1000), 8));
+        productService.enableStockBuckets(product.getId(), 2);
+        ProductVersion before = productRepository.findVersionById(product.getId()).orElseThrow();
+        Thread.sleep(10);
+
+        // when - 버킷 하나만 차감 (상품 행 갱신 없음)
+        transactionTemplate.executeWithoutResult(status ->
+                bucketRepository.decreaseStockIfAvailable(product.getId(), 0, 1));
+        ProductVersion after = productRepository.findVersionById(product.getId()).orElseThrow();
+
+        // then
+        assertThat(after.stock()).isEqualTo(7);
+        assertThat(after.lastModified()).isGreaterThan(before.lastModified());
+    }
+}
@@ -0,0 +1,241 @@
+package com.jikim.mycommerce.product.cache;
+
+import com.jikim.mycommerce.product.Product;
+import com.jikim.mycommerce.product.ProductBatchResponse;
+import com.jikim.mycommerce.product.ProductRepository;
+import com.jikim.mycommerce.product.ProductResponse;
+import com.jikim.mycommerce.product.ProductService;
+import com.jikim.mycommerce.product.ProductStatus;
+import com.jikim.mycommerce.product.ProductUpdateRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * ProductCacheTest
+ *
+ * 상품 2단계 캐시 테스트
+ * - 로컬/Redis 적중 시 DB 조회 생략
+ * - 수정/삭제 커밋 후 무효화, 무효화 이전 버전은 Redis에 다시 저장되지 않음
+ * - 버전을 모르는 무효화 후에는 같은 버전도 다시 저장
+ * - 로딩 중 무효화된 값은 로컬 캐시에 넣지 않음
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ProductCacheTest {
+
+    @Autowired
+    private ProductCache productCache;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    private Product testProduct;
+
+    @BeforeEach
+    void setUp() {
+        testProduct = productRepository.saveAndFlush(Product.builder()
+                .name("캐시 상품")
+                .description("재고 100개")
+                .price(BigDecimal.valueOf(10000))
+                .stock(100)
+                .status(ProductStatus.AVAILABLE)
+                .build());
+
+        // 이전 실행에서 남은 캐시 제거 (H2 상품 ID 재사용)
+        redisTemplate.delete("cache:product:" + testProduct.getId());
+    }
+
+    @Test
+    @DisplayName("한 번 로딩한 상품은 다시 DB에서 조회하지 않는다")
+    void get_LoadsOnce() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            productCache.get(testProduct.getId(), id -> {
+                loads.incrementAndGet();
+                return ProductResponse.from(productRepository.findById(id).orElseThrow());
+            });
+        }
+
+        // then
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(redisTemplate.opsForHash().get("cache:product:" + testProduct.getId(), "body")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("같은 상품 동시 미스는 가상 스레드에서도 한 번만 로딩한다")
+    void get_ConcurrentMissesLoadOnce() throws InterruptedException {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        List<ProductResponse> results = new CopyOnWriteArrayList<>();
+
+        // when: 첫 로딩이 끝나기 전에 나머지 요청 도착
+        try (ExecutorService executorService = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 10; i++) {
+                executorService.execute(() -> results.add(productCache.get(testProduct.getId(), id -> {
+                    loads.incrementAndGet();
+                    await(loading);
+                    return ProductResponse.from(productRepository.findById(id).orElseThrow());
+                })));
+            }
+            Thread.sleep(200);
+            loading.countDown();
+        }
+
+        // then
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(results).hasSize(10).allSatisfy(product -> assertThat(product.id()).isEqualTo(testProduct.getId()));
+    }
+
+    @Test
+    @DisplayName("상품 수정 후에는 새 버전이 조회되고, 이전 버전은 Redis에 다시 저장되지 않는다")
+    void update_EvictsAndRejectsStaleVersion() {
+        // given
+        ProductResponse before = productService.getProduct(testProduct.getId());
+
+        // when
+        productService.updateProduct(testProduct.getId(),
+                new ProductUpdateRequest("수정된 캐시 상품", "설명", BigDecimal.valueOf(12000)));
+
+        // then - 수정 전에 읽은 응답을 늦게 저장하려 해도 거절
+        productCache.get(testProduct.getId(), id -> before);
+        assertThat(redisTemplate.opsForHash().get("cache:product:" + testProduct.getId(), "body")).isNull();
+
+        productCache.evictAfterCompletion(List.of(testProduct.getId()));   // 위에서 로컬에 올라간 이전 응답 제거
+        ProductResponse after = productService.getProduct(testProduct.getId());
+        assertThat(after.name()).isEqualTo("수정된 캐시 상품");
+        assertThat(after.version()).isGreaterThan(before.version());
+    }
+
+    @Test
+    @DisplayName("버전이 바뀌지 않는 변경(버킷 재고 차감 등)으로 무효화돼도 다시 Redis에 저장된다")
+    void evictWithUnknownVersion_AllowsSameVersionAgain() {
+        // given
+        ProductResponse before = productService.getProduct(testProduct.getId());
+
+        // when - 무효화 전 미스에서 읽은 응답은 거절, 무효화 후 미스에서 읽은 같은 버전은 저장
+        productCache.evictAfterCompletion(List.of(testProduct.getId()));
+        productCache.evictAfterCompletion(List.of(testProduct.getId()));
+        ProductResponse after = productCache.get(testProduct.getId(), id -> before);
+
+        // then
+        assertThat(after.version()).isEqualTo(before.version());
+        assertThat(redisTemplate.opsForHash().get("cache:product:" + testProduct.getId(), "body")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("일괄 조회는 캐시 미스만 한 번에 로딩하고, 요청 순서와 없는 상품을 돌려준다")
+    void getAll_LoadsOnlyMisses() {
+        // given
+        Product other = productRepository.saveAndFlush(Product.builder()
+                .name("캐시 상품2")
+                .description("재고 100개")
+                .price(BigDecimal.valueOf(20000))
+                .stock(100)
+                .status(ProductStatus.AVAILABLE)
+                .build());
+        redisTemplate.delete("cache:product:" + other.getId());
+        productService.getProduct(testProduct.getId());   // 로컬 캐시 적중 대상
+        Long missingId = Long.MAX_VALUE;
+
+        // when
+        List<Set<Long>> loads = new ArrayList<>();
+        productCache.getAll(List.of(other.getId(), testProduct.getId(), missingId), misses -> {
+            loads.add(Set.copyOf(misses));
+            return productRepository.findAllById(misses).stream()
+                    .collect(Collectors.toMap(Product::getId, ProductResponse::from));
+        });
+        ProductBatchResponse response = productService.getProducts(
+                List.of(other.getId(), missingId, testProduct.getId(), other.getId()));
+
+        // then
+        assertThat(loads).containsExactly(Set.of(other.getId(), missingId));
+        assertThat(response.products()).extracting(ProductResponse::id)
+                .containsExactly(other.getId(), testProduct.getId());
+        assertThat(response.missingIds()).containsExactly(missingId);
+    }
+
+    @Test
+    @DisplayName("일괄 로딩 중 무효화된 상품은 로컬 캐시에 넣지 않는다")
+    void getAll_InvalidatedWhileLoading_NotCached() {
+        // when - 로딩 도중 다른 요청의 재고 변경 커밋
+        Map<Long, ProductResponse> result = productCache.getAll(List.of(testProduct.getId()), misses -> {
+            Map<Long, ProductResponse> loaded = productRepository.findAllById(misses).stream()
+                    .collect(Collectors.toMap(Product::getId, ProductResponse::from));
+            productCache.evictAfterCompletion(List.of(testProduct.getId()));
+            return loaded;
+        });
+
+        // then - 이번 응답은 돌려주지만 캐시는 다음 조회에서 다시 로딩
+        assertThat(result).containsKey(testProduct.getId());
+        assertThat(productCache.getIfPresent(testProduct.getId())).isNull();
+    }
+
+    @Test
+    @DisplayName("로딩 도중 다른 상품이 무효화돼도 로딩 결과는 로컬 캐시에 저장")
+    void get_OtherProductInvalidatedWhileLoading_Cached() {
+        // when - 로딩 도중 다른 상품의 재고 변경 커밋 (주문마다 발생)
+        ProductResponse result = productCache.get(testProduct.getId(), id -> {
+            ProductResponse loaded = productRepository.findById(id).map(ProductResponse::from).orElse(null);
+            productCache.evictAfterCompletion(List.of(testProduct.getId() + 1));
+            return loaded;
+        });
+
+        // then
+        assertThat(productCache.getIfPresent(testProduct.getId())).isEqualTo(result);
+    }
+
+    @Test
+    @DisplayName("삭제된 상품은 캐시에서도 제거된다")
+    void delete_Evicts() {
+        // given
+        productService.getProduct(testProduct.getId());
+
+        // when
+        productService.deleteProduct(testProduct.getId());
+
+        // then
+        assertThatThrownBy(() -> productService.getProduct(testProduct.getId()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.jikim.mycommerce.product.catalog;
+
+import com.jikim.mycommerce.product.Product;
+import com.jikim.mycommerce.product.ProductCreateRequest;
+import com.jikim.mycommerce.product.ProductService;
+import com.jikim.mycommerce.product.ProductUpdateRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CatalogSnapshotServiceTest
+ *
+ * 카탈로그 스냅샷 테스트
+ * - 상품 생성/수정 알림 후 refresh로 해당 페이지만 다시 직렬화
+ * - gzip 바이트와 JSON 바이트가 같은 내용, ETag는 내용이 바뀔 때만 변경
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class CatalogSnapshotServiceTest {
+
+    private static final long WAIT_MILLIS = 5000;
+
+    @Autowired
+    private CatalogSnapshotService catalogSnapshotService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Test
+    @DisplayName("상품을 추가/수정하면 마지막 페이지만 다시 직렬화된다")
+    void refresh_RebuildsChangedPage() throws Exception {
+        // given
+        catalogSnapshotService.rebuildAll();
+        String name = "카탈로그 " + UUID.randomUUID();
+        CatalogPage firstBefore = catalogSnapshotService.getPage(0);
+
+        // when - 생성 (가장 큰 ID → 마지막 페이지)
+        Product product = productService.createProduct(
+                new ProductCreateRequest(name, "설명", BigDecimal.valueOf(1000), 10));
+        CatalogPage created = awaitLastPageContaining(name);
+
+        // then
+        assertThat(gunzip(created.gzip())).isEqualTo(created.json());
+        assertThat(created.matches(created.etag())).isTrue();
+        assertThat(created.matches("W/" + created.gzipEtag())).isTrue();
+        if (lastPageIndex() > 0) {
+            assertThat(catalogSnapshotService.getPage(0)).isSameAs(firstBefore);   // 앞 페이지 바이트 재사용
+        }
+
+        // when - 수정
+        productService.updateProduct(product.getId(),
+                new ProductUpdateRequest(name + " 수정", "설명", BigDecimal.valueOf(2000)));
+        CatalogPage updated = awaitLastPageContaining(name + " 수정");
+
+        // then
+        assertThat(updated.etag()).isNotEqualTo(created.etag());
+        assertThat(updated.matches(created.etag())).isFalse();
+    }
+
+    // 구독 메시지 도착 후 refresh가 반영할 때까지 대기
+    private CatalogPage awaitLastPageContaining(String text) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + WAIT_MILLIS;
+        while (System.currentTimeMillis() < deadline) {
+            catalogSnapshotService.refresh();
+            CatalogPage last = catalogSnapshotService.getPage(lastPageIndex());
+            if (new String(last.json(), StandardCharsets.UTF_8).contains(text)) {
+                return last;
+            }
+            Thread.sleep(50);
+        }
+        throw new AssertionError("카탈로그에 반영되지 않음: " + text);
+    }
+
+    private int lastPageIndex() {
+        int page = 0;
+        while (catalogSnapshotService.getPage(page + 1) != null) {
+            page++;
+        }
+        return page;
+    }
+
+    private static byte[] gunzip(byte[] gzip) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzip))) {
+            return in.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package com.jikim.mycommerce.product.reactive;
+
+import com.jikim.mycommerce.product.Product;
+import com.jikim.mycommerce.product.ProductRepository;
+import com.jikim.mycommerce.product.ProductStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ReactiveCatalogLoadTest
+ *
+ * 상품 단건 조회 부하 비교 (./gradlew benchmark, 힙 1g 고정)
+ * - mvc: 기존 ProductController (GET /api/products/{id}, Tomcat 요청당 스레드)
+ * - reactive: 리액티브 카탈로그 (GET /api/catalog/products/{id}, catalog-loop 이벤트 루프)
+ * - 동시 요청 수를 늘려가며 처리량, p50/p99, 오류 수, 최대 스레드 수, 사용 힙 출력
+ * - 두 경로 모두 같은 상품 캐시를 거치므로 차이는 요청 처리 모델에서 나옴
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "mycommerce.product.reactive.enabled=true",
+        "mycommerce.product.reactive.port=0"
+})
+@ActiveProfiles("test")
+class ReactiveCatalogLoadTest {
+
+    private static final int PRODUCT_COUNT = 200;
+    private static final int[] CONCURRENCY_LEVELS = {50, 200, 800, 2000};
+    private static final int REQUESTS_PER_LEVEL = 20_000;
+    private static final int WARMUP_REQUESTS = 5_000;
+
+    @TestConfiguration
+    static class PublicProductReadConfig {
+
+        // 부하 테스트용: 서블릿 상품 조회를 인증 없이 허용 (리액티브 카탈로그와 같은 조건)
+        @Bean
+        @Order(0)
+        SecurityFilterChain publicProductReadChain(HttpSecurity http) throws Exception {
+            return http.securityMatcher("/api/products/**")
+                    .authorizeHttpRequests(auth -> auth.anyRequest().permitAll())
+                    .csrf(csrf -> csrf.disable())
+                    .build();
+        }
+    }
+
+    @LocalServerPort
+    private int servletPort;
+
+    @Autowired
+    private ReactiveCatalogServer catalogServer;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    private List<Long> productIds;
+    private HttpClient httpClient;
+
+    @BeforeEach
+    void setUp() {
+        productRepository.deleteAll();
+
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < PRODUCT_COUNT; i++) {
+            products.add(Product.builder()
+                    .name("부하 테스트 상품 " + i)
+                    .description("부하 테스트 상품 설명 " + i)
+                    .price(BigDecimal.valueOf(1000L * (i + 1)))
+                    .stock(1000)
+                    .status(ProductStatus.AVAILABLE)
+                    .build());
+        }
+        productIds = productRepository.saveAll(products).stream().map(Product::getId).toList();
+
+        httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .executor(Executors.newFixedThreadPool(8))
+                .build();
+    }
+
+    @Test
+    @DisplayName("상품 단건 조회: 서블릿 컨트롤러 vs 리액티브 카탈로그 동시성별 비교")
+    void compareConcurrency() {
+        LongFunction<URI> mvc = id -> URI.create("http://localhost:" + servletPort + "/api/products/" + id);
+        LongFunction<URI> reactive = id -> URI.create("http://localhost:" + catalogServer.port() + "/api/catalog/products/" + id);
+
+        // 두 경로 응답 동일 확인
+        Long sampleId = productIds.get(0);
+        HttpResponse<String> fromMvc = httpClient.sendAsync(HttpRequest.newBuilder(mvc.apply(sampleId)).build(),
+                HttpResponse.BodyHandlers.ofString()).join();
+        HttpResponse<String> fromReactive = httpClient.sendAsync(HttpRequest.newBuilder(reactive.apply(sampleId)).build(),
+                HttpResponse.BodyHandlers.ofString()).join();
+        assertThat(fromMvc.statusCode()).isEqualTo(200);
+        assertThat(fromReactive.statusCode()).isEqualTo(200);
+        assertThat(fromReactive.body()).isEqualTo(fromMvc.body());
+
+        run("mvc", mvc, 50, WARMUP_REQUESTS);           // JIT, 커넥션 워밍업
+        run("reactive", reactive, 50, WARMUP_REQUESTS);
+
+        System.out.printf("%-9s %6s %10s %9s %9s %7s %8s %9s%n",
+                "path", "conc", "req/s", "p50(ms)", "p99(ms)", "errors", "threads", "heap(MB)");
+        for (int concurrency : CONCURRENCY_LEVELS) {
+            Result mvcResult = run("mvc", mvc, concurrency, REQUESTS_PER_LEVEL);
+            Result reactiveResult = run("reactive", reactive, concurrency, REQUESTS_PER_LEVEL);
+            mvcResult.print();
+            reactiveResult.print();
+
+            assertThat(reactiveResult.errors()).isZero();
+        }
+    }
+
+    // 동시 요청 수를 세마포어로 고정하고 requests건 전송
+    private Result run(String path, LongFunction<URI> uri, int concurrency, int requests) {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        System.gc();
+        threads.resetPeakThreadCount();
+
+        Semaphore permits = new Semaphore(concurrency);
+        AtomicInteger errors = new AtomicInteger();
+        long[] latencies = new long[requests];
+        List<CompletableFuture<?>> futures = new ArrayList<>(requests);
+        long peakHeap = 0;
+
+        long started = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            permits.acquireUninterruptibly();
+            int index = i;
+            long sent = System.nanoTime();
+            HttpRequest request = HttpRequest.newBuilder(uri.apply(productIds.get(i % productIds.size())))
+                    .timeout(Duration.ofSeconds(30))
+                    .build();
+            futures.add(httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, e) -> {
+                        latencies[index] = System.nanoTime() - sent;
+                        if (e != null || response.statusCode() != 200) {
+                            errors.incrementAndGet();
+                        }
+                        permits.release();
+                    }));
+            if (i % 1000 == 0) {
+                peakHeap = Math.max(peakHeap, memory.getHeapMemoryUsage().getUsed());
+            }
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).exceptionally(e -> null).join();
+        long elapsed = System.nanoTime() - started;
+        peakHeap = Math.max(peakHeap, memory.getHeapMemoryUsage().getUsed());
+
+        Arrays.sort(latencies);
+        return new Result(path, concurrency,
+                requests * 1_000_000_000.0 / elapsed,
+                latencies[requests / 2] / 1_000_000.0,
+                latencies[(int) (requests * 0.99)] / 1_000_000.0,
+                errors.get(),
+                threads.getPeakThreadCount(),
+                peakHeap / (1024 * 1024));
+    }
+
+    private record Result(String path, int concurrency, double throughput, double p50Millis, double p99Millis,
+                          int errors, int peakThreads, long peakHeapMb) {
+
+        void print() {
+            System.out.printf("%-9s %6d %10.0f %9.2f %9.2f %7d %8d %9d%n",
+                    path, concurrency, throughput, p50Millis, p99Millis, errors, peakThreads, peakHeapMb);
+        }
+    }
+}
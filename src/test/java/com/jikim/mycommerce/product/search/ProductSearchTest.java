@@ -0,0 +1,78 @@
+package com.jikim.mycommerce.product.search;
+
+import com.jikim.mycommerce.product.Product;
+import com.jikim.mycommerce.product.ProductCreateRequest;
+import com.jikim.mycommerce.product.ProductService;
+import com.jikim.mycommerce.product.ProductSummaryResponse;
+import com.jikim.mycommerce.product.ProductUpdateRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ProductSearchTest
+ *
+ * 상품 검색 테스트 (test 프로파일: H2 LIKE 대체 구현)
+ * - 상품명 일치가 설명 일치보다 앞에 조회
+ * - 상품 수정 후 바로 새 내용으로 검색
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ProductSearchTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Test
+    @DisplayName("모든 단어를 포함한 상품을 상품명 일치 우선으로 페이지를 나눠 조회한다")
+    void search_RanksNameMatchesFirst() {
+        // given - 다른 테스트 데이터와 겹치지 않는 검색어
+        String token = "srch" + UUID.randomUUID().toString().substring(0, 8);
+        Product inDescription = create("무선 키보드", token + " 호환 무선");
+        Product inName = create(token + " 무선 마우스", "설명");
+        create(token + " 유선 마우스", "설명");
+
+        // when
+        ProductSearchResponse first = productService.searchProducts(token + " 무선", 0, 1);
+        ProductSearchResponse second = productService.searchProducts(token + " 무선", first.nextOffset(), 1);
+
+        // then
+        assertThat(first.products()).extracting(ProductSummaryResponse::id).containsExactly(inName.getId());
+        assertThat(first.nextOffset()).isEqualTo(1);
+        assertThat(second.products()).extracting(ProductSummaryResponse::id).containsExactly(inDescription.getId());
+        assertThat(second.nextOffset()).isNull();
+    }
+
+    @Test
+    @DisplayName("상품을 수정하면 새 상품명으로 검색된다")
+    void search_AfterUpdate() {
+        // given
+        String before = "old" + UUID.randomUUID().toString().substring(0, 8);
+        String after = "new" + UUID.randomUUID().toString().substring(0, 8);
+        Product product = create(before + " 상품", "설명");
+
+        // when
+        productService.updateProduct(product.getId(),
+                new ProductUpdateRequest(after + " 상품", "설명", BigDecimal.valueOf(1000)));
+
+        // then
+        assertThat(productService.searchProducts(before, 0, 20).products()).isEmpty();
+        assertThat(productService.searchProducts(after, 0, 20).products())
+                .extracting(ProductSummaryResponse::id).containsExactly(product.getId());
+    }
+
+    private Product create(String name, String description) {
+        return productService.createProduct(new ProductCreateRequest(
+                name, description, BigDecimal.valueOf(1000), 10));
+    }
+}
@@ -0,0 +1,143 @@
+package com.jikim.mycommerce.product.stock;
+
+import com.jikim.mycommerce.order.OrderRepository;
+import com.jikim.mycommerce.product.Product;
+import com.jikim.mycommerce.product.ProductRepository;
+import com.jikim.mycommerce.product.ProductStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * StockSyncSchedulerTest
+ *
+ * 재고 write-behind 테스트
+ * - 스트림에 적재된 차감 수량을 배치로 DB 반영
+ * - 이미 반영한 엔트리는 다시 반영하지 않음
+ * - 진행 중 예약을 포함한 정합성 점검
+ * - DB 반영 전 현재 재고는 카운터 기준
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class StockSyncSchedulerTest {
+
+    @Autowired
+    private StockSyncScheduler stockSyncScheduler;
+
+    @Autowired
+    private RedisStockEngine redisStockEngine;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Product testProduct;
+
+    @BeforeEach
+    void setUp() {
+        // 이전 테스트에서 남은 엔트리 반영
+        stockSyncScheduler.flush();
+
+        orderRepository.deleteAll();
+        productRepository.deleteAll();
+
+        testProduct = productRepository.saveAndFlush(Product.builder()
+                .name("write-behind 테스트 상품")
+                .description("재고 10개")
+                .price(BigDecimal.valueOf(10000))
+                .stock(10)
+                .status(ProductStatus.AVAILABLE)
+                .build());
+        redisStockEngine.evict(testProduct.getId());
+    }
+
+    @Test
+    @DisplayName("스트림에 적재된 차감 수량을 합산해 DB에 반영")
+    void flush_AppliesDeltas() {
+        // given
+        stockSyncScheduler.enqueue(Map.of(testProduct.getId(), 2));
+        stockSyncScheduler.enqueue(Map.of(testProduct.getId(), 3));
+
+        // when
+        stockSyncScheduler.flush();
+
+        // then
+        assertThat(productRepository.findById(testProduct.getId()).orElseThrow().getStock()).isEqualTo(5);
+        assertThat(redisTemplate.opsForStream().size(StockSyncScheduler.STREAM_KEY)).isZero();
+    }
+
+    @Test
+    @DisplayName("반영 후 ACK 전에 중단된 엔트리는 다시 반영하지 않는다")
+    void flush_SkipsAlreadyAppliedEntries() {
+        // given - DB 반영 후 ACK 전에 노드가 죽은 상황 (이력 기록 → 엔트리 적재 순으로 재현)
+        RecordId recordId = RecordId.of(System.currentTimeMillis() + 1000, 0);
+        jdbcTemplate.update("INSERT INTO stock_sync_log (stream_id, applied_at) VALUES (?, ?)",
+                recordId.getValue(), Timestamp.valueOf(LocalDateTime.now()));
+        redisTemplate.opsForStream().add(StreamRecords.newRecord()
+                .in(StockSyncScheduler.STREAM_KEY)
+                .withId(recordId)
+                .ofMap(Map.of(String.valueOf(testProduct.getId()), "4")));
+
+        // when
+        stockSyncScheduler.flush();
+
+        // then
+        assertThat(productRepository.findById(testProduct.getId()).orElseThrow().getStock()).isEqualTo(10);
+        assertThat(redisTemplate.opsForStream().size(StockSyncScheduler.STREAM_KEY)).isZero();
+    }
+
+    @Test
+    @DisplayName("DB 반영 전에도 현재 재고는 Redis 카운터 기준")
+    void availableStock_ReadsCounterBeforeFlush() {
+        // given
+        redisStockEngine.reserve(Map.of(testProduct.getId(), 3));   // 트랜잭션 밖 → 바로 스트림 적재
+
+        // when
+        Product product = productRepository.findById(testProduct.getId()).orElseThrow();
+
+        // then
+        assertThat(product.getStock()).isEqualTo(10);
+        assertThat(redisStockEngine.availableStock(product)).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("진행 중 예약과 미반영 수량을 포함하면 불일치 없음")
+    void reconcile_CountsInflightAndPending() {
+        // given - 커밋 전 예약 2개, 커밋 후 미반영 3개
+        redisStockEngine.reserve(Map.of(testProduct.getId(), 3));   // 트랜잭션 밖 → 바로 스트림 적재
+        redisTemplate.opsForValue().decrement(RedisStockEngine.stockKey(testProduct.getId()), 2);
+        redisTemplate.opsForHash().increment(RedisStockEngine.INFLIGHT_KEY, String.valueOf(testProduct.getId()), 2);
+
+        // when & then
+        assertThat(stockSyncScheduler.reconcile()).doesNotContainKey(testProduct.getId());
+
+        // 진행 중 예약이 유실되면 불일치로 보고
+        redisTemplate.opsForHash().delete(RedisStockEngine.INFLIGHT_KEY, String.valueOf(testProduct.getId()));
+        assertThat(stockSyncScheduler.reconcile()).containsEntry(testProduct.getId(), -2);
+    }
+}
@@ -0,0 +1,120 @@
+package com.jikim.mycommerce.product.stream;
+
+import com.jikim.mycommerce.product.Product;
+import com.jikim.mycommerce.product.ProductCreateRequest;
+import com.jikim.mycommerce.product.ProductService;
+import com.jikim.mycommerce.product.cache.ProductCache;
+import com.jikim.mycommerce.product.cache.ProductInvalidation;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * StockStreamServiceTest
+ *
+ * 재고 SSE 구독 테스트
+ * - 주기 안에 여러 번 바뀐 재고는 이벤트 1건으로 전송, 재고가 그대로면 전송 안 함
+ *
+ * @author wjddl
+ * @since 26. 10. 18.
+ */
+@SpringBootTest(properties = {
+        "mycommerce.product.stock-stream.interval-ms=3600000",    // 전송 주기는 테스트에서 flush()로 직접 진행
+        "mycommerce.product.stock-stream.heartbeat-ms=3600000"
+})
+@ActiveProfiles("test")
+class StockStreamServiceTest {
+
+    @Autowired
+    private StockStreamService stockStreamService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Test
+    @DisplayName("구독하면 연결 수 게이지가 늘고, 없는 상품은 구독할 수 없다")
+    void subscribe() {
+        // given
+        Product product = productService.createProduct(
+                new ProductCreateRequest("스트림 상품", "설명", BigDecimal.valueOf(1000), 10));
+        int before = stockStreamService.subscriberCount();
+
+        // when
+        SseEmitter emitter = stockStreamService.subscribe(product.getId());
+
+        // then
+        assertThat(emitter).isNotNull();
+        assertThat(stockStreamService.subscriberCount()).isEqualTo(before + 1);
+        assertThat(meterRegistry.get("product.stock.stream.subscribers").gauge().value()).isEqualTo(before + 1);
+        assertThatThrownBy(() -> stockStreamService.subscribe(Long.MAX_VALUE))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("한 주기 안의 재고 변경 여러 건은 이벤트 1건, 재고가 그대로인 무효화는 전송 안 함")
+    void flush_CoalescesAndSkipsUnchanged() throws InterruptedException {
+        // given
+        Product product = productService.createProduct(
+                new ProductCreateRequest("스트림 상품", "설명", BigDecimal.valueOf(1000), 10));
+        RecordingEmitter emitter = new RecordingEmitter();
+        stockStreamService.subscribe(product.getId(), emitter);   // 구독 즉시 현재 재고 1건
+
+        // when - 재고 변경 3번 (변경마다 product:invalidate 발행)
+        for (int i = 0; i < 3; i++) {
+            productService.decreaseStock(product.getId(), 1);
+        }
+        flushFor(1000, emitter);
+
+        // then
+        assertThat(emitter.events).hasSize(2);
+        assertThat(emitter.events.get(1)).contains("\"stock\":7");
+
+        // when - 재고 변경 없이 무효화만 발행
+        redisTemplate.convertAndSend(ProductCache.CHANNEL, product.getId() + ":" + ProductInvalidation.UNKNOWN_VERSION);
+        flushFor(1000, emitter);
+
+        // then
+        assertThat(emitter.events).hasSize(2);
+    }
+
+    // 구독 메시지 도착 시점을 모르므로 주기를 여러 번 진행 (재고가 그대로면 추가 전송 없음)
+    private void flushFor(long millis, RecordingEmitter emitter) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + millis;
+        while (System.currentTimeMillis() < deadline) {
+            stockStreamService.flush();
+            Thread.sleep(50);
+        }
+    }
+
+    // 전송한 이벤트 데이터를 기록하는 연결
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final List<String> events = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            builder.build().stream()
+                    .map(data -> String.valueOf(data.getData()))
+                    .filter(data -> data.startsWith("{"))
+                    .forEach(events::add);
+        }
+    }
+}